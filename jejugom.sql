@@ -100,6 +100,7 @@ CREATE TABLE `booking` (
                            PRIMARY KEY (`booking_id`),
                            KEY `fk_booking_user1_idx` (`email`),
                            KEY `fk_booking_branch_idx` (`branch_id`),
+                           KEY `idx_booking_date` (`date`),
                            CONSTRAINT `fk_booking_branch` FOREIGN KEY (`branch_id`) REFERENCES `branch` (`branch_id`) ON DELETE CASCADE ON UPDATE CASCADE,
                            CONSTRAINT `fk_booking_user1` FOREIGN KEY (`email`) REFERENCES `user` (`email`) ON DELETE CASCADE ON UPDATE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -114,6 +115,37 @@ LOCK TABLES `booking` WRITE;
 /*!40000 ALTER TABLE `booking` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `booking_outbox`
+--
+
+DROP TABLE IF EXISTS `booking_outbox`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `booking_outbox` (
+                                  `outbox_id` bigint NOT NULL AUTO_INCREMENT,
+                                  `booking_id` varchar(50) NOT NULL,
+                                  `payload` text NOT NULL,
+                                  `status` varchar(10) NOT NULL DEFAULT 'PENDING',
+                                  `attempts` int NOT NULL DEFAULT '0',
+                                  `next_attempt_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                  `last_error` varchar(500) DEFAULT NULL,
+                                  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                  `sent_at` datetime DEFAULT NULL,
+                                  PRIMARY KEY (`outbox_id`),
+                                  KEY `idx_status_next_attempt_at` (`status`,`next_attempt_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `booking_outbox`
+--
+
+LOCK TABLES `booking_outbox` WRITE;
+/*!40000 ALTER TABLE `booking_outbox` DISABLE KEYS */;
+/*!40000 ALTER TABLE `booking_outbox` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `branch`
 --
@@ -519,6 +551,30 @@ LOCK TABLES `product_click_log` WRITE;
 /*!40000 ALTER TABLE `product_click_log` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `product_click_hourly`
+--
+
+DROP TABLE IF EXISTS `product_click_hourly`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `product_click_hourly` (
+                                        `bucket_hour` datetime NOT NULL,
+                                        `fin_prdt_cd` varchar(50) NOT NULL,
+                                        `click_count` bigint NOT NULL DEFAULT '0',
+                                        PRIMARY KEY (`bucket_hour`,`fin_prdt_cd`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `product_click_hourly`
+--
+
+LOCK TABLES `product_click_hourly` WRITE;
+/*!40000 ALTER TABLE `product_click_hourly` DISABLE KEYS */;
+/*!40000 ALTER TABLE `product_click_hourly` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `quiz`
 --
@@ -587,10 +643,11 @@ DROP TABLE IF EXISTS `refresh_token`;
 /*!50503 SET character_set_client = utf8mb4 */;
 CREATE TABLE `refresh_token` (
                                  `email` varchar(255) NOT NULL,
-                                 `token_value` varchar(255) DEFAULT NULL,
-                                 `expires_at` date DEFAULT NULL,
+                                 `token_hash` char(64) NOT NULL,
+                                 `expires_at` datetime NOT NULL,
                                  PRIMARY KEY (`email`),
                                  KEY `fk_refresh_token_user1_idx` (`email`),
+                                 KEY `idx_refresh_token_expires_at` (`expires_at`),
                                  CONSTRAINT `fk_refresh_token_user1` FOREIGN KEY (`email`) REFERENCES `user` (`email`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -1,5 +1,6 @@
 package org.scoula.View.codef.service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,7 +9,7 @@ import javax.annotation.PostConstruct;
 
 import org.scoula.View.codef.dto.ConnectedIdRequestDto;
 import org.scoula.View.codef.util.CodefApiClient;
-import org.scoula.asset.domain.AssetStatusVo;
+import org.scoula.asset.dto.AssetStatusBatchRequestDto;
 import org.scoula.asset.dto.AssetStatusRequestDto;
 import org.scoula.asset.service.AssetStatusService;
 import org.scoula.user.service.UserService;
@@ -30,6 +31,9 @@ public class CodefTokenService {
 	private final AssetStatusService assetStatusService;
 	private final UserService userService;
 
+	/** 예적금 자산 카테고리 코드 */
+	private static final String DEPOSIT_CATEGORY_CODE = "2";
+
 	// TODO: Access Token을 안전하게 저장하고 관리하는 로직 추가 필요
 	/** CODEF API Access Token */
 	private String accessToken;
@@ -132,41 +136,32 @@ public class CodefTokenService {
 		Map<String, Object> data = (Map<String, Object>)result.get("data");
 		List<Map<String, Object>> resDepositTrust = (List<Map<String, Object>>)data.get("resDepositTrust");
 
-		// 1. 기존 '예적금' 자산을 AssetStatusService를 통해 모두 삭제합니다.
-		//    삭제 후 총자산 업데이트는 AssetStatusService가 내부적으로 처리합니다.
-		List<AssetStatusVo> existingAssets = assetStatusService.getFullAssetStatusByEmail(userEmail);
-		for (AssetStatusVo vo : existingAssets) {
-			if ("2".equals(vo.getAssetCategoryCode())) { // "2"가 예적금 카테고리
-				// deleteAssetStatus를 호출하면 내부적으로 updateUserAssetSummary가 호출됩니다.
-				assetStatusService.deleteAssetStatus(vo.getAssetId(), userEmail);
-			}
-		}
-		log.info("기존 예적금 자산 삭제 요청 완료.");
-
-		// CODEF에서 가져온 계좌가 없을 경우 여기서 로직이 종료될 수 있습니다.
+		// 1. CODEF에서 가져온 계좌를 새 '예적금' 자산 목록으로 변환합니다.
+		List<AssetStatusRequestDto> deposits = new ArrayList<>();
 		if (resDepositTrust == null || resDepositTrust.isEmpty()) {
-			log.info("🔎 CODEF에서 가져온 새 예금/신탁 내역이 없어, 기존 자산 삭제 후 종료합니다.");
-			return;
-		}
-
-		// 2. CODEF에서 가져온 새 계좌를 AssetStatusService를 통해 추가합니다.
-		//    추가 후 총자산 업데이트 역시 AssetStatusService가 내부적으로 처리합니다.
-		for (Map<String, Object> account : resDepositTrust) {
-			try {
-				AssetStatusRequestDto asset = new AssetStatusRequestDto();
-				asset.setAssetCategoryCode("2");
-				asset.setAssetName((String)account.get("resAccountName"));
-				asset.setAmount(Long.parseLong((String)account.get("resAccountBalance")));
-				asset.setBusinessType(null);
-
-				// addAssetStatus를 호출하면 내부적으로 updateUserAssetSummary가 호출됩니다.
-				assetStatusService.addAssetStatus(userEmail, asset);
-
-			} catch (Exception e) {
-				log.error("❗ 신규 계좌 저장 요청 실패: {}", e.getMessage(), e);
+			log.info("🔎 CODEF에서 가져온 새 예금/신탁 내역이 없어, 기존 예적금 자산만 삭제합니다.");
+		} else {
+			for (Map<String, Object> account : resDepositTrust) {
+				try {
+					AssetStatusRequestDto asset = new AssetStatusRequestDto();
+					asset.setAssetCategoryCode(DEPOSIT_CATEGORY_CODE);
+					asset.setAssetName((String)account.get("resAccountName"));
+					asset.setAmount(Long.parseLong((String)account.get("resAccountBalance")));
+					asset.setBusinessType(null);
+					deposits.add(asset);
+				} catch (Exception e) {
+					log.error("❗ 신규 계좌 변환 실패: {}", e.getMessage(), e);
+				}
 			}
 		}
-		log.info("새 예적금 자산 추가 요청 완료.");
+
+		// 2. 기존 '예적금' 자산을 한 번에 삭제하고 새 계좌를 다중 행 INSERT로 추가합니다.
+		//    총자산 업데이트는 AssetStatusService가 일괄 변경 후 한 번만 처리합니다.
+		assetStatusService.applyAssetChanges(userEmail, AssetStatusBatchRequestDto.builder()
+			.replaceCategoryCode(DEPOSIT_CATEGORY_CODE)
+			.additions(deposits)
+			.build());
+		log.info("예적금 자산 동기화 완료. {}건", deposits.size());
 	}
 
 	/**
@@ -11,6 +11,7 @@ import org.scoula.View.home.dto.UserSummary;
 import org.scoula.booking.dto.BookingDetailResponseDto;
 import org.scoula.booking.dto.BookingDto;
 import org.scoula.booking.service.BookingService;
+import org.scoula.user.dto.UserDto;
 import org.scoula.user.service.UserService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -48,9 +49,10 @@ public class HomeService {
 		}
 
 		// 로그인 사용자의 경우, 이름과 자산 정보를 조회하여 요약 DTO 생성
+		UserDto user = userService.getUser(userEmail);
 		UserSummary summary = UserSummary.builder()
-			.name(userService.getUser(userEmail).getUserName())
-			.asset(userService.getUser(userEmail).getAsset())
+			.name(user.getUserName())
+			.asset(user.getAsset())
 			.build();
 
 		// 가장 가까운 예약 정보 조회
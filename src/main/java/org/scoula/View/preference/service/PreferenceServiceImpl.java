@@ -39,7 +39,7 @@ public class PreferenceServiceImpl implements PreferenceService{
 		UserDto userDto = userService.getUser(userEmail);
 		userDto.setTendency(startPoint);
 		userService.updateUser(userEmail, userDto);
-		customRecommendService.addCustomRecommend(userEmail);
+		customRecommendService.addCustomRecommend(userEmail, startPoint, userDto.getAssetProportion());
 	}
 	/**
 	 * 선택지 번호와 척도 크기를 기반으로 점수를 계산해주는 메서드
@@ -2,6 +2,7 @@ package org.scoula.asset.controller;
 
 import java.util.List;
 
+import org.scoula.asset.dto.AssetStatusBatchRequestDto;
 import org.scoula.asset.dto.AssetStatusIdDto;
 import org.scoula.asset.dto.AssetStatusRequestDto;
 import org.scoula.asset.dto.AssetStatusResponseDto;
@@ -93,6 +94,23 @@ public class AssetStatusController {
 		return ResponseEntity.noContent().build();
 	}
 
+	@ApiOperation(value = "자산 일괄 변경", notes = "여러 자산의 삭제/추가를 한 번에 반영합니다. 반영 후 사용자의 전체 자산 및 자산 비중이 한 번만 재계산됩니다.")
+	@ApiResponses({
+		@ApiResponse(code = 204, message = "일괄 변경 성공"),
+		@ApiResponse(code = 400, message = "잘못된 요청 데이터"),
+		@ApiResponse(code = 401, message = "인증되지 않은 사용자"),
+		@ApiResponse(code = 404, message = "삭제할 자산 중 존재하지 않거나 삭제 권한이 없는 자산이 있음")
+	})
+	@PostMapping("/batch")
+	public ResponseEntity<Void> applyAssetChanges(
+		@RequestBody AssetStatusBatchRequestDto requestDto,
+		Authentication authentication) {
+
+		String userEmail = getUserEmail(authentication);
+		assetStatusService.applyAssetChanges(userEmail, requestDto);
+		return ResponseEntity.noContent().build();
+	}
+
 	@ApiOperation(value = "자산 삭제", notes = "자산 정보를 삭제합니다. 삭제 후 사용자의 전체 자산 및 자산 비중이 재계산됩니다.")
 	@ApiResponses({
 		@ApiResponse(code = 204, message = "삭제 성공"),
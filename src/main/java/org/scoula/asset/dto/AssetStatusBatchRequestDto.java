@@ -0,0 +1,27 @@
+package org.scoula.asset.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ApiModel(value = "자산 현황 일괄 변경 요청 DTO", description = "여러 자산의 삭제/추가를 한 번에 반영할 때 사용되는 요청 데이터 객체")
+public class AssetStatusBatchRequestDto {
+
+	@ApiModelProperty(value = "지정하면 이 카테고리의 기존 자산을 모두 삭제한 뒤 additions로 대체", example = "2")
+	private String replaceCategoryCode;
+
+	@ApiModelProperty(value = "삭제할 자산 ID 목록", example = "[1, 2]")
+	private List<Integer> deleteAssetIds;
+
+	@ApiModelProperty(value = "추가할 자산 목록")
+	private List<AssetStatusRequestDto> additions;
+}
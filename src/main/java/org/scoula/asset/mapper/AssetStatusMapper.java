@@ -33,12 +33,26 @@ public interface AssetStatusMapper {
 	 */
 	AssetStatusVo findAssetStatusById(Integer id);
 
+	/**
+	 * 여러 자산 ID로 자산 정보를 한 번에 조회합니다. (IN 배치 조회)
+	 * @param assetIds 조회할 자산 ID 목록 (비어 있으면 안 됨)
+	 * @return 자산 정보 리스트 (순서 보장 없음)
+	 */
+	List<AssetStatusVo> findAssetStatusByIds(@Param("assetIds") List<Integer> assetIds);
+
 	/**
 	 * 새로운 자산 정보를 데이터베이스에 추가합니다.
 	 * @param assetStatus 추가할 자산 정보
 	 */
 	void insertAssetStatus(AssetStatusVo assetStatus);
 
+	/**
+	 * 여러 자산 정보를 다중 행 INSERT 한 번으로 추가합니다.
+	 * @param assets 추가할 자산 정보 목록 (비어 있으면 안 됨)
+	 * @return 추가된 행의 수
+	 */
+	int insertAssetStatuses(@Param("assets") List<AssetStatusVo> assets);
+
 	/**
 	 * 기존 자산 정보를 수정합니다.
 	 * @param assetStatus 수정할 자산 정보
@@ -54,6 +68,22 @@ public interface AssetStatusMapper {
 	 */
 	int deleteAssetStatus(@Param("assetId") Integer assetId, @Param("email") String email);
 
+	/**
+	 * 사용자의 여러 자산을 한 번에 삭제합니다.
+	 * @param email 자산 소유자 이메일 (소유자 확인용)
+	 * @param assetIds 삭제할 자산 ID 목록 (비어 있으면 안 됨)
+	 * @return 삭제된 행의 수
+	 */
+	int deleteAssetStatusesByIds(@Param("email") String email, @Param("assetIds") List<Integer> assetIds);
+
+	/**
+	 * 사용자의 특정 카테고리 자산을 모두 삭제합니다. (마이데이터 동기화 시 사용)
+	 * @param email 사용자 이메일
+	 * @param assetCategoryCode 삭제할 자산 카테고리 코드
+	 * @return 삭제된 행의 수
+	 */
+	int deleteByEmailAndCategory(@Param("email") String email, @Param("assetCategoryCode") String assetCategoryCode);
+
 	/**
 	 * 특정 사용자의 모든 자산 정보를 삭제합니다. (주로 회원 탈퇴 시 사용)
 	 * @param email 사용자 이메일
@@ -3,6 +3,7 @@ package org.scoula.asset.service;
 import java.util.List;
 
 import org.scoula.asset.domain.AssetStatusVo;
+import org.scoula.asset.dto.AssetStatusBatchRequestDto;
 import org.scoula.asset.dto.AssetStatusIdDto;
 import org.scoula.asset.dto.AssetStatusRequestDto;
 import org.scoula.asset.dto.AssetStatusResponseDto;
@@ -52,6 +53,14 @@ public interface AssetStatusService {
 	 */
 	void deleteAssetStatus(Integer assetId, String email);
 
+	/**
+	 * 여러 자산의 삭제/추가를 한 번에 반영하고, 자산 요약 재계산은 한 번만 요청합니다.
+	 *
+	 * @param email   사용자 이메일 (소유자 검증용)
+	 * @param changes 일괄 변경 내용
+	 */
+	void applyAssetChanges(String email, AssetStatusBatchRequestDto changes);
+
 	/**
 	 * 특정 사용자의 모든 자산 목록을 상세 정보(Vo) 그대로 조회합니다.
 	 *
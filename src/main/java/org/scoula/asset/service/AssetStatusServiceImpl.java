@@ -1,20 +1,18 @@
 package org.scoula.asset.service;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 import org.scoula.asset.domain.AssetStatusVo;
+import org.scoula.asset.dto.AssetStatusBatchRequestDto;
 import org.scoula.asset.dto.AssetStatusIdDto;
 import org.scoula.asset.dto.AssetStatusRequestDto;
 import org.scoula.asset.dto.AssetStatusResponseDto;
 import org.scoula.asset.dto.AssetStatusSummaryDto;
 import org.scoula.asset.mapper.AssetStatusMapper;
 import org.scoula.exception.AssetNotFoundException;
-import org.scoula.recommend.service.CustomRecommendService;
-import org.scoula.user.dto.UserDto;
-import org.scoula.user.service.UserService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,56 +26,31 @@ import lombok.extern.log4j.Log4j2;
 public class AssetStatusServiceImpl implements AssetStatusService {
 
 	private final AssetStatusMapper assetStatusMapper;
-	private final UserService userService;
-	private final CustomRecommendService customRecommendService;
-
-	// 자산 카테고리별 가중치 맵. 이 가중치는 사용자 자산 비중 계산에 사용됩니다.
-	// 1: 부동산, 2: 예적금, 3: 현금, 4: 주식 및 펀드, 5: 사업체 및 지분, 6: 기타
-	private static final Map<String, Double> assetWeights = Map.of(
-		"1", 0.4,
-		"2", 1.0,
-		"3", 0.7,
-		"4", -1.0,
-		"5", -0.8,
-		"6", 0.0
-	);
+	private final AssetSummaryRecalculator assetSummaryRecalculator;
+
+	/** 다중 행 INSERT 한 번에 넣을 최대 자산 수 */
+	private static final int INSERT_CHUNK_SIZE = 500;
 
 	/**
-	 * 사용자의 모든 자산 정보를 요약하고, 총 자산 및 자산 비중을 계산하여 사용자 정보를 업데이트합니다.
-	 * 이 메서드는 자산 추가, 수정, 삭제 후 호출됩니다.
+	 * 사용자의 자산 요약(총 자산, 자산 비중) 및 맞춤 추천 재계산을 요청합니다.
+	 * 이 메서드는 자산 추가, 수정, 삭제 후 호출되며, 커밋 후 짧은 시간 안에 들어온 변경은 한 번의 재계산으로 합쳐집니다.
 	 *
 	 * @param userEmail 자산 정보가 변경된 사용자의 이메일
 	 */
 	private void updateUserAssetSummary(String userEmail) {
-		// 1. 자산 목록을 DB에서 한 번만 조회합니다.
-		List<AssetStatusVo> assets = assetStatusMapper.findAssetStatusByEmail(userEmail);
-
-		double totalAmount = 0;
-		double weightedSum = 0;
+		assetSummaryRecalculator.request(userEmail);
+	}
 
-		for (AssetStatusVo vo : assets) {
-			if (vo.getAmount() == null) {
-				throw new IllegalArgumentException(
-					"자산 금액(amount)이 null입니다. 해당 자산 삭제/변경 필요. \n assetId: " + vo.getAssetId());
-			}
-			double amount = vo.getAmount().doubleValue();
-			totalAmount += amount;
-			// 자산 카테고리 코드에 따라 가중치를 적용하여 가중치 합계를 계산합니다.
-			weightedSum += amount * assetWeights.getOrDefault(vo.getAssetCategoryCode(), 0.0);
+	/**
+	 * 요약 계산에 필요한 자산 금액이 있는지 검증합니다.
+	 *
+	 * @param requestDto 자산 정보
+	 * @throws IllegalArgumentException 금액이 없는 경우
+	 */
+	private void validateAmount(AssetStatusRequestDto requestDto) {
+		if (requestDto == null || requestDto.getAmount() == null) {
+			throw new IllegalArgumentException("자산 금액(amount)은 필수입니다.");
 		}
-
-		// 2. 계산을 수행합니다.
-		// 총 자산액이 0일 경우 자산 비중 비율은 0으로 설정합니다.
-		double assetProportionRate = (totalAmount == 0) ? 0.0 : weightedSum / totalAmount;
-
-		// 3. 사용자 정보를 업데이트합니다.
-		UserDto userDto = userService.getUser(userEmail);
-		userDto.setAsset((long)totalAmount);
-		userDto.setAssetProportion(assetProportionRate);
-		userService.updateUser(userEmail, userDto);
-
-		// 4. 업데이트된 자산 비중에 맞춰 추천 상품을 갱신합니다.
-		customRecommendService.addCustomRecommend(userEmail);
 	}
 
 	/**
@@ -117,6 +90,7 @@ public class AssetStatusServiceImpl implements AssetStatusService {
 	@Override
 	public AssetStatusIdDto addAssetStatus(String email, AssetStatusRequestDto requestDto) {
 		// 1. DTO를 VO로 변환하고 이메일 정보를 설정합니다.
+		validateAmount(requestDto);
 		AssetStatusVo assetStatusVo = requestDto.toVo();
 		assetStatusVo.setEmail(email);
 
@@ -139,6 +113,7 @@ public class AssetStatusServiceImpl implements AssetStatusService {
 	@Override
 	public void updateAssetStatus(Integer assetId, String email, AssetStatusRequestDto requestDto) {
 		// DTO를 VO로 변환하고 ID와 이메일 정보를 설정합니다.
+		validateAmount(requestDto);
 		AssetStatusVo assetStatusVo = requestDto.toVo();
 		assetStatusVo.setAssetId(assetId);
 		assetStatusVo.setEmail(email);
@@ -173,6 +148,48 @@ public class AssetStatusServiceImpl implements AssetStatusService {
 		updateUserAssetSummary(email);
 	}
 
+	/**
+	 * 여러 자산의 삭제/추가를 한 번에 반영합니다.
+	 * 개별 API를 여러 번 호출하는 것과 달리 삭제는 한 번의 DELETE, 추가는 다중 행 INSERT로 처리하며,
+	 * 자산 요약 재계산도 한 번만 요청합니다.
+	 *
+	 * @param email 사용자 이메일
+	 * @param changes 일괄 변경 내용 (카테고리 대체, 삭제할 자산 ID, 추가할 자산)
+	 */
+	@Override
+	public void applyAssetChanges(String email, AssetStatusBatchRequestDto changes) {
+		List<AssetStatusRequestDto> additions =
+			changes.getAdditions() != null ? changes.getAdditions() : Collections.emptyList();
+		additions.forEach(this::validateAmount);
+
+		// 1. 카테고리 대체: 해당 카테고리의 기존 자산을 모두 삭제합니다.
+		if (changes.getReplaceCategoryCode() != null) {
+			int deleted = assetStatusMapper.deleteByEmailAndCategory(email, changes.getReplaceCategoryCode());
+			log.debug("Deleted {} assets in category {}. email: {}", deleted, changes.getReplaceCategoryCode(), email);
+		}
+
+		// 2. 지정한 자산을 한 번에 삭제하고, 하나라도 없으면 예외를 발생시킵니다. (트랜잭션 롤백)
+		if (changes.getDeleteAssetIds() != null && !changes.getDeleteAssetIds().isEmpty()) {
+			List<Integer> assetIds = changes.getDeleteAssetIds().stream().distinct().collect(Collectors.toList());
+			if (assetStatusMapper.deleteAssetStatusesByIds(email, assetIds) != assetIds.size()) {
+				throw new NoSuchElementException("삭제할 자산 중 사용자 계정에 존재하지 않는 자산이 있습니다.");
+			}
+		}
+
+		// 3. 새 자산을 다중 행 INSERT로 추가합니다.
+		List<AssetStatusVo> assets = additions.stream()
+			.map(AssetStatusRequestDto::toVo)
+			.collect(Collectors.toList());
+		assets.forEach(vo -> vo.setEmail(email));
+		for (int from = 0; from < assets.size(); from += INSERT_CHUNK_SIZE) {
+			int to = Math.min(from + INSERT_CHUNK_SIZE, assets.size());
+			assetStatusMapper.insertAssetStatuses(assets.subList(from, to));
+		}
+
+		// 4. 자산 정보 변경에 따라 사용자 자산 요약 정보를 한 번만 업데이트합니다.
+		updateUserAssetSummary(email);
+	}
+
 	/**
 	 * 특정 사용자의 모든 자산 목록을 조회합니다.
 	 * 이 메서드는 다른 서비스에서 원본 VO 객체 리스트가 필요할 때 사용됩니다.
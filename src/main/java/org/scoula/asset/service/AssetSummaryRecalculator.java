@@ -0,0 +1,173 @@
+package org.scoula.asset.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.scoula.asset.domain.AssetStatusVo;
+import org.scoula.asset.mapper.AssetStatusMapper;
+import org.scoula.recommend.service.CustomRecommendService;
+import org.scoula.user.dto.UserDto;
+import org.scoula.user.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 사용자 자산 요약(총 자산, 자산 비중) 재계산기
+ *
+ * - 자산이 바뀌면 바로 재계산하지 않고, 변경이 커밋된 뒤 사용자별로 재계산을 예약합니다.
+ * - 예약 후 일정 시간(기본 300ms) 안에 들어온 같은 사용자의 변경은 모두 한 번의 재계산으로 합쳐집니다.
+ *   (자산 목록 조회 1회, 사용자 정보 갱신 1회, 맞춤 추천 갱신 1회)
+ * - 재계산은 전용 스레드에서 별도 트랜잭션으로 실행되며, 실패하면 로그만 남기고 다음 변경 때 다시 계산됩니다.
+ * - 애플리케이션 종료 시 예약된 재계산은 모두 실행한 뒤 종료합니다.
+ */
+@Log4j2
+@Component
+public class AssetSummaryRecalculator {
+
+	private static final long SHUTDOWN_WAIT_SECONDS = 10L;
+
+	// 자산 카테고리별 가중치 맵. 이 가중치는 사용자 자산 비중 계산에 사용됩니다.
+	// 1: 부동산, 2: 예적금, 3: 현금, 4: 주식 및 펀드, 5: 사업체 및 지분, 6: 기타
+	private static final Map<String, Double> assetWeights = Map.of(
+		"1", 0.4,
+		"2", 1.0,
+		"3", 0.7,
+		"4", -1.0,
+		"5", -0.8,
+		"6", 0.0
+	);
+
+	private final AssetStatusMapper assetStatusMapper;
+	private final UserService userService;
+	private final CustomRecommendService customRecommendService;
+	private final TransactionTemplate transactionTemplate;
+	private final long debounceMillis;
+
+	/** 재계산이 예약되어 아직 실행되지 않은 사용자 */
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService scheduler;
+
+	public AssetSummaryRecalculator(AssetStatusMapper assetStatusMapper, UserService userService,
+		CustomRecommendService customRecommendService, PlatformTransactionManager transactionManager,
+		@Value("${asset.summary.debounce.ms:300}") long debounceMillis) {
+		this.assetStatusMapper = assetStatusMapper;
+		this.userService = userService;
+		this.customRecommendService = customRecommendService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.debounceMillis = Math.max(0L, debounceMillis);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "asset-summary");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 예약된 재계산을 모두 실행한 뒤 종료합니다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdown();
+		try {
+			if (!scheduler.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+				log.warn("자산 요약 재계산이 {}초 안에 끝나지 않았습니다. 남은 사용자: {}", SHUTDOWN_WAIT_SECONDS, pending);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 사용자의 자산 요약 재계산을 요청합니다. 트랜잭션 안이면 커밋된 뒤에 예약합니다.
+	 *
+	 * @param email 자산 정보가 변경된 사용자의 이메일
+	 */
+	public void request(String email) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			schedule(email);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				schedule(email);
+			}
+		});
+	}
+
+	private void schedule(String email) {
+		// 이미 예약되어 있으면 그 재계산이 이번 변경까지 반영함
+		if (!pending.add(email)) {
+			return;
+		}
+		try {
+			scheduler.schedule(() -> run(email), debounceMillis, TimeUnit.MILLISECONDS);
+		} catch (RuntimeException e) {
+			// 종료 중이라 예약할 수 없으면 호출 스레드에서 바로 계산
+			run(email);
+		}
+	}
+
+	private void run(String email) {
+		// 계산 시작 전에 빼 두어, 계산 도중 들어온 변경은 새로 예약되도록 함
+		pending.remove(email);
+		try {
+			transactionTemplate.executeWithoutResult(status -> recalculate(email));
+		} catch (NoSuchElementException e) {
+			log.debug("자산 요약 재계산 대상 사용자가 없습니다. (탈퇴 등) {}", email);
+		} catch (RuntimeException e) {
+			log.error("사용자 {}의 자산 요약 재계산에 실패했습니다.", email, e);
+		}
+	}
+
+	/**
+	 * 사용자의 모든 자산 정보를 요약하고, 총 자산 및 자산 비중을 계산하여 사용자 정보를 업데이트합니다.
+	 *
+	 * @param userEmail 자산 정보가 변경된 사용자의 이메일
+	 */
+	private void recalculate(String userEmail) {
+		// 1. 자산 목록을 DB에서 한 번만 조회합니다.
+		List<AssetStatusVo> assets = assetStatusMapper.findAssetStatusByEmail(userEmail);
+
+		double totalAmount = 0;
+		double weightedSum = 0;
+
+		for (AssetStatusVo vo : assets) {
+			if (vo.getAmount() == null) {
+				throw new IllegalArgumentException(
+					"자산 금액(amount)이 null입니다. 해당 자산 삭제/변경 필요. \n assetId: " + vo.getAssetId());
+			}
+			double amount = vo.getAmount().doubleValue();
+			totalAmount += amount;
+			// 자산 카테고리 코드에 따라 가중치를 적용하여 가중치 합계를 계산합니다.
+			weightedSum += amount * assetWeights.getOrDefault(vo.getAssetCategoryCode(), 0.0);
+		}
+
+		// 2. 계산을 수행합니다.
+		// 총 자산액이 0일 경우 자산 비중 비율은 0으로 설정합니다.
+		double assetProportionRate = (totalAmount == 0) ? 0.0 : weightedSum / totalAmount;
+
+		// 3. 사용자 정보를 업데이트합니다.
+		UserDto userDto = userService.getUser(userEmail);
+		userDto.setAsset((long)totalAmount);
+		userDto.setAssetProportion(assetProportionRate);
+		userService.updateUser(userEmail, userDto);
+
+		// 4. 업데이트된 자산 비중에 맞춰 추천 상품을 갱신합니다.
+		customRecommendService.addCustomRecommend(userEmail, userDto.getTendency(), assetProportionRate);
+	}
+}
@@ -2,6 +2,8 @@ package org.scoula.auth.controller;
 
 import java.io.UnsupportedEncodingException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.scoula.auth.dto.KakaoLoginRequestDto;
 import org.scoula.auth.dto.KakaoLoginResponseDto;
@@ -74,49 +76,47 @@ public class AuthController {
 		@ApiResponse(code = 500, message = "서버 내부 오류")
 	})
 	@GetMapping("/kakao/callback")
-	public ResponseEntity<Void> kakaoCallback(
+	public CompletableFuture<ResponseEntity<Void>> kakaoCallback(
 		@ApiParam(value = "카카오 서버에서 발급해준 인가 코드", required = true)
 		@RequestParam("code") String code) {
 
-		try {
-			// 1. 카카오 로그인 처리 - 토큰 생성, 사용자 정보 저장 및 신규/성향 여부 판단 (인가코드 한번만 사용)
-			KakaoLoginResponseDto loginResponse = kakaoAuthService.processKakaoLogin(code);
-
-			// 2. processKakaoLogin에서 처리된 신규 회원 여부 및 성향 미정의 여부 가져오기
-			boolean isNew = kakaoAuthService.getLastProcessedUserIsNew();
-			boolean isTendencyNotDefined = kakaoAuthService.getLastProcessedUserTendencyNotDefined();
-
-			// 3. 프론트엔드로 리다이렉트 (토큰, 신규 회원 여부, 성향 미입력 여부를 URL 파라미터로 전달)
-			// !!! 고도화 기간에 보안상의 이유로 httpOnly 쿠키로 변경 예정
-			String redirectUrl = String.format("%s/auth/success?token=%s&refreshToken=%s&isNew=%s&isTendencyNotDefined=%s",
-				frontendUrl,
-				loginResponse.getAccessToken(),
-				loginResponse.getRefreshToken(),
-				isNew,
-				isTendencyNotDefined);
-
-			// 4. HTTP 302 Found 상태로 리다이렉트 응답
-			return ResponseEntity.status(HttpStatus.FOUND)
-				.header("Location", redirectUrl)
-				.build();
-
-		} catch (Exception e) {
-			log.error("카카오 로그인 처리 중 오류 발생", e);
-
-			// 5. 오류 발생 시 에러 페이지로 리다이렉트
-			try {
-				String errorRedirectUrl =
-					frontendUrl + "/auth/error?message=" + java.net.URLEncoder.encode("로그인 처리 중 오류가 발생했습니다.", "UTF-8");
+		// 1. 카카오 로그인 처리 - 토큰 생성, 사용자 정보 저장 및 신규/성향 여부 판단 (인가코드 한번만 사용)
+		//    카카오 응답을 기다리는 동안 서블릿 스레드는 반환됨 (비동기 요청 처리)
+		return kakaoAuthService.processKakaoLoginAsync(code)
+			.thenApply(loginResponse -> {
+				// 2. 프론트엔드로 리다이렉트 (토큰, 신규 회원 여부, 성향 미입력 여부를 URL 파라미터로 전달)
+				// !!! 고도화 기간에 보안상의 이유로 httpOnly 쿠키로 변경 예정
+				String redirectUrl = String.format(
+					"%s/auth/success?token=%s&refreshToken=%s&isNew=%s&isTendencyNotDefined=%s",
+					frontendUrl,
+					loginResponse.getAccessToken(),
+					loginResponse.getRefreshToken(),
+					loginResponse.isNewUser(),
+					loginResponse.isTendencyNotDefined());
+
+				// 3. HTTP 302 Found 상태로 리다이렉트 응답
 				return ResponseEntity.status(HttpStatus.FOUND)
-					.header("Location", errorRedirectUrl)
-					.build();
-			} catch (UnsupportedEncodingException ue) {
-				// URL 인코딩 실패 시 메시지 없이 에러 페이지로 리다이렉트
-				return ResponseEntity.status(HttpStatus.FOUND)
-					.header("Location", frontendUrl + "/auth/error")
-					.build();
-			}
-		}
+					.header("Location", redirectUrl)
+					.<Void>build();
+			})
+			.exceptionally(e -> {
+				log.error("카카오 로그인 처리 중 오류 발생", unwrap(e));
+
+				// 4. 오류 발생 시 에러 페이지로 리다이렉트
+				try {
+					String errorRedirectUrl =
+						frontendUrl + "/auth/error?message=" + java.net.URLEncoder.encode("로그인 처리 중 오류가 발생했습니다.",
+							"UTF-8");
+					return ResponseEntity.status(HttpStatus.FOUND)
+						.header("Location", errorRedirectUrl)
+						.build();
+				} catch (UnsupportedEncodingException ue) {
+					// URL 인코딩 실패 시 메시지 없이 에러 페이지로 리다이렉트
+					return ResponseEntity.status(HttpStatus.FOUND)
+						.header("Location", frontendUrl + "/auth/error")
+						.build();
+				}
+			});
 	}
 
 	/**
@@ -136,19 +136,24 @@ public class AuthController {
 		@ApiResponse(code = 500, message = "카카오 서버 통신 오류")
 	})
 	@PostMapping("/kakao")
-	public ResponseEntity<?> kakaoLogin(@RequestBody KakaoLoginRequestDto request) {
+	public CompletableFuture<ResponseEntity<?>> kakaoLogin(@RequestBody KakaoLoginRequestDto request) {
 		String code = request.getCode();
-		try {
-			KakaoLoginResponseDto loginResponse = kakaoAuthService.processKakaoLogin(code);
-			return ResponseEntity.ok(loginResponse);
-		} catch (HttpClientErrorException e) {
-			if (e.getStatusCode() == HttpStatus.BAD_REQUEST && e.getResponseBodyAsString().contains("KOE320")) {
-				return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-					.body(Map.of("error", "유효하지 않은 인가코드입니다."));
-			}
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-				.body(Map.of("error", "카카오 서버와 연결되지 않는 상태입니다. "));
-		}
+		return kakaoAuthService.processKakaoLoginAsync(code)
+			.<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+			.exceptionally(e -> {
+				Throwable cause = unwrap(e);
+				if (!(cause instanceof HttpClientErrorException)) {
+					throw cause instanceof RuntimeException ? (RuntimeException)cause : new CompletionException(cause);
+				}
+				HttpClientErrorException clientError = (HttpClientErrorException)cause;
+				if (clientError.getStatusCode() == HttpStatus.BAD_REQUEST
+					&& clientError.getResponseBodyAsString().contains("KOE320")) {
+					return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+						.body(Map.of("error", "유효하지 않은 인가코드입니다."));
+				}
+				return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body(Map.of("error", "카카오 서버와 연결되지 않는 상태입니다. "));
+			});
 	}
 
 	/**
@@ -195,4 +200,11 @@ public class AuthController {
 		kakaoAuthService.logout(email);
 		return ResponseEntity.noContent().build();
 	}
+
+	/**
+	 * 비동기 처리 중 CompletionException으로 감싸진 실제 예외를 꺼냅니다.
+	 */
+	private static Throwable unwrap(Throwable e) {
+		return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+	}
 }
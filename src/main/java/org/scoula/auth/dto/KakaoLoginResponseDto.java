@@ -1,5 +1,7 @@
 package org.scoula.auth.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
@@ -25,4 +27,12 @@ public class KakaoLoginResponseDto {
 
 	@ApiModelProperty(value = "사용자 이름(닉네임)", required = true, example = "홍길동")
 	private String userName;
+
+	/** 이번 로그인으로 새로 가입한 회원인지 여부 (콜백 리다이렉트 파라미터용, 응답 본문에는 포함하지 않음) */
+	@JsonIgnore
+	private boolean newUser;
+
+	/** 기존 회원이지만 투자 성향이 아직 정의되지 않았는지 여부 (콜백 리다이렉트 파라미터용, 응답 본문에는 포함하지 않음) */
+	@JsonIgnore
+	private boolean tendencyNotDefined;
 }
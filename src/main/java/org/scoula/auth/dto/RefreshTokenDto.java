@@ -19,8 +19,9 @@ public class RefreshTokenDto {
 	@ApiModelProperty(value = "토큰 소유자의 이메일", required = true, example = "test@example.com")
 	private String email;
 
-	@ApiModelProperty(value = "리프레시 토큰 값", required = true, example = "eyJhbGciOiJIUzUxMiJ9...")
-	private String tokenValue;
+	@ApiModelProperty(value = "리프레시 토큰의 SHA-256 해시(hex). 토큰 원문은 저장하지 않습니다.", required = true,
+		example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+	private String tokenHash;
 
 	@ApiModelProperty(value = "토큰 만료 일시", required = true, example = "2025-08-08T15:00:00")
 	private LocalDateTime expiresAt;
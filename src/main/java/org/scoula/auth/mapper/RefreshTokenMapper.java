@@ -1,5 +1,7 @@
 package org.scoula.auth.mapper;
 
+import java.time.LocalDateTime;
+
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.scoula.auth.dto.RefreshTokenDto;
@@ -28,4 +30,12 @@ public interface RefreshTokenMapper {
 	 * @return 삭제된 행의 수
 	 */
 	int deleteByEmail(@Param("email") String email);
+
+	/**
+	 * 만료된 리프레시 토큰을 최대 limit건 삭제합니다. (만료 토큰 정리 스케줄러에서 나누어 호출)
+	 * @param now 기준 시각 (이 시각 이전에 만료된 토큰 삭제)
+	 * @param limit 한 번에 삭제할 최대 건수
+	 * @return 삭제된 행의 수
+	 */
+	int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -0,0 +1,41 @@
+package org.scoula.auth.scheduler;
+
+import org.scoula.auth.service.RefreshTokenStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 리프레시 토큰을 주기적으로 정리하는 스케줄러
+ *
+ * - 매시 정각 이후(기본 매시 15분)에 실행
+ * - expires_at < 지금 조건으로 LIMIT 단위(기본 500건)씩 나누어 삭제하여, 한 번에 오래 잠금을 잡지 않도록 합니다.
+ * - 메모리 인덱스의 만료 세션도 함께 정리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweepScheduler {
+
+	private final RefreshTokenStore refreshTokenStore;
+
+	@Value("${auth.refresh.sweep.batch.size:500}")
+	private int batchSize;
+
+	/**
+	 * 만료된 리프레시 토큰을 배치 단위로 삭제합니다.
+	 */
+	@Scheduled(cron = "${auth.refresh.sweep.cron:0 15 * * * *}")
+	public void sweepExpiredTokens() {
+		long start = System.currentTimeMillis();
+		try {
+			int deleted = refreshTokenStore.purgeExpired(batchSize);
+			log.info("만료된 리프레시 토큰 정리 완료: {}건 삭제 ({}ms)", deleted, System.currentTimeMillis() - start);
+		} catch (RuntimeException e) {
+			log.error("만료된 리프레시 토큰 정리 중 오류가 발생했습니다. 다음 주기에 이어서 정리합니다.", e);
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package org.scoula.auth.service;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.scoula.auth.dto.KakaoTokenResponseDto;
+import org.scoula.auth.dto.KakaoUserInfoDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 카카오 OAuth / 사용자 API 호출 전용 HTTP 클라이언트
+ *
+ * - HTTP 클라이언트 하나를 재사용하여 kauth/kapi 연결을 keep-alive로 풀링합니다.
+ * - 연결 타임아웃과 요청(응답) 타임아웃을 두어 카카오 서버 지연이 요청 스레드를 오래 붙잡지 않도록 합니다.
+ * - 모든 호출은 CompletableFuture를 반환하며, 응답 대기 중에는 어떤 스레드도 블로킹하지 않습니다.
+ * - 4xx/5xx 응답은 RestTemplate과 같은 HttpClientErrorException / HttpServerErrorException으로 실패시킵니다.
+ */
+@Log4j2
+@Component
+public class KakaoApiClient {
+
+	private static final String TOKEN_URL = "https://kauth.kakao.com/oauth/token";
+	private static final String USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
+	private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded;charset=utf-8";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ExecutorService executor;
+	private final HttpClient httpClient;
+	private final Duration requestTimeout;
+	private final String clientId;
+	private final String redirectUri;
+
+	public KakaoApiClient(@Value("${kakao.client.id}") String clientId,
+		@Value("${kakao.redirect.uri}") String redirectUri,
+		@Value("${kakao.http.connect.timeout.ms:2000}") long connectTimeoutMs,
+		@Value("${kakao.http.request.timeout.ms:5000}") long requestTimeoutMs,
+		@Value("${kakao.http.threads:4}") int threads) {
+		this.clientId = clientId;
+		this.redirectUri = redirectUri;
+		this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+		AtomicInteger sequence = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "kakao-http-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.httpClient = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofMillis(connectTimeoutMs))
+			.executor(executor)
+			.build();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 인가 코드로 카카오 액세스 토큰을 요청합니다.
+	 *
+	 * @param code 카카오에서 발급한 인가 코드
+	 * @return 카카오 토큰 응답
+	 */
+	public CompletableFuture<KakaoTokenResponseDto> requestAccessToken(String code) {
+		Map<String, String> params = new LinkedHashMap<>();
+		params.put("grant_type", "authorization_code");
+		params.put("client_id", clientId);
+		params.put("redirect_uri", redirectUri);
+		params.put("code", code);
+
+		HttpRequest request = HttpRequest.newBuilder(URI.create(TOKEN_URL))
+			.timeout(requestTimeout)
+			.header(HttpHeaders.CONTENT_TYPE, FORM_CONTENT_TYPE)
+			.POST(HttpRequest.BodyPublishers.ofString(formEncode(params), StandardCharsets.UTF_8))
+			.build();
+		return send(request, KakaoTokenResponseDto.class);
+	}
+
+	/**
+	 * 카카오 액세스 토큰으로 사용자 정보를 조회합니다.
+	 *
+	 * @param accessToken 카카오 액세스 토큰
+	 * @return 카카오 사용자 정보
+	 */
+	public CompletableFuture<KakaoUserInfoDto> requestUserInfo(String accessToken) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(USER_INFO_URL))
+			.timeout(requestTimeout)
+			.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+			.header(HttpHeaders.CONTENT_TYPE, FORM_CONTENT_TYPE)
+			.POST(HttpRequest.BodyPublishers.noBody())
+			.build();
+		return send(request, KakaoUserInfoDto.class);
+	}
+
+	/**
+	 * 인가 코드로 토큰을 받은 뒤 이어서 사용자 정보를 조회합니다.
+	 *
+	 * @param code 카카오에서 발급한 인가 코드
+	 * @return 카카오 사용자 정보
+	 */
+	public CompletableFuture<KakaoUserInfoDto> requestUserInfoByCode(String code) {
+		return requestAccessToken(code)
+			.thenCompose(token -> requestUserInfo(token.getAccessToken()));
+	}
+
+	private <T> CompletableFuture<T> send(HttpRequest request, Class<T> responseType) {
+		return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+			.thenApply(response -> {
+				int status = response.statusCode();
+				if (status / 100 != 2) {
+					throw toException(request, response);
+				}
+				try {
+					return objectMapper.readValue(response.body(), responseType);
+				} catch (Exception e) {
+					log.error("카카오 API 응답 파싱 실패: {}", request.uri(), e);
+					throw new IllegalStateException("Failed to parse Kakao response: " + request.uri(), e);
+				}
+			});
+	}
+
+	private RuntimeException toException(HttpRequest request, HttpResponse<byte[]> response) {
+		int status = response.statusCode();
+		log.warn("카카오 API 오류 응답: {} {} {}", request.uri(), status,
+			new String(response.body(), StandardCharsets.UTF_8));
+		HttpStatus httpStatus = HttpStatus.resolve(status);
+		if (httpStatus == null || !(httpStatus.is4xxClientError() || httpStatus.is5xxServerError())) {
+			return new IllegalStateException("Unexpected Kakao response status: " + status);
+		}
+		HttpHeaders headers = new HttpHeaders();
+		response.headers().map().forEach(headers::addAll);
+		if (httpStatus.is4xxClientError()) {
+			return HttpClientErrorException.create(httpStatus, httpStatus.getReasonPhrase(), headers, response.body(),
+				StandardCharsets.UTF_8);
+		}
+		return HttpServerErrorException.create(httpStatus, httpStatus.getReasonPhrase(), headers, response.body(),
+			StandardCharsets.UTF_8);
+	}
+
+	private static String formEncode(Map<String, String> params) {
+		StringBuilder body = new StringBuilder();
+		params.forEach((name, value) -> {
+			if (body.length() > 0) {
+				body.append('&');
+			}
+			body.append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+				.append('=')
+				.append(URLEncoder.encode(value == null ? "" : value, StandardCharsets.UTF_8));
+		});
+		return body.toString();
+	}
+}
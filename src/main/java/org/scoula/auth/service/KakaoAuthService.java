@@ -1,35 +1,28 @@
 package org.scoula.auth.service;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
 
 import org.scoula.auth.dto.KakaoLoginResponseDto;
-import org.scoula.auth.dto.KakaoTokenResponseDto;
 import org.scoula.auth.dto.KakaoUserInfoDto;
-import org.scoula.auth.dto.RefreshTokenDto;
 import org.scoula.auth.dto.TokenRefreshResponseDto;
-import org.scoula.auth.mapper.RefreshTokenMapper;
 import org.scoula.security.util.JwtProcessor;
 import org.scoula.user.domain.UserVo;
 import org.scoula.user.mapper.UserMapper;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -41,41 +34,23 @@ import lombok.extern.log4j.Log4j2;
  * 처리
  */
 @Service
-@RequiredArgsConstructor
 @Log4j2
 public class KakaoAuthService {
 
-	/**
-	 * 카카오 애플리케이션 클라이언트 ID
-	 */
-	@Value("${kakao.client.id}")
-	private String kakaoClientId;
-
-	/**
-	 * 카카오 OAuth 리다이렉트 URI
-	 */
-	@Value("${kakao.redirect.uri}")
-	private String kakaoRedirectUri;
-
 	/**
 	 * 사용자 정보 데이터베이스 매퍼
 	 */
 	private final UserMapper userMapper;
 
 	/**
-	 * 리프레시 토큰 데이터베이스 매퍼
-	 */
-	private final RefreshTokenMapper refreshTokenMapper;
-
-	/**
-	 * HTTP 요청을 위한 RestTemplate
+	 * 리프레시 토큰 저장소 (해시 저장, 메모리 인덱스 + DB write-through)
 	 */
-	private final RestTemplate restTemplate = new RestTemplate();
+	private final RefreshTokenStore refreshTokenStore;
 
 	/**
-	 * JSON 파싱을 위한 ObjectMapper
+	 * 카카오 API 호출 전용 HTTP 클라이언트 (연결 풀링, 타임아웃, 비동기)
 	 */
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final KakaoApiClient kakaoApiClient;
 
 	/**
 	 * JWT 토큰 생성 및 검증 프로세서
@@ -83,44 +58,72 @@ public class KakaoAuthService {
 	private final JwtProcessor jwtProcessor;
 
 	/**
-	 * 최근 로그인 처리한 사용자의 신규 회원 여부
+	 * 카카오 응답 이후의 DB 처리(회원 조회/가입, 토큰 저장)를 한 트랜잭션으로 묶기 위한 템플릿
 	 */
-	private boolean lastProcessedUserIsNew = false;
+	private final TransactionTemplate transactionTemplate;
 
 	/**
-	 * 최근 로그인 처리한 사용자의 성향 미정의 여부
+	 * 카카오 응답 이후의 DB 처리를 실행할 전용 스레드 풀 (서블릿 스레드와 HTTP 클라이언트 스레드를 붙잡지 않도록 분리)
 	 */
-	private boolean lastProcessedUserTendencyNotDefined = false;
+	private final ExecutorService loginExecutor;
+
+	public KakaoAuthService(UserMapper userMapper, RefreshTokenStore refreshTokenStore, KakaoApiClient kakaoApiClient,
+		JwtProcessor jwtProcessor, PlatformTransactionManager transactionManager,
+		@Value("${kakao.login.threads:8}") int loginThreads) {
+		this.userMapper = userMapper;
+		this.refreshTokenStore = refreshTokenStore;
+		this.kakaoApiClient = kakaoApiClient;
+		this.jwtProcessor = jwtProcessor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		AtomicInteger sequence = new AtomicInteger();
+		this.loginExecutor = Executors.newFixedThreadPool(loginThreads, runnable -> {
+			Thread thread = new Thread(runnable, "kakao-login-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		loginExecutor.shutdown();
+	}
 
 	/**
-	 * 카카오 로그인 전체 플로우를 처리하는 메인 메서드
+	 * 카카오 로그인 전체 플로우를 비동기로 처리하는 메인 메서드
 	 * <p>
-	 * 인가 코드를 받아 카카오 API 호출부터 JWT 토큰 생성까지의 전체 과정을 처리합니다.
+	 * 인가 코드를 받아 카카오 API 호출부터 JWT 토큰 생성까지의 전체 과정을 처리합니다. 카카오 응답을 기다리는 동안 어떤 스레드도
+	 * 블로킹하지 않으며, 응답을 받은 뒤의 DB 처리는 전용 스레드 풀에서 한 트랜잭션으로 실행합니다.
 	 * <p>
 	 * 처리 단계: 1. 카카오 액세스 토큰 획득 2. 카카오 사용자 정보 조회 3. 기존 회원 확인 또는 신규 회원 생성 4. JWT 토큰 쌍 생성 5. 리프레시 토큰 DB
 	 * 저장
 	 *
 	 * @param code 카카오에서 발급한 인가 코드
-	 * @return JWT 토큰과 사용자 정보를 포함한 로그인 응답 DTO
+	 * @return JWT 토큰과 사용자 정보(신규 회원/성향 미정의 여부 포함)를 담은 로그인 응답 DTO의 future
 	 */
-	@Transactional
-	public KakaoLoginResponseDto processKakaoLogin(String code) {
-		// 1. 카카오 API를 통해 사용자 정보 받아오기
-		KakaoUserInfoDto kakaoUserInfo = getKakaoUserInfo(getKakaoAccessToken(code).getAccessToken());
+	public CompletableFuture<KakaoLoginResponseDto> processKakaoLoginAsync(String code) {
+		// 1~2. 카카오 API를 통해 사용자 정보 받아오기 (비동기)
+		return kakaoApiClient.requestUserInfoByCode(code)
+			.thenApplyAsync(kakaoUserInfo -> transactionTemplate.execute(status -> completeLogin(kakaoUserInfo)),
+				loginExecutor);
+	}
 
+	/**
+	 * 카카오 사용자 정보로 회원을 찾거나 가입시키고, 우리 서비스의 토큰을 발급합니다. (트랜잭션 안에서 호출)
+	 *
+	 * @param kakaoUserInfo 카카오 사용자 정보
+	 * @return 로그인 응답 DTO
+	 */
+	private KakaoLoginResponseDto completeLogin(KakaoUserInfoDto kakaoUserInfo) {
 		// 2. 이메일 추출 및 신규 회원 여부 확인 (DB 저장 전)
 		String email = extractEmailFromKakaoInfo(kakaoUserInfo);
 		UserVo existingUser = userMapper.findByEmail(email);
-		lastProcessedUserIsNew = (existingUser == null);
+		boolean isNew = (existingUser == null);
 
 		// 3. DB에서 사용자를 찾거나 새로 가입시키기
-		UserVo user = findOrCreateUser(kakaoUserInfo);
+		UserVo user = isNew ? findOrCreateUser(kakaoUserInfo) : existingUser;
 
 		// 4. 성향 미정의 여부 확인 (기존 회원인 경우에만)
-		lastProcessedUserTendencyNotDefined = false;
-		if (!lastProcessedUserIsNew) {
-			lastProcessedUserTendencyNotDefined = (user.getTendency() == null);
-		}
+		boolean tendencyNotDefined = !isNew && user.getTendency() == null;
 
 		Map<String, Object> claims = new HashMap<>();
 		claims.put("name", user.getUserName()); // 프런트가 우선 읽는 키
@@ -130,14 +133,8 @@ public class KakaoAuthService {
 		String accessToken = jwtProcessor.generateAccessToken(user.getEmail(), claims);
 		String refreshTokenValue = jwtProcessor.generateRefreshToken(user.getEmail());
 
-		// 6. 생성된 리프레시 토큰 정보를 DB에 저장
-		RefreshTokenDto refreshTokenDto = RefreshTokenDto.builder()
-			.email(user.getEmail())
-			.tokenValue(refreshTokenValue)
-			.expiresAt(LocalDateTime.now().plusWeeks(2)) // 2주 후 만료
-			.build();
-
-		refreshTokenMapper.saveRefreshToken(refreshTokenDto);
+		// 6. 생성된 리프레시 토큰 정보를 저장 (DB에는 해시만 저장)
+		refreshTokenStore.save(user.getEmail(), refreshTokenValue, LocalDateTime.now().plusWeeks(2)); // 2주 후 만료
 
 		// 7. 클라이언트에게 전달할 최종 응답 DTO 생성
 		return KakaoLoginResponseDto.builder()
@@ -145,6 +142,8 @@ public class KakaoAuthService {
 			.refreshToken(refreshTokenValue)
 			.userEmail(user.getEmail())
 			.userName(user.getUserName())
+			.newUser(isNew)
+			.tendencyNotDefined(tendencyNotDefined)
 			.build();
 	}
 
@@ -164,79 +163,6 @@ public class KakaoAuthService {
 		return userInfo.getKakaoAccount().getEmail();
 	}
 
-	/**
-	 * 카카오 액세스 토큰 획득
-	 * <p>
-	 * 인가 코드를 사용하여 카카오 인증 서버로부터 액세스 토큰을 요청합니다. OAuth 2.0 Authorization Code Grant 플로우의 두 번째 단계입니다.
-	 *
-	 * @param code 카카오에서 발급한 인가 코드
-	 * @return 카카오 액세스 토큰 및 관련 정보
-	 */
-	private KakaoTokenResponseDto getKakaoAccessToken(String code) {
-		// UTF-8 인코딩 처리를 위한 메시지 컨버터 추가
-		restTemplate.getMessageConverters()
-			.add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
-
-		String tokenUrl = "https://kauth.kakao.com/oauth/token";
-
-		// 요청 헤더 설정
-		HttpHeaders headers = new HttpHeaders();
-		headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-		// 토큰 요청에 필요한 파라미터 설정
-		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-		params.add("grant_type", "authorization_code");
-		params.add("client_id", kakaoClientId);
-		params.add("redirect_uri", kakaoRedirectUri);
-		params.add("code", code);
-
-		HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest = new HttpEntity<>(params, headers);
-
-		// 카카오 인증 서버에 토큰 요청
-		ResponseEntity<KakaoTokenResponseDto> response = restTemplate.exchange(
-			tokenUrl,
-			HttpMethod.POST,
-			kakaoTokenRequest,
-			KakaoTokenResponseDto.class
-		);
-		return response.getBody();
-	}
-
-	/**
-	 * 카카오 사용자 정보 조회
-	 * <p>
-	 * 카카오 액세스 토큰을 사용하여 사용자의 기본 정보를 조회합니다. 이메일, 닉네임, 생년월일 등의 정보를 가져옵니다.
-	 *
-	 * @param accessToken 카카오 액세스 토큰
-	 * @return 카카오 사용자 정보 DTO
-	 */
-	private KakaoUserInfoDto getKakaoUserInfo(String accessToken) {
-		String userInfoUrl = "https://kapi.kakao.com/v2/user/me";
-
-		// Bearer 토큰 형식으로 인증 헤더 설정
-		HttpHeaders headers = new HttpHeaders();
-		headers.add("Authorization", "Bearer " + accessToken);
-		headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-		HttpEntity<MultiValueMap<String, String>> kakaoUserInfoRequest = new HttpEntity<>(headers);
-
-		// 카카오 API로 사용자 정보 요청
-		ResponseEntity<String> response = restTemplate.exchange(
-			userInfoUrl,
-			HttpMethod.POST,
-			kakaoUserInfoRequest,
-			String.class
-		);
-
-		try {
-			// JSON 응답을 KakaoUserInfoDto 객체로 변환
-			return objectMapper.readValue(response.getBody(), KakaoUserInfoDto.class);
-		} catch (Exception e) {
-			log.error("Failed to parse Kakao user info: ", e);
-			throw new RuntimeException("Failed to parse Kakao user info", e);
-		}
-	}
-
 	/**
 	 * 사용자 조회 또는 신규 생성
 	 * <p>
@@ -292,12 +218,11 @@ public class KakaoAuthService {
 	 */
 	@Transactional
 	public TokenRefreshResponseDto reissueTokens(String refreshToken) {
-		// 1. Refresh Token에서 사용자 정보 추출 및 DB 검증
+		// 1. Refresh Token에서 사용자 정보 추출
 		String userEmail = jwtProcessor.getUsername(refreshToken);
-		RefreshTokenDto storedToken = refreshTokenMapper.findTokenByUserEmail(userEmail);
 
-		// 2. 저장된 토큰과 일치하는지 검증
-		if (storedToken == null || !storedToken.getTokenValue().equals(refreshToken)) {
+		// 2. 저장된 토큰과 일치하는지 검증 (대부분 메모리 인덱스에서 확인)
+		if (!refreshTokenStore.matches(userEmail, refreshToken)) {
 			throw new RuntimeException("Invalid Refresh Token");
 		}
 
@@ -305,13 +230,8 @@ public class KakaoAuthService {
 		String newAccessToken = jwtProcessor.generateAccessToken(userEmail);
 		String newRefreshToken = jwtProcessor.generateRefreshToken(userEmail);
 
-		// 4. DB에 새로운 Refresh Token으로 갱신 (기존 토큰 무효화)
-		RefreshTokenDto newRefreshTokenDto = RefreshTokenDto.builder()
-			.email(userEmail)
-			.tokenValue(newRefreshToken)
-			.expiresAt(LocalDateTime.now().plusWeeks(2))
-			.build();
-		refreshTokenMapper.saveRefreshToken(newRefreshTokenDto);
+		// 4. 새로운 Refresh Token으로 갱신 (기존 토큰 무효화)
+		refreshTokenStore.save(userEmail, newRefreshToken, LocalDateTime.now().plusWeeks(2));
 
 		// 5. 새로운 토큰 쌍을 클라이언트에 반환
 		return new TokenRefreshResponseDto(newAccessToken, newRefreshToken);
@@ -325,25 +245,7 @@ public class KakaoAuthService {
 	 * @param email 로그아웃할 사용자의 이메일
 	 */
 	public void logout(String email) {
-		// DB에서 해당 사용자의 Refresh Token 삭제
-		refreshTokenMapper.deleteByEmail(email);
-	}
-
-	/**
-	 * 최근 processKakaoLogin에서 처리한 사용자의 신규 회원 여부 반환
-	 *
-	 * @return 신규 회원이면 true, 기존 회원이면 false
-	 */
-	public boolean getLastProcessedUserIsNew() {
-		return lastProcessedUserIsNew;
-	}
-
-	/**
-	 * 최근 processKakaoLogin에서 처리한 사용자의 성향 미정의 여부 반환
-	 *
-	 * @return 성향 미정의면 true, 정의됨이면 false
-	 */
-	public boolean getLastProcessedUserTendencyNotDefined() {
-		return lastProcessedUserTendencyNotDefined;
+		// 해당 사용자의 Refresh Token 삭제
+		refreshTokenStore.delete(email);
 	}
 }
@@ -0,0 +1,198 @@
+package org.scoula.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.scoula.auth.dto.RefreshTokenDto;
+import org.scoula.auth.mapper.RefreshTokenMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 리프레시 토큰 저장소
+ *
+ * - 토큰 원문 대신 SHA-256 해시만 DB(refresh_token)에 저장합니다.
+ * - 사용자별 활성 세션(토큰 해시, 만료 시각)을 메모리 인덱스에 두고, 저장/삭제는 DB에 바로 반영(write-through)합니다.
+ *   토큰 재발급 시 검증은 대부분 메모리에서 끝나고, 인덱스에 없을 때만 DB를 조회합니다.
+ * - 트랜잭션 안에서 저장하면 인덱스는 커밋된 뒤에 갱신하여, 롤백된 토큰이 메모리에만 남지 않도록 합니다.
+ * - 인덱스는 최대 건수(기본 50,000)로 제한하며, 가득 차면 만료된 세션을 정리하고 그래도 자리가 없으면 DB 조회로 대신합니다.
+ * - 인덱스는 이 서버 인스턴스 기준이므로, 토큰 발급/재발급이 한 인스턴스에서 처리된다는 전제입니다. (예약 슬롯 인벤토리와 동일)
+ */
+@Log4j2
+@Component
+public class RefreshTokenStore {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	});
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final RefreshTokenMapper refreshTokenMapper;
+	private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+	private final int maxSessions;
+
+	public RefreshTokenStore(RefreshTokenMapper refreshTokenMapper,
+		@Value("${auth.refresh.index.max.size:50000}") int maxSessions) {
+		this.refreshTokenMapper = refreshTokenMapper;
+		this.maxSessions = maxSessions;
+	}
+
+	/**
+	 * 사용자의 리프레시 토큰을 저장(교체)합니다. 이전 토큰은 더 이상 유효하지 않습니다.
+	 *
+	 * @param email 토큰 소유자 이메일
+	 * @param refreshToken 리프레시 토큰 원문
+	 * @param expiresAt 만료 시각
+	 */
+	public void save(String email, String refreshToken, LocalDateTime expiresAt) {
+		String tokenHash = hash(refreshToken);
+		// 저장 중에는 이전 세션으로 검증되지 않도록 먼저 비워 둠
+		sessions.remove(email);
+		refreshTokenMapper.saveRefreshToken(RefreshTokenDto.builder()
+			.email(email)
+			.tokenHash(tokenHash)
+			.expiresAt(expiresAt)
+			.build());
+
+		Session session = new Session(tokenHash, toEpochMillis(expiresAt));
+		runAfterCommit(() -> index(email, session));
+	}
+
+	/**
+	 * 리프레시 토큰이 사용자의 현재 활성 토큰과 일치하고 만료되지 않았는지 확인합니다.
+	 *
+	 * @param email 토큰 소유자 이메일
+	 * @param refreshToken 리프레시 토큰 원문
+	 * @return 일치하고 유효하면 true
+	 */
+	public boolean matches(String email, String refreshToken) {
+		Session session = sessions.get(email);
+		if (session == null) {
+			session = load(email);
+			if (session == null) {
+				return false;
+			}
+		}
+		if (session.expiresAtMillis <= System.currentTimeMillis()) {
+			sessions.remove(email, session);
+			return false;
+		}
+		return MessageDigest.isEqual(
+			session.tokenHash.getBytes(StandardCharsets.US_ASCII),
+			hash(refreshToken).getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * 사용자의 리프레시 토큰을 삭제합니다. (로그아웃, 회원 탈퇴)
+	 *
+	 * @param email 토큰 소유자 이메일
+	 */
+	public void delete(String email) {
+		sessions.remove(email);
+		refreshTokenMapper.deleteByEmail(email);
+		// 삭제가 커밋되기 전에 다른 요청이 DB에서 다시 읽어 넣었을 수 있으므로 커밋 후에도 비움
+		runAfterCommit(() -> sessions.remove(email));
+	}
+
+	/**
+	 * 만료된 토큰을 DB에서 limit건씩 나누어 삭제하고, 메모리 인덱스의 만료 세션도 정리합니다.
+	 *
+	 * @param limit 한 번에 삭제할 최대 건수
+	 * @return DB에서 삭제된 토큰 수
+	 */
+	public int purgeExpired(int limit) {
+		evictExpiredSessions();
+		LocalDateTime now = LocalDateTime.now();
+		int total = 0;
+		int deleted;
+		do {
+			deleted = refreshTokenMapper.deleteExpiredBatch(now, limit);
+			total += deleted;
+		} while (deleted == limit);
+		return total;
+	}
+
+	private Session load(String email) {
+		RefreshTokenDto stored = refreshTokenMapper.findTokenByUserEmail(email);
+		if (stored == null || stored.getTokenHash() == null || stored.getExpiresAt() == null) {
+			return null;
+		}
+		Session session = new Session(stored.getTokenHash(), toEpochMillis(stored.getExpiresAt()));
+		// 진행 중인 트랜잭션이 있으면 그 안에서 읽은 값이므로 인덱스에 넣지 않음 (저장/삭제 경로가 커밋 후 갱신)
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			sessions.putIfAbsent(email, session);
+		}
+		return session;
+	}
+
+	private void index(String email, Session session) {
+		if (sessions.size() >= maxSessions && !sessions.containsKey(email)) {
+			evictExpiredSessions();
+			if (sessions.size() >= maxSessions) {
+				log.debug("리프레시 토큰 인덱스가 가득 찼습니다. (최대 {}건) {}의 세션은 DB에서 조회합니다.", maxSessions, email);
+				return;
+			}
+		}
+		sessions.put(email, session);
+	}
+
+	private void evictExpiredSessions() {
+		long now = System.currentTimeMillis();
+		sessions.values().removeIf(session -> session.expiresAtMillis <= now);
+	}
+
+	private static void runAfterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private static long toEpochMillis(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static String hash(String token) {
+		MessageDigest md = SHA_256.get();
+		md.reset();
+		byte[] digest = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+		char[] hex = new char[digest.length * 2];
+		for (int i = 0; i < digest.length; i++) {
+			hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+			hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+		}
+		return new String(hex);
+	}
+
+	/**
+	 * 사용자별 활성 세션 (토큰 해시, 만료 시각)
+	 */
+	private static final class Session {
+		private final String tokenHash;
+		private final long expiresAtMillis;
+
+		private Session(String tokenHash, long expiresAtMillis) {
+			this.tokenHash = tokenHash;
+			this.expiresAtMillis = expiresAtMillis;
+		}
+	}
+}
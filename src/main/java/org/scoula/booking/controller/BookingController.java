@@ -12,6 +12,12 @@ import org.scoula.booking.dto.BookingDto;
 import org.scoula.booking.dto.BookingPatchRequestDto;
 import org.scoula.booking.dto.ReservedSlotsResponseDto;
 import org.scoula.booking.service.BookingService;
+import org.scoula.booking.service.ReservedSlotsResponseCache;
+import org.scoula.booking.service.ReservedSlotsResponseCache.RenderedSlots;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +26,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -38,6 +45,7 @@ import lombok.RequiredArgsConstructor;
 public class BookingController {
 
 	private final BookingService bookingService;
+	private final ReservedSlotsResponseCache reservedSlotsResponseCache;
 
 	@ApiOperation(value = "신규 예약 생성", notes = "새로운 상담 예약을 생성합니다.")
 	@ApiResponses({
@@ -59,8 +67,6 @@ public class BookingController {
 			.buildAndExpand(responseDto.getBookingCode())
 			.toUri();
 
-		bookingService.sendBookingToBank(email, requestDto, responseDto);
-
 		return ResponseEntity.created(location).body(responseDto);
 	}
 
@@ -136,13 +142,32 @@ public class BookingController {
 		return ResponseEntity.ok(responseDto);
 	}
 
-	@ApiOperation(value = "특정 지점의 예약된 시간 목록 조회", notes = "특정 지점의 예약된 날짜와 시간 목록을 조회합니다.")
-	@ApiResponse(code = 200, message = "조회 성공")
+	@ApiOperation(value = "특정 지점의 예약된 시간 목록 조회",
+		notes = "특정 지점의 예약된 날짜와 시간 목록을 조회합니다. 미리 직렬화된 응답을 반환하며, ETag가 일치하면 304를 반환합니다.",
+		response = ReservedSlotsResponseDto.class)
+	@ApiResponses({
+		@ApiResponse(code = 200, message = "조회 성공"),
+		@ApiResponse(code = 304, message = "변경 없음 (If-None-Match 일치)"),
+		@ApiResponse(code = 404, message = "존재하지 않는 지점")
+	})
 	@GetMapping("/{branchId}/reserved-slots")
-	public ResponseEntity<ReservedSlotsResponseDto> getReservedSlots(
+	public ResponseEntity<byte[]> getReservedSlots(
 		@ApiParam(value = "조회할 지점의 ID", required = true, example = "1")
-		@PathVariable Integer branchId) {
-		ReservedSlotsResponseDto responseDto = bookingService.getReservedSlotsByBranch(branchId);
-		return ResponseEntity.ok(responseDto);
+		@PathVariable Integer branchId,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		RenderedSlots rendered = reservedSlotsResponseCache.get(branchId);
+
+		// 예약 현황은 수시로 바뀌므로 저장은 하되 매번 ETag로 재검증 (no-cache)
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag(rendered.getEtag());
+		headers.setCacheControl(CacheControl.noCache());
+
+		if (rendered.matches(ifNoneMatch)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+		}
+
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.setContentLength(rendered.getJson().length);
+		return ResponseEntity.ok().headers(headers).body(rendered.getJson());
 	}
 }
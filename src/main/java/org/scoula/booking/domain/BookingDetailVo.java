@@ -0,0 +1,21 @@
+package org.scoula.booking.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 상세 조회용 VO
+ * booking과 branch를 조인한 한 번의 조회 결과로, 예약 정보와 지점 이름을 함께 담습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingDetailVo {
+
+	/** 예약 정보 */
+	private BookingVo booking;
+
+	/** 예약 지점 이름 */
+	private String branchName;
+}
@@ -0,0 +1,53 @@
+package org.scoula.booking.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 은행 서버로 보낼 예약 전송 건(아웃박스) VO
+ * DB의 booking_outbox 테이블과 매핑되며, 예약 삽입과 같은 트랜잭션에서 기록됩니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingOutboxVo {
+
+	/** 전송 대기 */
+	public static final String STATUS_PENDING = "PENDING";
+	/** 전송 완료 */
+	public static final String STATUS_SENT = "SENT";
+	/** 최대 재시도 횟수 초과로 전송 포기 */
+	public static final String STATUS_FAILED = "FAILED";
+
+	/** 아웃박스 ID (AUTO_INCREMENT) */
+	private Long outboxId;
+
+	/** 대상 예약 ID (ULID) */
+	private String bookingId;
+
+	/** 은행 서버로 보낼 요청 본문 (BankBookingRequestDto JSON) */
+	private String payload;
+
+	/** 전송 상태 (PENDING, SENT, FAILED) */
+	private String status;
+
+	/** 전송 시도 횟수 */
+	private int attempts;
+
+	/** 다음 전송 시도 가능 시각 */
+	private LocalDateTime nextAttemptAt;
+
+	/** 마지막 전송 실패 사유 */
+	private String lastError;
+
+	/** 생성 시각 */
+	private LocalDateTime createdAt;
+
+	/** 전송 완료 시각 */
+	private LocalDateTime sentAt;
+}
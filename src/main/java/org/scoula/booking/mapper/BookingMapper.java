@@ -5,12 +5,13 @@ import java.util.Date;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Param;
+import org.scoula.booking.domain.BookingDetailVo;
 import org.scoula.booking.domain.BookingVo;
 
 public interface BookingMapper {
 
 	/**
-	 * 이메일로 예약 목록 조회
+	 * 이메일로 예약 목록 조회 (오늘 이전의 지난 예약은 제외)
 	 * @param email 사용자 이메일
 	 * @return 예약 VO 리스트
 	 */
@@ -67,6 +68,20 @@ public interface BookingMapper {
 	 */
 	BookingVo findById(String bookingId);
 
+	/**
+	 * 예약 ID(ULID)로 예약과 지점 이름을 한 번에 조회합니다. (branch 조인)
+	 * @param bookingId 예약 ULID
+	 * @return 예약 상세 VO
+	 */
+	BookingDetailVo findDetailById(String bookingId);
+
+	/**
+	 * 외부 공개용 예약 코드로 예약과 지점 이름을 한 번에 조회합니다. (branch 조인)
+	 * @param bookingCode 조회할 예약 코드
+	 * @return 예약 상세 VO
+	 */
+	BookingDetailVo findDetailByBookingCode(String bookingCode);
+
 	/**
 	 * 외부 공개용 예약 코드로 예약을 조회합니다.
 	 * @param bookingCode 조회할 예약 코드
@@ -109,9 +124,18 @@ public interface BookingMapper {
 	int countByBranchAndDate(@Param("branchId") int branchId, @Param("date") Date date);
 
 	/**
-	 * 특정 사용자의 과거 예약을 삭제합니다.
-	 * @param email 사용자 이메일
-	 * @param today 기준 날짜 (오늘)
+	 * 기준 날짜 이전의 지난 예약을 최대 limit건 삭제합니다. (배치 삭제용, 반복 호출)
+	 * @param today 기준 날짜 (이 날짜 이전 예약 삭제)
+	 * @param limit 한 번에 삭제할 최대 건수
+	 * @return 삭제된 행(row)의 수
+	 */
+	int deletePastBookingsBatch(@Param("today") LocalDate today, @Param("limit") int limit);
+
+	/**
+	 * 기준 날짜 이후의 예약 슬롯(지점, 날짜, 시간, 예약 코드)을 조회합니다. (슬롯 인벤토리 적재용)
+	 * @param branchId 지점 ID (null이면 전체 지점)
+	 * @param from 기준 날짜 (포함)
+	 * @return 예약 VO 리스트 (booking_id, booking_code, branch_id, date, time만 채워짐)
 	 */
-	void deletePastBookingsByEmail(@Param("email") String email, @Param("today") LocalDate today);
+	List<BookingVo> findSlotsFrom(@Param("branchId") Integer branchId, @Param("from") LocalDate from);
 }
@@ -0,0 +1,43 @@
+package org.scoula.booking.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+import org.scoula.booking.domain.BookingOutboxVo;
+
+/**
+ * 은행 서버 예약 전송 아웃박스(booking_outbox) Mapper
+ */
+public interface BookingOutboxMapper {
+
+	/**
+	 * 전송 대기(PENDING) 건을 삽입합니다. (예약 삽입과 같은 트랜잭션에서 호출)
+	 * @param outbox 아웃박스 VO (bookingId, payload 필수)
+	 */
+	void insertOutbox(BookingOutboxVo outbox);
+
+	/**
+	 * 지금 전송 가능한 대기 건을 오래된 순으로 조회합니다.
+	 * @param limit 최대 조회 건수
+	 * @return 아웃박스 VO 리스트
+	 */
+	List<BookingOutboxVo> findDueBatch(@Param("limit") int limit);
+
+	/**
+	 * 전송에 성공한 건들을 완료(SENT) 처리합니다.
+	 * @param outboxIds 아웃박스 ID 목록
+	 * @return 영향받은 행(row) 수
+	 */
+	int markSent(@Param("outboxIds") List<Long> outboxIds);
+
+	/**
+	 * 전송에 실패한 건의 시도 횟수와 다음 시도 시각을 갱신합니다.
+	 * @param outboxId 아웃박스 ID
+	 * @param status 갱신할 상태 (재시도면 PENDING, 포기면 FAILED)
+	 * @param delaySeconds 지금부터 다음 시도까지의 대기 시간(초)
+	 * @param lastError 실패 사유
+	 * @return 영향받은 행(row) 수
+	 */
+	int markFailedAttempt(@Param("outboxId") Long outboxId, @Param("status") String status,
+		@Param("delaySeconds") long delaySeconds, @Param("lastError") String lastError);
+}
@@ -0,0 +1,144 @@
+package org.scoula.booking.scheduler;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.scoula.booking.domain.BookingOutboxVo;
+import org.scoula.booking.mapper.BookingOutboxMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 아웃박스(booking_outbox)의 대기 건을 은행 서버로 전달하는 스케줄러
+ *
+ * - 짧은 주기로 전송 가능한 대기 건을 묶음(batch) 단위로 조회해 비동기로 동시에 전송합니다.
+ * - HTTP 클라이언트는 하나를 재사용하여 연결을 풀링하며, 연결/응답 타임아웃을 둡니다.
+ * - 실패한 건은 지수 백오프(기본 2초부터 2배씩, 최대 10분)로 재시도하고, 최대 시도 횟수를 넘으면 FAILED로 남깁니다.
+ * - 전송은 최소 한 번(at-least-once) 보장이므로 은행 서버는 같은 예약을 두 번 받을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class BankBookingOutboxDispatcher {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final BookingOutboxMapper outboxMapper;
+	private final HttpClient httpClient;
+	private final URI bankBookingUri;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long baseBackoffSeconds;
+	private final long maxBackoffSeconds;
+	private final Duration requestTimeout;
+
+	public BankBookingOutboxDispatcher(BookingOutboxMapper outboxMapper,
+		@Value("${bank.booking.url:http://localhost:8000/api/bookings}") String bankBookingUrl,
+		@Value("${bank.outbox.batch.size:50}") int batchSize,
+		@Value("${bank.outbox.max.attempts:10}") int maxAttempts,
+		@Value("${bank.outbox.backoff.base.seconds:2}") long baseBackoffSeconds,
+		@Value("${bank.outbox.backoff.max.seconds:600}") long maxBackoffSeconds,
+		@Value("${bank.outbox.timeout.ms:5000}") long timeoutMs) {
+		this.outboxMapper = outboxMapper;
+		this.bankBookingUri = URI.create(bankBookingUrl);
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.baseBackoffSeconds = baseBackoffSeconds;
+		this.maxBackoffSeconds = maxBackoffSeconds;
+		this.requestTimeout = Duration.ofMillis(timeoutMs);
+		this.httpClient = HttpClient.newBuilder()
+			.connectTimeout(this.requestTimeout)
+			.build();
+	}
+
+	/**
+	 * 전송 가능한 대기 건을 한 묶음씩 은행 서버로 전송합니다.
+	 * (fixedDelay이므로 이전 실행이 끝난 뒤에 다음 실행이 시작되어 같은 건을 동시에 보내지 않음)
+	 */
+	@Scheduled(fixedDelayString = "${bank.outbox.poll.ms:1000}", initialDelayString = "${bank.outbox.poll.ms:1000}")
+	public void dispatch() {
+		try {
+			List<BookingOutboxVo> batch;
+			do {
+				batch = outboxMapper.findDueBatch(batchSize);
+				if (!batch.isEmpty()) {
+					deliver(batch);
+				}
+			} while (batch.size() == batchSize);
+		} catch (RuntimeException e) {
+			log.error("예약 아웃박스 전송 중 오류가 발생했습니다. 다음 주기에 다시 시도합니다.", e);
+		}
+	}
+
+	private void deliver(List<BookingOutboxVo> batch) {
+		List<CompletableFuture<String>> results = new ArrayList<>(batch.size());
+		for (BookingOutboxVo outbox : batch) {
+			results.add(send(outbox));
+		}
+
+		List<Long> sentIds = new ArrayList<>(batch.size());
+		for (int i = 0; i < batch.size(); i++) {
+			BookingOutboxVo outbox = batch.get(i);
+			String error = results.get(i).join();
+			if (error == null) {
+				sentIds.add(outbox.getOutboxId());
+			} else {
+				markFailed(outbox, error);
+			}
+		}
+		if (!sentIds.isEmpty()) {
+			outboxMapper.markSent(sentIds);
+		}
+		log.debug("예약 아웃박스 전송: 성공 {}건, 실패 {}건", sentIds.size(), batch.size() - sentIds.size());
+	}
+
+	/**
+	 * 한 건을 비동기로 전송합니다.
+	 *
+	 * @return 성공이면 null, 실패면 실패 사유를 담은 future
+	 */
+	private CompletableFuture<String> send(BookingOutboxVo outbox) {
+		HttpRequest request = HttpRequest.newBuilder(bankBookingUri)
+			.timeout(requestTimeout)
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(outbox.getPayload(), StandardCharsets.UTF_8))
+			.build();
+		return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+			.thenApply(response -> response.statusCode() / 100 == 2 ? null : "HTTP " + response.statusCode())
+			.exceptionally(e -> {
+				Throwable cause = e.getCause() != null ? e.getCause() : e;
+				return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+			});
+	}
+
+	private void markFailed(BookingOutboxVo outbox, String error) {
+		int attempts = outbox.getAttempts() + 1;
+		boolean giveUp = attempts >= maxAttempts;
+		String status = giveUp ? BookingOutboxVo.STATUS_FAILED : BookingOutboxVo.STATUS_PENDING;
+		String trimmedError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+		outboxMapper.markFailedAttempt(outbox.getOutboxId(), status, backoffSeconds(attempts), trimmedError);
+
+		if (giveUp) {
+			log.error("예약 {} 은행 서버 전송 포기 ({}회 실패): {}", outbox.getBookingId(), attempts, error);
+		} else {
+			log.warn("예약 {} 은행 서버 전송 실패 ({}회): {}", outbox.getBookingId(), attempts, error);
+		}
+	}
+
+	/**
+	 * 시도 횟수에 따른 지수 백오프 대기 시간(초)
+	 */
+	private long backoffSeconds(int attempts) {
+		int shift = Math.min(attempts - 1, 30);
+		return Math.min(maxBackoffSeconds, baseBackoffSeconds << shift);
+	}
+}
@@ -0,0 +1,49 @@
+package org.scoula.booking.scheduler;
+
+import java.time.LocalDate;
+
+import org.scoula.booking.mapper.BookingMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지난 예약(오늘 이전 날짜)을 주기적으로 정리하는 스케줄러
+ *
+ * - 매일 새벽(기본 00시 10분)에 실행
+ * - date < 오늘 조건으로 LIMIT 단위(기본 500건)씩 나누어 삭제하여, 한 번에 오래 잠금을 잡지 않도록 합니다.
+ * - 각 묶음은 별도 문장(자동 커밋)으로 실행되며, 삭제 건수가 LIMIT보다 적으면 종료합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PastBookingPurgeScheduler {
+
+	private final BookingMapper bookingMapper;
+
+	@Value("${booking.purge.batch.size:500}")
+	private int batchSize;
+
+	/**
+	 * 오늘 이전 날짜의 예약을 배치 단위로 삭제합니다.
+	 */
+	@Scheduled(cron = "${booking.purge.cron:0 10 0 * * *}")
+	public void purgePastBookings() {
+		LocalDate today = LocalDate.now();
+		long start = System.currentTimeMillis();
+		int total = 0;
+		try {
+			int deleted;
+			do {
+				deleted = bookingMapper.deletePastBookingsBatch(today, batchSize);
+				total += deleted;
+			} while (deleted == batchSize);
+			log.info("지난 예약 정리 완료: {}건 삭제 ({}ms)", total, System.currentTimeMillis() - start);
+		} catch (RuntimeException e) {
+			log.error("지난 예약 정리 중 오류 발생 ({}건 삭제 후 중단). 다음 주기에 이어서 정리합니다.", total, e);
+		}
+	}
+}
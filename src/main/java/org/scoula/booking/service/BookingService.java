@@ -9,7 +9,6 @@ import org.scoula.booking.dto.BookingCreateResponseDto;
 import org.scoula.booking.dto.BookingDetailResponseDto;
 import org.scoula.booking.dto.BookingDto;
 import org.scoula.booking.dto.BookingPatchRequestDto;
-import org.scoula.booking.dto.ReservedSlotsResponseDto;
 
 /**
  * 예약 관련 비즈니스 로직을 처리하는 서비스 인터페이스
@@ -30,15 +29,6 @@ public interface BookingService {
 	 */
 	BookingCreateResponseDto addBooking(String email, BookingCreateRequestDto requestDto);
 
-	/**
-	 * 은행 서버로 예약 정보를 전달합니다.
-	 * @param email
-	 * @param requestDto
-	 * @param responseDto
-	 */
-	void sendBookingToBank(String email, BookingCreateRequestDto requestDto,
-		BookingCreateResponseDto responseDto); // 은행 서버 전송
-
 	/**
 	 * 특정 예약을 삭제합니다.
 	 * @param bookingId 삭제할 예약의 ID
@@ -56,13 +46,6 @@ public interface BookingService {
 
 	BookingDetailResponseDto getBookingDetailByIdentifier(String identifier, String email);
 
-	/**
-	 * 특정 지점의 예약된 시간 슬롯 목록을 조회합니다.
-	 * @param branchId 조회할 지점의 ID
-	 * @return 예약된 날짜와 시간 정보가 담긴 DTO
-	 */
-	ReservedSlotsResponseDto getReservedSlotsByBranch(int branchId);
-
 	/**
 	 * 특정 사용자가 해당 금융 상품을 이미 예약했는지 확인합니다.
 	 * @param email 사용자 이메일
@@ -4,17 +4,17 @@ import java.nio.file.AccessDeniedException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.scoula.booking.domain.BookingDetailVo;
+import org.scoula.booking.domain.BookingOutboxVo;
 import org.scoula.booking.domain.BookingVo;
 import org.scoula.booking.dto.BankBookingRequestDto;
 import org.scoula.booking.dto.BookingCheckDetailDto;
@@ -25,21 +25,18 @@ import org.scoula.booking.dto.BookingDetailResponseDto;
 import org.scoula.booking.dto.BookingDto;
 import org.scoula.booking.dto.BookingPatchRequestDto;
 import org.scoula.booking.dto.DocInfoDto;
-import org.scoula.booking.dto.ReservedSlotsResponseDto;
 import org.scoula.booking.mapper.BookingMapper;
-import org.scoula.branch.service.BranchService;
+import org.scoula.booking.mapper.BookingOutboxMapper;
 import org.scoula.exception.DuplicateBookingException;
 import org.scoula.exception.InvalidBookingDateException;
 import org.scoula.exception.UserAccessDeniedException;
 import org.scoula.product.service.ProductService;
 import org.scoula.statistics.service.ProductClickLogService;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.f4b6a3.ulid.UlidCreator;
 
 import lombok.RequiredArgsConstructor;
@@ -47,21 +44,26 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	/** 금융 상품이 아닌 상담 예약 코드 (증여, 상속) */
+	private static final Set<String> CONSULTATION_CODES = Set.of("gift", "inheritance");
+
 	private final BookingMapper bookingMapper;
+	private final BookingOutboxMapper bookingOutboxMapper;
 	private final ProductService productService;
-	private final BranchService branchService;
 	private final ProductClickLogService clickLogService;
+	private final BookingSlotInventory slotInventory;
 
 	// ------------------- 조회 관련 메서드 -------------------
 
 	/**
-	 * 사용자의 이메일로 예약 목록 조회
+	 * 사용자의 이메일로 예약 목록 조회 (오늘 이전의 지난 예약은 제외)
+	 * 지난 예약 삭제는 PastBookingPurgeScheduler가 배치로 수행하므로, 이 조회는 쓰기를 하지 않습니다.
 	 * @param email 사용자 이메일
 	 * @return 예약 DTO 리스트
 	 */
 	@Override
 	public List<BookingDto> getBookingsByEmail(String email) {
-		deletePastBookings(email);
 		return bookingMapper.getBookingsByEmail(email).stream()
 			.map(BookingDto::of)
 			.collect(Collectors.toList());
@@ -75,11 +77,13 @@ public class BookingServiceImpl implements BookingService {
 	 */
 	@Override
 	public BookingDetailResponseDto getBookingById(String bookingId) {
-		BookingVo bookingVo = bookingMapper.findById(bookingId);
+		// 예약과 지점 이름을 한 번의 조인 쿼리로 조회
+		BookingDetailVo detail = bookingMapper.findDetailById(bookingId);
 
-		if (bookingVo == null) {
+		if (detail == null) {
 			throw new NoSuchElementException("Booking not found with ulid: " + bookingId);
 		}
+		BookingVo bookingVo = detail.getBooking();
 
 		// 시간 초단위 제거 (ex: "10:00:00" → "10:00")
 		String time = bookingVo.getTime();
@@ -87,10 +91,8 @@ public class BookingServiceImpl implements BookingService {
 			bookingVo.setTime(time.substring(0, 5));
 		}
 
-		String prdtName = productService.getProductNameByCode(bookingVo.getFinPrdtCode());
-		String branchName = branchService.getBranchNameById(bookingVo.getBranchId());
-
-		return BookingDetailResponseDto.of(bookingVo, prdtName, branchName);
+		return BookingDetailResponseDto.of(bookingVo, productNameOf(bookingVo.getFinPrdtCode()),
+			detail.getBranchName());
 	}
 
 	/**
@@ -103,18 +105,19 @@ public class BookingServiceImpl implements BookingService {
 	 */
 	@Override
 	public BookingDetailResponseDto getBookingDetailByIdentifier(String identifier, String requesterEmail) {
-		BookingVo bookingVo;
+		BookingDetailVo detail;
 
-		// 1. 식별자로 예약 정보 조회 (기존과 동일)
+		// 1. 식별자로 예약 정보와 지점 이름을 한 번에 조회
 		if (identifier != null && identifier.contains("-")) {
-			bookingVo = bookingMapper.findByBookingCode(identifier);
+			detail = bookingMapper.findDetailByBookingCode(identifier);
 		} else {
-			bookingVo = bookingMapper.findById(identifier);
+			detail = bookingMapper.findDetailById(identifier);
 		}
 
-		if (bookingVo == null) {
+		if (detail == null) {
 			throw new NoSuchElementException("Booking not found with identifier: " + identifier);
 		}
+		BookingVo bookingVo = detail.getBooking();
 
 		// 2. 권한 확인: 요청자 이메일과 예약된 이메일이 동일한지 비교
 		if (!requesterEmail.equals(bookingVo.getEmail())) {
@@ -127,41 +130,8 @@ public class BookingServiceImpl implements BookingService {
 			bookingVo.setTime(time.substring(0, 5));
 		}
 
-		String prdtName = productService.getProductNameByCode(bookingVo.getFinPrdtCode());
-		String branchName = branchService.getBranchNameById(bookingVo.getBranchId());
-
-		return BookingDetailResponseDto.of(bookingVo, prdtName, branchName);
-	}
-
-	/**
-	 * 특정 지점(branchId)의 예약된 시간 슬롯 목록 조회
-	 * @param branchId 지점 번호
-	 * @return 예약된 슬롯 정보 DTO (날짜별 시간 리스트 맵)
-	 */
-	@Override
-	public ReservedSlotsResponseDto getReservedSlotsByBranch(int branchId) {
-		String currentTime = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm"));
-
-		List<BookingVo> futureBookings = bookingMapper.findFutureByBranch(branchId, currentTime);
-
-		DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-		Map<String, List<String>> reservedSlotsMap = futureBookings.stream()
-			.collect(Collectors.groupingBy(
-				booking -> booking.getDate().toInstant()
-					.atZone(ZoneId.systemDefault())
-					.toLocalDate()
-					.format(dateFormatter),
-				Collectors.mapping(
-					booking -> {
-						String time = booking.getTime();
-						return (time != null && time.length() >= 5) ? time.substring(0, 5) : time;
-					},
-					Collectors.toList()
-				)
-			));
-
-		return new ReservedSlotsResponseDto(reservedSlotsMap);
+		return BookingDetailResponseDto.of(bookingVo, productNameOf(bookingVo.getFinPrdtCode()),
+			detail.getBranchName());
 	}
 
 	/**
@@ -192,25 +162,44 @@ public class BookingServiceImpl implements BookingService {
 	 * @throws DuplicateBookingException 이미 예약이 존재할 경우 예외 발생
 	 * @throws InvalidBookingDateException 예약 날짜가 유효하지 않을 경우 예외 발생
 	 */
+	@Transactional
 	@Override
-	// [수정] 트랜잭션 처리를 위해 @Transactional 애너테이션 추가 (필수)
 	public BookingCreateResponseDto addBooking(String email, BookingCreateRequestDto requestDto) {
 		BookingVo bookingVo = requestDto.toVo();
 
 		validateBookingDate(bookingVo.getDate());
-
-		// 동시성 문제를 피하기 위해 예약 생성 로직 안에서 중복 체크를 다시 하거나, DB의 UNIQUE 제약조건에 의존하는 것이 더 안전할 수 있습니다.
-		// 기존 로직은 유지하되, 트랜잭션의 격리 수준(isolation level)에 따라 동작이 달라질 수 있음을 인지해야 합니다.
-		int existingBookings = bookingMapper.countByBranchDateTime(
+		validateBookingTime(bookingVo.getTime());
+
+		// 슬롯 인벤토리에서 CAS로 슬롯을 선점합니다. (COUNT 조회 후 삽입하는 경쟁 조건 제거)
+		// 관리 기간 밖의 날짜만 기존처럼 DB 건수로 확인합니다.
+		LocalDate bookingDate = BookingSlotInventory.toLocalDate(bookingVo.getDate());
+		boolean tracked = slotInventory.isTracked(bookingDate, bookingVo.getTime());
+		if (tracked) {
+			if (!slotInventory.claim(bookingVo.getBranchId(), bookingDate, bookingVo.getTime())) {
+				throw new DuplicateBookingException("해당 지점의 해당 시간에는 이미 예약이 존재합니다.");
+			}
+			// 삽입/아웃박스 기록이 롤백되면 선점한 슬롯을 반납
+			slotInventory.releaseOnRollback(bookingVo.getBranchId(), bookingDate, bookingVo.getTime());
+		} else if (bookingMapper.countByBranchDateTime(
 			bookingVo.getBranchId(),
 			bookingVo.getDate(),
 			bookingVo.getTime()
-		);
-
-		if (existingBookings > 0) {
+		) > 0) {
 			throw new DuplicateBookingException("해당 지점의 해당 시간에는 이미 예약이 존재합니다.");
 		}
 
+		insertNewBooking(email, requestDto, bookingVo, bookingDate);
+		clickLogService.saveClickLog(requestDto.getFinPrdtCode(), email, "/api/bookings");
+
+		// 5. 생성된 예약 정보를 DTO에 담아 반환
+		return BookingCreateResponseDto.of(bookingVo);
+	}
+
+	/**
+	 * 예약 ID/코드를 발급하고 예약을 DB에 삽입합니다.
+	 */
+	private void insertNewBooking(String email, BookingCreateRequestDto requestDto, BookingVo bookingVo,
+		LocalDate bookingDate) {
 		// 1. 내부용 ID (ULID) 생성 (기존과 동일)
 		String bookingId = UlidCreator.getUlid().toString();
 
@@ -222,8 +211,11 @@ public class BookingServiceImpl implements BookingService {
 		// 여기서는 예시로 "BRANCH" + branchId를 사용합니다.
 		String branchPart = "B" + String.format("%03d", bookingVo.getBranchId());
 
-		// 2-3. 해당 날짜, 해당 지점의 다음 순번 계산 (매퍼 호출)
-		int dailySequence = bookingMapper.countByBranchAndDate(bookingVo.getBranchId(), bookingVo.getDate()) + 1;
+		// 2-3. 해당 날짜, 해당 지점의 다음 순번 발급 (인벤토리의 원자적 카운터, 관리 기간 밖이면 DB 건수 기준)
+		int dailySequence = slotInventory.nextSequence(bookingVo.getBranchId(), bookingDate);
+		if (dailySequence < 0) {
+			dailySequence = bookingMapper.countByBranchAndDate(bookingVo.getBranchId(), bookingVo.getDate()) + 1;
+		}
 		String sequencePart = String.format("%03d", dailySequence); // 3자리로 패딩 (001, 002...)
 
 		// 2-4. 모든 부분을 조합하여 최종 예약 코드 생성
@@ -238,40 +230,34 @@ public class BookingServiceImpl implements BookingService {
 
 		// 4. 데이터베이스에 최종 예약 정보 삽입
 		bookingMapper.insertBooking(bookingVo);
-		clickLogService.saveClickLog(requestDto.getFinPrdtCode(), email, "/api/bookings");
 
-		// 5. 생성된 예약 정보를 DTO에 담아 반환
-		return BookingCreateResponseDto.of(bookingVo);
+		// 5. 은행 서버 전송 건을 같은 트랜잭션으로 아웃박스에 기록 (실제 전송은 BankBookingOutboxDispatcher가 수행)
+		enqueueBankDelivery(email, bookingVo);
 	}
 
-	@Override
-	public void sendBookingToBank(String email, BookingCreateRequestDto requestDto,
-		BookingCreateResponseDto responseDto) {
+	/**
+	 * 은행 서버로 보낼 예약 정보를 아웃박스에 기록합니다.
+	 * 예약 삽입과 함께 커밋되므로, 은행 서버가 느리거나 내려가 있어도 예약 생성 지연이나 전송 누락이 없습니다.
+	 * @param email 예약자 이메일
+	 * @param bookingVo 삽입한 예약 VO
+	 */
+	private void enqueueBankDelivery(String email, BookingVo bookingVo) {
+		BankBookingRequestDto bankDto = BankBookingRequestDto.builder()
+			.email(email)
+			.branchId(bookingVo.getBranchId())
+			.finPrdtCode(bookingVo.getFinPrdtCode())
+			.date(bookingVo.getDate())
+			.time(bookingVo.getTime())
+			.docInfo(bookingVo.getDocInfo())
+			.build();
+
 		try {
-			RestTemplate restTemplate = new RestTemplate();
-			String bankApiUrl = "http://localhost:8000/api/bookings"; // 은행 서버 endpoint
-
-			HttpHeaders headers = new HttpHeaders();
-			headers.setContentType(MediaType.APPLICATION_JSON);
-
-			// String -> java.sql.Date 변환
-			java.sql.Date sqlDate = java.sql.Date.valueOf(requestDto.getDate());
-
-			// 은행 서버 DTO 생성
-			BankBookingRequestDto bankDto = BankBookingRequestDto.builder()
-				.email(email)
-				.branchId(requestDto.getBranchId())
-				.finPrdtCode(requestDto.getFinPrdtCode())
-				.date(java.sql.Date.valueOf(requestDto.getDate()))
-				.time(requestDto.getTime())
-				.docInfo(responseDto.getDocInfo())
-				.build();
-
-			HttpEntity<BankBookingRequestDto> requestEntity = new HttpEntity<>(bankDto, headers);
-			restTemplate.postForEntity(bankApiUrl, requestEntity, Void.class);
-
-		} catch (Exception e) {
-			e.printStackTrace();
+			bookingOutboxMapper.insertOutbox(BookingOutboxVo.builder()
+				.bookingId(bookingVo.getBookingId())
+				.payload(OBJECT_MAPPER.writeValueAsString(bankDto))
+				.build());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("은행 서버 전송 데이터 직렬화에 실패했습니다.", e);
 		}
 	}
 
@@ -292,17 +278,20 @@ public class BookingServiceImpl implements BookingService {
 	public BookingDetailResponseDto patchBooking(String bookingId, String email,
 		BookingPatchRequestDto patchDto) throws AccessDeniedException {
 
-		BookingVo existingBooking = bookingMapper.findById(bookingId);
+		BookingDetailVo detail = bookingMapper.findDetailById(bookingId);
 
-		if (existingBooking == null) {
+		if (detail == null) {
 			throw new NoSuchElementException("해당 예약을 찾을 수 없습니다: " + bookingId);
 		}
+		BookingVo existingBooking = detail.getBooking();
 
 		if (!existingBooking.getEmail().equals(email)) {
 			throw new AccessDeniedException("예약을 수정할 권한이 없습니다.");
 		}
 
 		boolean isTimeSlotChanged = false;
+		LocalDate previousDate = BookingSlotInventory.toLocalDate(existingBooking.getDate());
+		String previousTime = existingBooking.getTime();
 
 		if (patchDto.getDate() != null && !patchDto.getDate().isEmpty()) {
 			Date newDate = parseDate(patchDto.getDate());
@@ -312,27 +301,35 @@ public class BookingServiceImpl implements BookingService {
 		}
 
 		if (patchDto.getTime() != null && !patchDto.getTime().isEmpty()) {
+			validateBookingTime(patchDto.getTime());
 			existingBooking.setTime(patchDto.getTime());
 			isTimeSlotChanged = true;
 		}
 
 		if (isTimeSlotChanged) {
-			int existingCount = bookingMapper.countByBranchDateTime(
-				existingBooking.getBranchId(),
+			int branchId = existingBooking.getBranchId();
+			LocalDate newDate = BookingSlotInventory.toLocalDate(existingBooking.getDate());
+			if (slotInventory.isTracked(newDate, existingBooking.getTime())) {
+				if (!slotInventory.claim(branchId, newDate, existingBooking.getTime())) {
+					throw new DuplicateBookingException("변경하려는 시간에는 이미 다른 예약이 존재합니다.");
+				}
+				slotInventory.releaseOnRollback(branchId, newDate, existingBooking.getTime());
+			} else if (bookingMapper.countByBranchDateTime(
+				branchId,
 				existingBooking.getDate(),
 				existingBooking.getTime()
-			);
-			if (existingCount > 0) {
+			) > 0) {
 				throw new DuplicateBookingException("변경하려는 시간에는 이미 다른 예약이 존재합니다.");
 			}
+			// 기존 슬롯은 변경이 커밋된 뒤 반납
+			slotInventory.releaseAfterCommit(branchId, previousDate, previousTime);
 		}
 
 		bookingMapper.updateBooking(existingBooking);
 
-		String prdtName = productService.getProductNameByCode(existingBooking.getFinPrdtCode());
-		String branchName = branchService.getBranchNameById(existingBooking.getBranchId());
-
-		return BookingDetailResponseDto.of(existingBooking, prdtName, branchName);
+		// 지점은 변경되지 않으므로 처음 조인 조회한 지점 이름을 그대로 사용
+		return BookingDetailResponseDto.of(existingBooking, productNameOf(existingBooking.getFinPrdtCode()),
+			detail.getBranchName());
 	}
 
 	// ------------------- 예약 삭제 -------------------
@@ -358,17 +355,25 @@ public class BookingServiceImpl implements BookingService {
 		}
 
 		bookingMapper.deleteBooking(bookingId);
+		if (bookingVo.getDate() != null) {
+			slotInventory.releaseAfterCommit(bookingVo.getBranchId(),
+				BookingSlotInventory.toLocalDate(bookingVo.getDate()), bookingVo.getTime());
+		}
 	}
 
 	// ------------------- 헬퍼 메서드 -------------------
 
 	/**
-	 * 사용자의 지난 예약 내역을 삭제합니다.
-	 * @param email 사용자 이메일
+	 * 상품 코드로 상품명을 찾습니다. 상품 카탈로그에 없으면 DB에서 조회합니다.
+	 * 상담 예약 코드(gift, inheritance)는 상품이 아니므로 조회하지 않고 null을 반환합니다.
+	 * @param finPrdtCode 금융 상품 코드
+	 * @return 상품명 (없으면 null)
 	 */
-	private void deletePastBookings(String email) {
-		LocalDate today = LocalDate.now();
-		bookingMapper.deletePastBookingsByEmail(email, today);
+	private String productNameOf(String finPrdtCode) {
+		if (finPrdtCode == null || CONSULTATION_CODES.contains(finPrdtCode)) {
+			return null;
+		}
+		return productService.getProductNameByCode(finPrdtCode);
 	}
 
 	/**
@@ -451,4 +456,17 @@ public class BookingServiceImpl implements BookingService {
 			throw new InvalidBookingDateException("예약은 오늘부터 한 달 이내의 날짜만 가능합니다.");
 		}
 	}
+
+	/**
+	 * 예약 시간 유효성 검사 (슬롯 단위(10분)에 맞는 HH:mm 또는 HH:mm:ss만 허용)
+	 * 슬롯 단위에 맞지 않는 예약은 예약 현황(reserved-slots)에 표시될 수 없으므로 생성/변경을 막습니다.
+	 * @param time 검사할 예약 시간
+	 * @throws IllegalArgumentException 형식이 잘못되었거나 슬롯 단위에 맞지 않을 경우 예외 발생
+	 */
+	private void validateBookingTime(String time) {
+		if (BookingSlotInventory.slotOf(time) < 0) {
+			throw new IllegalArgumentException(
+				"예약 시간은 " + BookingSlotInventory.SLOT_MINUTES + "분 단위(HH:mm)로 입력해주세요: " + time);
+		}
+	}
 }
@@ -0,0 +1,405 @@
+package org.scoula.booking.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.PostConstruct;
+
+import org.scoula.booking.domain.BookingVo;
+import org.scoula.booking.mapper.BookingMapper;
+import org.scoula.branch.mapper.BranchMapper;
+import org.scoula.exception.BranchNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 지점별 예약 슬롯 현황을 메모리에 들고 있는 인벤토리입니다.
+ *
+ * - 지점마다 오늘부터 WINDOW_DAYS일 동안의 시간 슬롯(SLOT_MINUTES분 단위)을 비트맵(AtomicLongArray)으로 관리합니다.
+ * - 예약 선점은 SELECT COUNT 대신 비트 CAS로 처리하므로, 같은 슬롯을 두 요청이 동시에 잡을 수 없습니다.
+ * - 날짜별 예약 코드 순번도 AtomicIntegerArray로 발급하여 순번이 중복되지 않습니다. (삭제된 예약의 순번도 재사용하지 않음)
+ * - 기동 시 MySQL에서 오늘 이후 예약을 한 번에 읽어 채우며, 처음 보는 지점은 첫 접근 시 지점 단위로 적재합니다.
+ *   이때 branch 테이블에 없는 지점 ID는 BranchNotFoundException으로 거부하고 상태를 만들지 않습니다.
+ * - 날짜 칸은 링 버퍼로 재사용하며, 날짜가 바뀌어 새로 들어오는 날은 빈 칸으로 시작합니다. (예약 가능 기간 밖이라 기존 예약이 없음)
+ * - 슬롯이 바뀔 때마다 지점별 버전을 올려, 예약 현황 응답 캐시가 변경 여부를 판단할 수 있게 합니다.
+ *
+ * 단일 애플리케이션 인스턴스를 전제로 합니다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BookingSlotInventory {
+
+	/** 슬롯 단위(분) */
+	static final int SLOT_MINUTES = 10;
+	/** 하루 슬롯 수 (24시간 / 10분 = 144) */
+	private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+	private static final int WORDS_PER_DAY = (SLOTS_PER_DAY + 63) / 64;
+	/** 관리 기간(일). 예약 가능 기간(오늘부터 한 달 이내, 최대 32일)을 모두 덮습니다. */
+	static final int WINDOW_DAYS = 32;
+
+	private final BookingMapper bookingMapper;
+	private final BranchMapper branchMapper;
+
+	private final Map<Integer, BranchSlots> branches = new ConcurrentHashMap<>();
+
+	/**
+	 * 기동 시 오늘 이후의 전체 예약을 한 번에 읽어 지점별 비트맵을 채웁니다.
+	 * 실패하면 로그만 남기고, 각 지점은 첫 접근 시 개별 적재됩니다.
+	 */
+	@PostConstruct
+	public void warmUp() {
+		try {
+			LocalDate today = LocalDate.now();
+			Map<Integer, List<BookingVo>> byBranch = new HashMap<>();
+			for (BookingVo booking : bookingMapper.findSlotsFrom(null, today)) {
+				byBranch.computeIfAbsent(booking.getBranchId(), id -> new ArrayList<>()).add(booking);
+			}
+			byBranch.forEach((branchId, bookings) -> branches.put(branchId, BranchSlots.of(today, bookings)));
+			log.info("예약 슬롯 인벤토리 적재 완료: 지점 {}곳", byBranch.size());
+		} catch (RuntimeException e) {
+			log.error("예약 슬롯 인벤토리 사전 적재 실패. 지점별로 첫 접근 시 적재합니다.", e);
+		}
+	}
+
+	/**
+	 * 해당 날짜/시간이 인벤토리에서 관리되는 슬롯인지 확인합니다.
+	 * (관리 기간 밖의 날짜는 기존 DB 조회 방식으로 처리해야 함. 슬롯 단위에 맞지 않는 시간은 예약 생성/변경 시 거부됨)
+	 *
+	 * @param date 예약 날짜
+	 * @param time 예약 시간 (HH:mm 또는 HH:mm:ss)
+	 * @return 관리 대상이면 true
+	 */
+	public boolean isTracked(LocalDate date, String time) {
+		return inWindow(date, LocalDate.now()) && slotOf(time) >= 0;
+	}
+
+	/**
+	 * 슬롯을 선점합니다. (비트 CAS)
+	 *
+	 * @param branchId 지점 ID
+	 * @param date 예약 날짜
+	 * @param time 예약 시간
+	 * @return 선점에 성공하면 true, 이미 예약된 슬롯이면 false
+	 * @throws BranchNotFoundException 존재하지 않는 지점 ID인 경우
+	 */
+	public boolean claim(int branchId, LocalDate date, String time) {
+		int slot = slotOf(time);
+		BranchSlots slots = branch(branchId);
+		int day = dayIndex(slots, date);
+		if (slot < 0 || day < 0) {
+			throw new IllegalArgumentException("관리 대상이 아닌 예약 슬롯입니다: " + date + " " + time);
+		}
+		int word = day * WORDS_PER_DAY + (slot >>> 6);
+		long mask = 1L << (slot & 63);
+		while (true) {
+			long current = slots.bits.get(word);
+			if ((current & mask) != 0) {
+				return false;
+			}
+			if (slots.bits.compareAndSet(word, current, current | mask)) {
+				slots.version.incrementAndGet();
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 선점한 슬롯을 반납합니다. 관리 대상이 아닌 슬롯이거나 아직 적재되지 않은 지점이면 아무 일도 하지 않습니다.
+	 *
+	 * @param branchId 지점 ID
+	 * @param date 예약 날짜
+	 * @param time 예약 시간
+	 */
+	public void release(int branchId, LocalDate date, String time) {
+		int slot = slotOf(time);
+		// 적재되지 않은 지점은 메모리에 선점된 슬롯이 없으므로 반납할 것도 없음 (DB에서 다시 적재하지 않음)
+		BranchSlots slots = branches.get(branchId);
+		int day = slot < 0 || slots == null ? -1 : dayIndex(slots, date);
+		if (day < 0) {
+			return;
+		}
+		int word = day * WORDS_PER_DAY + (slot >>> 6);
+		long mask = 1L << (slot & 63);
+		while (true) {
+			long current = slots.bits.get(word);
+			if ((current & mask) == 0) {
+				return;
+			}
+			if (slots.bits.compareAndSet(word, current, current & ~mask)) {
+				slots.version.incrementAndGet();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 해당 지점/날짜의 다음 예약 코드 순번을 발급합니다.
+	 *
+	 * @param branchId 지점 ID
+	 * @param date 예약 날짜
+	 * @return 1부터 시작하는 순번 (관리 기간 밖의 날짜면 -1)
+	 * @throws BranchNotFoundException 존재하지 않는 지점 ID인 경우
+	 */
+	public int nextSequence(int branchId, LocalDate date) {
+		if (!inWindow(date, LocalDate.now())) {
+			return -1;
+		}
+		BranchSlots slots = branch(branchId);
+		int day = dayIndex(slots, date);
+		return day < 0 ? -1 : slots.sequences.incrementAndGet(day);
+	}
+
+	/**
+	 * 트랜잭션이 커밋된 뒤 슬롯을 반납합니다. (예약 삭제/변경 전 슬롯)
+	 * 활성 트랜잭션이 없으면 즉시 반납합니다.
+	 */
+	public void releaseAfterCommit(int branchId, LocalDate date, String time) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			release(branchId, date, time);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				release(branchId, date, time);
+			}
+		});
+	}
+
+	/**
+	 * 트랜잭션이 롤백되면 슬롯을 반납합니다. (예약 변경 시 새로 선점한 슬롯)
+	 */
+	public void releaseOnRollback(int branchId, LocalDate date, String time) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					release(branchId, date, time);
+				}
+			}
+		});
+	}
+
+	/**
+	 * 지점의 기준 시각 이후 예약된 슬롯을 날짜별 시간 목록으로 반환합니다. (DB 조회 없음)
+	 * 예약 현황 응답 캐시가 같은 기준(날짜, 오늘의 첫 슬롯 번호)으로 캐시 키를 잡을 수 있도록 기준 시각을 받습니다.
+	 *
+	 * @param branchId 지점 ID
+	 * @param today 기준 날짜
+	 * @param firstSlotToday 오늘 중 포함할 첫 슬롯 번호 (firstSlotAt 참고)
+	 * @return 날짜(yyyy-MM-dd) → 예약된 시간(HH:mm) 목록, 날짜 오름차순
+	 * @throws BranchNotFoundException 존재하지 않는 지점 ID인 경우
+	 */
+	Map<String, List<String>> reservedSlots(int branchId, LocalDate today, int firstSlotToday) {
+		BranchSlots slots = branch(branchId);
+		Map<String, List<String>> reserved = new LinkedHashMap<>();
+		for (int offset = 0; offset < WINDOW_DAYS; offset++) {
+			LocalDate date = today.plusDays(offset);
+			int day = ringIndex(date);
+			if (slots.days.get(day) != date.toEpochDay()) {
+				continue;
+			}
+			List<String> times = null;
+			for (int w = 0; w < WORDS_PER_DAY; w++) {
+				long word = slots.bits.get(day * WORDS_PER_DAY + w);
+				while (word != 0) {
+					int slot = (w << 6) + Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+					if (offset == 0 && slot < firstSlotToday) {
+						continue;
+					}
+					if (times == null) {
+						times = new ArrayList<>();
+					}
+					times.add(formatSlot(slot));
+				}
+			}
+			if (times != null) {
+				reserved.put(date.toString(), Collections.unmodifiableList(times));
+			}
+		}
+		return reserved;
+	}
+
+	/**
+	 * 지점 슬롯의 변경 버전을 반환합니다. 선점/반납/날짜 칸 교체 시 증가합니다.
+	 *
+	 * @param branchId 지점 ID
+	 * @return 변경 버전
+	 * @throws BranchNotFoundException 존재하지 않는 지점 ID인 경우
+	 */
+	public long version(int branchId) {
+		return branch(branchId).version.get();
+	}
+
+	/**
+	 * 기존 조회 조건(time >= 현재 HH:mm)과 같게, 현재 시각 이후 오늘의 첫 슬롯 번호를 구합니다.
+	 */
+	static int firstSlotAt(LocalTime now) {
+		return (now.getHour() * 60 + now.getMinute() + SLOT_MINUTES - 1) / SLOT_MINUTES;
+	}
+
+	/**
+	 * java.util.Date(예약 날짜)를 시스템 기본 시간대의 LocalDate로 변환합니다.
+	 */
+	public static LocalDate toLocalDate(Date date) {
+		return Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+	}
+
+	/**
+	 * 지점의 슬롯 상태를 반환합니다. 처음 보는 지점은 branch 테이블에 있는지 확인한 뒤에만 적재합니다.
+	 *
+	 * @throws BranchNotFoundException 존재하지 않는 지점 ID인 경우
+	 */
+	private BranchSlots branch(int branchId) {
+		BranchSlots slots = branches.get(branchId);
+		if (slots != null) {
+			return slots;
+		}
+		if (!branchMapper.existsById(branchId)) {
+			throw new BranchNotFoundException("ID가 " + branchId + "인 지점을 찾을 수 없습니다.");
+		}
+		return branches.computeIfAbsent(branchId, id -> {
+			LocalDate today = LocalDate.now();
+			BranchSlots loaded = BranchSlots.of(today, bookingMapper.findSlotsFrom(id, today));
+			log.info("지점 {} 예약 슬롯 적재 완료", id);
+			return loaded;
+		});
+	}
+
+	/**
+	 * 날짜의 링 버퍼 칸 번호를 반환합니다. 칸이 지난 날짜의 것이면 비우고 새 날짜로 넘깁니다.
+	 *
+	 * @return 칸 번호 (관리 기간 밖이면 -1)
+	 */
+	private static int dayIndex(BranchSlots slots, LocalDate date) {
+		if (!inWindow(date, LocalDate.now())) {
+			return -1;
+		}
+		int day = ringIndex(date);
+		long epochDay = date.toEpochDay();
+		if (slots.days.get(day) != epochDay) {
+			synchronized (slots) {
+				long stamped = slots.days.get(day);
+				if (stamped > epochDay) {
+					return -1;
+				}
+				if (stamped != epochDay) {
+					for (int w = 0; w < WORDS_PER_DAY; w++) {
+						slots.bits.set(day * WORDS_PER_DAY + w, 0L);
+					}
+					slots.sequences.set(day, 0);
+					slots.days.set(day, epochDay);
+					slots.version.incrementAndGet();
+				}
+			}
+		}
+		return day;
+	}
+
+	private static boolean inWindow(LocalDate date, LocalDate today) {
+		return date != null && !date.isBefore(today) && date.isBefore(today.plusDays(WINDOW_DAYS));
+	}
+
+	private static int ringIndex(LocalDate date) {
+		return (int)Math.floorMod(date.toEpochDay(), (long)WINDOW_DAYS);
+	}
+
+	/**
+	 * 시간 문자열을 슬롯 번호로 변환합니다.
+	 *
+	 * @return 슬롯 번호 (형식이 잘못되었거나 슬롯 단위에 맞지 않으면 -1)
+	 */
+	static int slotOf(String time) {
+		if (time == null) {
+			return -1;
+		}
+		try {
+			LocalTime parsed = LocalTime.parse(time.trim());
+			int minutes = parsed.getHour() * 60 + parsed.getMinute();
+			if (parsed.getSecond() != 0 || parsed.getNano() != 0 || minutes % SLOT_MINUTES != 0) {
+				return -1;
+			}
+			return minutes / SLOT_MINUTES;
+		} catch (DateTimeParseException e) {
+			return -1;
+		}
+	}
+
+	private static String formatSlot(int slot) {
+		int minutes = slot * SLOT_MINUTES;
+		return String.format("%02d:%02d", minutes / 60, minutes % 60);
+	}
+
+	/**
+	 * 예약 코드(yyMMdd-Bnnn-순번)에서 순번을 꺼냅니다. 형식이 다르면 0.
+	 */
+	private static int sequenceOf(String bookingCode) {
+		if (bookingCode == null) {
+			return 0;
+		}
+		int dash = bookingCode.lastIndexOf('-');
+		try {
+			return Integer.parseInt(bookingCode.substring(dash + 1));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * 한 지점의 슬롯 비트맵, 날짜 칸별 epochDay, 날짜별 예약 코드 순번, 변경 버전
+	 */
+	private static final class BranchSlots {
+		private final AtomicLong version = new AtomicLong();
+		private final AtomicLongArray bits = new AtomicLongArray(WINDOW_DAYS * WORDS_PER_DAY);
+		private final AtomicLongArray days = new AtomicLongArray(WINDOW_DAYS);
+		private final AtomicIntegerArray sequences = new AtomicIntegerArray(WINDOW_DAYS);
+
+		private static BranchSlots of(LocalDate today, List<BookingVo> bookings) {
+			BranchSlots slots = new BranchSlots();
+			for (int offset = 0; offset < WINDOW_DAYS; offset++) {
+				LocalDate date = today.plusDays(offset);
+				slots.days.set(ringIndex(date), date.toEpochDay());
+			}
+			for (BookingVo booking : bookings) {
+				if (booking.getDate() == null) {
+					continue;
+				}
+				LocalDate date = toLocalDate(booking.getDate());
+				if (!inWindow(date, today)) {
+					continue;
+				}
+				int day = ringIndex(date);
+				slots.sequences.set(day, Math.max(slots.sequences.get(day), sequenceOf(booking.getBookingCode())));
+				int slot = slotOf(booking.getTime());
+				if (slot >= 0) {
+					int word = day * WORDS_PER_DAY + (slot >>> 6);
+					slots.bits.set(word, slots.bits.get(word) | (1L << (slot & 63)));
+				}
+			}
+			return slots;
+		}
+	}
+}
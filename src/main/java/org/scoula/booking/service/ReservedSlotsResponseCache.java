@@ -0,0 +1,127 @@
+package org.scoula.booking.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.scoula.booking.dto.ReservedSlotsResponseDto;
+import org.scoula.exception.BranchNotFoundException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지점별 예약 현황(reserved-slots) 응답을 미리 직렬화해 두는 캐시입니다.
+ *
+ * - 슬롯 인벤토리의 지점 버전(예약 생성/변경/삭제 시 증가)과 기준 시각(날짜, 오늘의 첫 슬롯)이 같으면 직렬화된 바이트를 그대로 재사용합니다.
+ * - 버전이나 기준 시각이 바뀐 뒤 첫 요청에서만 메모리 비트맵으로 다시 만들며, DB는 조회하지 않습니다.
+ * - 내용의 SHA-256으로 강한 ETag를 만들어, 변경이 없으면 폴링 요청에 304로 응답할 수 있게 합니다.
+ * - 존재하지 않는 지점 ID는 캐시에 넣기 전에 BranchNotFoundException(404)으로 거부하므로, 캐시 크기는 실제 지점 수로 제한됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservedSlotsResponseCache {
+
+	private final BookingSlotInventory slotInventory;
+	/** RootConfig의 공용 ObjectMapper (MVC 메시지 컨버터와 같은 설정으로 직렬화) */
+	private final ObjectMapper objectMapper;
+
+	private final Map<Integer, RenderedSlots> rendered = new ConcurrentHashMap<>();
+
+	/**
+	 * 지점의 직렬화된 예약 현황을 반환합니다. 예약이 바뀌었거나 기준 시각이 지났으면 다시 만듭니다.
+	 *
+	 * @param branchId 지점 ID
+	 * @return 직렬화된 예약 현황 응답
+	 * @throws BranchNotFoundException 존재하지 않는 지점 ID인 경우
+	 */
+	public RenderedSlots get(int branchId) {
+		LocalDate today = LocalDate.now();
+		int firstSlotToday = BookingSlotInventory.firstSlotAt(LocalTime.now());
+		// 버전을 먼저 읽고 만들기 때문에, 만드는 도중 변경이 생기면 다음 요청에서 다시 만들어짐
+		// (없는 지점이면 여기서 예외가 발생하여 캐시에 항목이 생기지 않음)
+		long version = slotInventory.version(branchId);
+
+		RenderedSlots current = rendered.get(branchId);
+		if (current != null && current.isFor(version, today, firstSlotToday)) {
+			return current;
+		}
+		RenderedSlots fresh = render(branchId, version, today, firstSlotToday);
+		rendered.put(branchId, fresh);
+		return fresh;
+	}
+
+	private RenderedSlots render(int branchId, long version, LocalDate today, int firstSlotToday) {
+		try {
+			ReservedSlotsResponseDto dto = new ReservedSlotsResponseDto(
+				slotInventory.reservedSlots(branchId, today, firstSlotToday));
+			byte[] json = objectMapper.writeValueAsBytes(dto);
+			return new RenderedSlots(version, today, firstSlotToday, json, "\"" + sha256(json) + "\"");
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("예약 현황 응답 직렬화에 실패했습니다.", e);
+		}
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 직렬화된 지점 예약 현황 (JSON 바이트와 강한 ETag)
+	 */
+	@Getter
+	public static final class RenderedSlots {
+		private final long version;
+		private final LocalDate today;
+		private final int firstSlotToday;
+		private final byte[] json;
+		private final String etag;
+
+		private RenderedSlots(long version, LocalDate today, int firstSlotToday, byte[] json, String etag) {
+			this.version = version;
+			this.today = today;
+			this.firstSlotToday = firstSlotToday;
+			this.json = json;
+			this.etag = etag;
+		}
+
+		private boolean isFor(long version, LocalDate today, int firstSlotToday) {
+			return this.version == version && this.firstSlotToday == firstSlotToday && this.today.equals(today);
+		}
+
+		/**
+		 * If-None-Match 헤더 값이 이 응답의 ETag와 일치하는지 확인합니다. (W/ 접두사는 무시)
+		 *
+		 * @param ifNoneMatch If-None-Match 헤더 값
+		 * @return 일치하면 true (304 응답 대상)
+		 */
+		public boolean matches(String ifNoneMatch) {
+			if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+				return false;
+			}
+			for (String candidate : ifNoneMatch.split(",")) {
+				String tag = candidate.trim();
+				if (tag.startsWith("W/")) {
+					tag = tag.substring(2);
+				}
+				if (tag.equals("*") || tag.equals(etag)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -12,12 +12,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -48,18 +50,23 @@ import lombok.extern.log4j.Log4j2;
 	"org.scoula.faq.service",
 	"org.scoula.branch.service",
 	"org.scoula.booking.service",
+	"org.scoula.booking.scheduler",
 	"org.scoula.View.codef.util",
 	"org.scoula.View.codef.service",
 	"org.scoula.View.codef.dto",
 	"org.scoula.product.service",
+	"org.scoula.product.cache",
 	"org.scoula.View.home.service",
 	"org.scoula.auth.service",
+	"org.scoula.auth.scheduler",
 	"org.scoula.product.service",
 	"org.scoula.sms.service",
 	"org.scoula.View.preference.service",
 	"org.scoula.gift.service",
+	"org.scoula.gift.cache",
 	"org.scoula.news.service",
 	"org.scoula.gpt.service",
+	"org.scoula.gpt.cache",
 	"org.scoula.statistics.service",
 	"org.scoula.statistics.scheduler",
 	"org.scoula.news.scheduler",
@@ -120,4 +127,13 @@ public class RootConfig {
 	public RestTemplate restTemplate() {
 		return new RestTemplate();
 	}
+
+	/**
+	 * 애플리케이션 공용 ObjectMapper
+	 * MVC 메시지 컨버터(ServletConfig)와 미리 직렬화하는 응답 캐시가 같은 설정으로 JSON을 만들도록 함께 사용합니다.
+	 */
+	@Bean
+	public ObjectMapper objectMapper() {
+		return Jackson2ObjectMapperBuilder.json().build();
+	}
 }
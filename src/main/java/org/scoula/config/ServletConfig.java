@@ -1,7 +1,11 @@
 package org.scoula.config;
 
+import java.util.List;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.multipart.MultipartResolver;
 import org.springframework.web.multipart.commons.CommonsMultipartResolver;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
@@ -9,11 +13,14 @@ import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
 @EnableWebMvc
 @ComponentScan(basePackages = {"org.scoula.controller",
 	"org.scoula.exception",
 	"org.scoula.security",
-	"org.scoula.auth.service",
 	"org.scoula.user.controller",
 	"org.scoula.asset.controller",
 	"org.scoula.recommend.controller",
@@ -35,7 +42,21 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 	"org.scoula.news.controller",
 	"org.scoula.question.controller" // question 컨트롤러 추가
 }) //SPRING MVC용 컴포넌트 등록을 위한 스 캔 패키지
+@RequiredArgsConstructor
 public class ServletConfig implements WebMvcConfigurer {
+
+	/** RootConfig의 공용 ObjectMapper (미리 직렬화된 응답과 같은 설정을 쓰기 위함) */
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converter instanceof MappingJackson2HttpMessageConverter) {
+				((MappingJackson2HttpMessageConverter)converter).setObjectMapper(objectMapper);
+			}
+		}
+	}
+
 	@Override
 	public void addViewControllers(ViewControllerRegistry registry) {
 		registry.addViewController("/")
@@ -0,0 +1,63 @@
+package org.scoula.gift.cache;
+
+import org.scoula.gift.mapper.StrategyMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 절세 전략 규칙 테이블 캐시입니다.
+ *
+ * - 전체 규칙을 한 번 조회해 불변 StrategyRuleTable로 만들고, volatile 참조 교체로 갱신합니다.
+ * - 주기적으로(기본 10분) 다시 읽어옵니다. 규칙 테이블은 애플리케이션에서 수정하지 않으므로(DB에서 직접 관리)
+ *   변경은 최대 갱신 주기(gift.strategy.refresh.ms)만큼 늦게 반영됩니다.
+ * - 갱신 중 조회에 실패하면 기존 테이블을 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StrategyRuleCache {
+
+	private final StrategyMapper strategyMapper;
+
+	private volatile StrategyRuleTable table;
+
+	/**
+	 * 현재 규칙 테이블을 반환합니다. 아직 적재되지 않았다면 지금 적재합니다.
+	 *
+	 * @return 전략 규칙 테이블
+	 */
+	public StrategyRuleTable get() {
+		StrategyRuleTable current = table;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (table == null) {
+				table = load();
+			}
+			return table;
+		}
+	}
+
+	/**
+	 * 주기적으로 전체 규칙을 다시 읽어 테이블을 교체합니다.
+	 */
+	@Scheduled(fixedDelayString = "${gift.strategy.refresh.ms:600000}",
+		initialDelayString = "${gift.strategy.refresh.ms:600000}")
+	public void scheduledRefresh() {
+		try {
+			table = load();
+		} catch (RuntimeException e) {
+			log.error("절세 전략 규칙 갱신 실패. 기존 테이블을 유지합니다.", e);
+		}
+	}
+
+	private StrategyRuleTable load() {
+		StrategyRuleTable loaded = StrategyRuleTable.of(strategyMapper.findAll());
+		log.info("절세 전략 규칙 적재 완료: {}개", loaded.size());
+		return loaded;
+	}
+}
@@ -0,0 +1,58 @@
+package org.scoula.gift.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.scoula.gift.domain.StrategyVo;
+
+/**
+ * 절세 전략 규칙(strategy 테이블)의 불변 색인 테이블입니다.
+ * 규칙을 카테고리별로 한 번만 묶어 두어, 시뮬레이션마다 전체 규칙을 다시 그룹핑하지 않도록 합니다.
+ * 생성 후 변경되지 않으므로 여러 요청에서 동시에 읽어도 안전합니다. (StrategyVo는 읽기 전용으로만 사용)
+ */
+public final class StrategyRuleTable {
+
+	private final Map<String, List<StrategyVo>> rulesByCategory;
+	private final int size;
+
+	private StrategyRuleTable(Map<String, List<StrategyVo>> rulesByCategory, int size) {
+		this.rulesByCategory = rulesByCategory;
+		this.size = size;
+	}
+
+	/**
+	 * 조회한 전체 규칙 목록으로 색인 테이블을 만듭니다.
+	 *
+	 * @param rules strategy 테이블 조회 결과
+	 * @return 전략 규칙 테이블
+	 */
+	public static StrategyRuleTable of(List<StrategyVo> rules) {
+		Map<String, List<StrategyVo>> byCategory = new HashMap<>();
+		for (StrategyVo rule : rules) {
+			if (rule == null || rule.getRuleCategory() == null) {
+				continue;
+			}
+			byCategory.computeIfAbsent(rule.getRuleCategory(), category -> new ArrayList<>()).add(rule);
+		}
+		Map<String, List<StrategyVo>> immutableByCategory = new HashMap<>(byCategory.size() * 2);
+		byCategory.forEach((category, list) -> immutableByCategory.put(category, Collections.unmodifiableList(list)));
+		return new StrategyRuleTable(Collections.unmodifiableMap(immutableByCategory), rules.size());
+	}
+
+	/**
+	 * 카테고리에 속한 규칙 목록을 반환합니다.
+	 *
+	 * @param ruleCategory 규칙 카테고리 (예: '수증자 유형')
+	 * @return 규칙 목록 (없으면 null, 기존 groupingBy 결과와 동일)
+	 */
+	public List<StrategyVo> rulesOf(String ruleCategory) {
+		return rulesByCategory.get(ruleCategory);
+	}
+
+	public int size() {
+		return size;
+	}
+}
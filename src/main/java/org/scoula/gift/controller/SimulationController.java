@@ -1,6 +1,8 @@
 package org.scoula.gift.controller;
 
 import org.scoula.exception.ErrorResponse;
+import org.scoula.gift.dto.GiftSplitOptimizeRequestDto;
+import org.scoula.gift.dto.GiftSplitOptimizeResponseDto;
 import org.scoula.gift.dto.SimulationRequestDto;
 import org.scoula.gift.dto.SimulationResponseDto;
 import org.scoula.gift.dto.WillPageResponseDto;
@@ -46,6 +48,22 @@ public class SimulationController {
 		return ResponseEntity.ok(responseDto);
 	}
 
+	@ApiOperation(value = "증여 분배 최적화", notes = "총 증여액을 선택한 수증자들에게 나누는 분배안 중 예상 증여세가 가장 낮은 상위 분배안을 반환합니다.")
+	@ApiResponses({
+		@ApiResponse(code = 200, message = "최적화 성공", response = GiftSplitOptimizeResponseDto.class),
+		@ApiResponse(code = 400, message = "잘못된 요청 형식", response = ErrorResponse.class),
+		@ApiResponse(code = 401, message = "인증 실패"),
+		@ApiResponse(code = 403, message = "수증자 접근 권한 없음", response = ErrorResponse.class),
+		@ApiResponse(code = 500, message = "서버 내부 오류", response = ErrorResponse.class)
+	})
+	@PostMapping("/simulation/optimize")
+	public ResponseEntity<GiftSplitOptimizeResponseDto> optimizeGiftSplit(
+		@RequestBody GiftSplitOptimizeRequestDto requestDto, Authentication authentication) {
+
+		String email = authentication.getName();
+		return ResponseEntity.ok(simulationService.optimizeGiftSplit(requestDto, email));
+	}
+
 	/**
 	 * 유언장 템플릿 페이지에 필요한 현재 로그인된 사용자 정보를 조회합니다.
 	 */
@@ -0,0 +1,30 @@
+package org.scoula.gift.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Data;
+
+/**
+ * 증여 분배 최적화 요청 DTO
+ */
+@ApiModel(value = "증여 분배 최적화 요청 DTO", description = "총 증여액을 수증자들에게 나누는 최소 세액 분배안을 찾기 위한 요청 데이터")
+@Data
+public class GiftSplitOptimizeRequestDto {
+
+	@ApiModelProperty(value = "나누어 줄 총 증여액", example = "1000000000", required = true)
+	private Long totalAmount;
+
+	@ApiModelProperty(value = "분배 대상 수증자 ID 리스트 (최대 10명)", required = true)
+	private List<Integer> recipientIds;
+
+	@ApiModelProperty(value = "분배 단위 금액 (생략 시 총액의 1/200을 만원 단위로 올림)", example = "5000000")
+	private Long stepAmount;
+
+	@ApiModelProperty(value = "반환할 상위 분배안 개수 (기본 5, 최대 20)", example = "5")
+	private Integer topN;
+
+	@ApiModelProperty(value = "탐색 시간 제한(ms) (기본 500, 최대 2000)", example = "500")
+	private Long timeBudgetMs;
+}
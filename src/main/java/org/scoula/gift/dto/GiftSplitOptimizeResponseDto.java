@@ -0,0 +1,32 @@
+package org.scoula.gift.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 증여 분배 최적화 결과 응답 DTO
+ */
+@ApiModel(value = "증여 분배 최적화 응답 DTO", description = "세액이 낮은 순으로 정렬된 상위 분배안과 탐색 정보를 담습니다.")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GiftSplitOptimizeResponseDto {
+
+	@ApiModelProperty(value = "실제 사용한 분배 단위 금액", example = "5000000", required = true)
+	private long stepAmount;
+
+	@ApiModelProperty(value = "세액 오름차순 상위 분배안 리스트", required = true)
+	private List<GiftSplitPlanDto> plans;
+
+	@ApiModelProperty(value = "평가한 분배안 수", example = "15234", required = true)
+	private long evaluatedScenarios;
+
+	@ApiModelProperty(value = "시간 제한 안에 탐색을 모두 마쳤는지 여부 (false면 그때까지 찾은 최선의 분배안)", example = "true",
+		required = true)
+	private boolean searchCompleted;
+}
@@ -0,0 +1,25 @@
+package org.scoula.gift.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 증여 분배안 DTO
+ */
+@ApiModel(value = "증여 분배안 DTO", description = "수증자별 증여액과 세액, 분배안 전체 세액을 담습니다.")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GiftSplitPlanDto {
+
+	@ApiModelProperty(value = "분배안의 총 예상 증여세액", example = "12000000", required = true)
+	private long totalEstimatedTax;
+
+	@ApiModelProperty(value = "수증자별 증여액 및 세액", required = true)
+	private List<RecipientTaxDetailDto> allocations;
+}
@@ -31,6 +31,13 @@ public interface RecipientMapper {
 	 */
 	RecipientVo findById(Integer recipientId);
 
+	/**
+	 * 여러 수증자 ID로 수증자 정보를 한 번에 조회합니다. (IN 배치 조회)
+	 * @param recipientIds 조회할 수증자 ID 목록 (비어 있으면 안 됨)
+	 * @return 조회된 수증자 정보 VO 리스트 (순서 보장 없음)
+	 */
+	List<RecipientVo> findByIds(@Param("recipientIds") List<Integer> recipientIds);
+
 	/**
 	 * 수증자 ID와 사용자 이메일로 특정 수증자 정보를 조회합니다. (본인 소유 데이터인지 권한 확인용)
 	 * @param recipientId 조회할 수증자 ID
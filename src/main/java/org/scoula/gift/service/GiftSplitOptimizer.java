@@ -0,0 +1,325 @@
+package org.scoula.gift.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+/**
+ * 총 증여액을 여러 수증자에게 나누는 분배안 중 세액이 가장 낮은 상위 N개를 찾는 탐색기입니다.
+ *
+ * - 금액을 stepAmount 단위(unit)로 나누고, 수증자별 "단위 수 → 세액" 표를 미리 만들어 둡니다.
+ *   분배안 하나의 평가는 표 조회와 덧셈뿐이라 객체를 만들지 않습니다. (상위 N에 들어갈 때만 배열 복사)
+ * - 남은 수증자에게 남은 단위를 나눌 때의 최소 세액(하한)을 DP로 미리 구해, 현재까지 세액 + 하한이
+ *   상위 N의 최악 세액 이상이면 그 가지를 잘라냅니다. (branch and bound)
+ * - 첫 번째 수증자의 단위 수별로 ForkJoin 작업을 나누어 병렬로 탐색하고, 시간 제한이 지나면 그때까지의 결과를 반환합니다.
+ * - 단위로 나누어 떨어지지 않는 나머지 금액은 각 분배안에서 추가 세액이 가장 적은 수증자에게 줍니다.
+ */
+@Component
+public class GiftSplitOptimizer {
+
+	/** 최대 수증자 수 */
+	public static final int MAX_RECIPIENTS = 10;
+	/** 최대 단위 수 (DP 표 크기 제한) */
+	public static final int MAX_UNITS = 400;
+	/** 시간 제한 확인 주기 (방문 노드 수) */
+	private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+	private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	@PreDestroy
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	/**
+	 * 세액이 낮은 상위 분배안을 찾습니다.
+	 *
+	 * @param priorGiftAmounts 수증자별 10년 이내 기존 증여액
+	 * @param deductionAmounts 수증자별 증여재산공제액
+	 * @param grandchild 수증자별 손자녀(30% 할증) 여부
+	 * @param totalAmount 나누어 줄 총 증여액
+	 * @param stepAmount 분배 단위 금액 (totalAmount / stepAmount <= MAX_UNITS)
+	 * @param topN 반환할 분배안 수
+	 * @param timeBudgetMs 탐색 시간 제한(ms)
+	 * @return 세액 오름차순 분배안과 탐색 정보
+	 */
+	public Result optimize(long[] priorGiftAmounts, long[] deductionAmounts, boolean[] grandchild,
+		long totalAmount, long stepAmount, int topN, long timeBudgetMs) {
+		int recipients = priorGiftAmounts.length;
+		int units = (int)(totalAmount / stepAmount);
+		long remainder = totalAmount - units * stepAmount;
+		if (recipients == 0 || recipients > MAX_RECIPIENTS || units > MAX_UNITS || topN <= 0) {
+			throw new IllegalArgumentException("분배 최적화 범위를 벗어난 요청입니다.");
+		}
+
+		Search search = new Search(priorGiftAmounts, deductionAmounts, grandchild, units, stepAmount, remainder,
+			topN, System.nanoTime() + timeBudgetMs * 1_000_000L);
+
+		// DP 최적해를 먼저 넣어 두면 처음부터 가지치기 기준이 촘촘해짐
+		search.offer(search.optimalUnits());
+		if (recipients == 1) {
+			// 수증자가 한 명이면 분배안은 전액을 주는 한 가지뿐이고, 위에서 이미 넣었음
+			search.evaluated.increment();
+		} else {
+			pool.invoke(new FirstRecipientTask(search, 0, units));
+		}
+
+		return new Result(search.sortedPlans(), search.evaluated.sum(), !search.timedOut.get());
+	}
+
+	/**
+	 * 한 요청의 탐색 상태 (세액 표, 하한 표, 상위 N 힙)
+	 */
+	private static final class Search {
+		private final int recipients;
+		private final int units;
+		private final long stepAmount;
+		private final long remainder;
+		private final long[] priorGiftAmounts;
+		private final long[] deductionAmounts;
+		private final boolean[] grandchild;
+		/** taxTable[i][u] = 수증자 i가 u단위를 받을 때의 세액 */
+		private final long[][] taxTable;
+		/** lowerBound[k][r] = 수증자 k..끝에게 r단위를 나눌 때의 최소 세액 */
+		private final long[][] lowerBound;
+		private final int topN;
+		private final long deadlineNanos;
+
+		/** 세액이 가장 높은(최악) 분배안이 루트에 오는 힙 */
+		private final PriorityQueue<Plan> best = new PriorityQueue<>(
+			Comparator.comparingLong(Plan::getTotalTax).reversed());
+		/** 상위 N이 찼을 때의 최악 세액 (가지치기 기준, 차기 전에는 Long.MAX_VALUE) */
+		private volatile long threshold = Long.MAX_VALUE;
+		private final AtomicBoolean timedOut = new AtomicBoolean();
+		private final LongAdder evaluated = new LongAdder();
+
+		private Search(long[] priorGiftAmounts, long[] deductionAmounts, boolean[] grandchild, int units,
+			long stepAmount, long remainder, int topN, long deadlineNanos) {
+			this.recipients = priorGiftAmounts.length;
+			this.units = units;
+			this.stepAmount = stepAmount;
+			this.remainder = remainder;
+			this.priorGiftAmounts = priorGiftAmounts;
+			this.deductionAmounts = deductionAmounts;
+			this.grandchild = grandchild;
+			this.topN = topN;
+			this.deadlineNanos = deadlineNanos;
+
+			this.taxTable = new long[recipients][units + 1];
+			for (int i = 0; i < recipients; i++) {
+				for (int u = 0; u <= units; u++) {
+					taxTable[i][u] = taxOf(i, u * stepAmount);
+				}
+			}
+
+			this.lowerBound = new long[recipients + 1][units + 1];
+			Arrays.fill(lowerBound[recipients], Long.MAX_VALUE);
+			lowerBound[recipients][0] = 0;
+			for (int k = recipients - 1; k >= 0; k--) {
+				for (int r = 0; r <= units; r++) {
+					long min = Long.MAX_VALUE;
+					for (int u = 0; u <= r; u++) {
+						long rest = lowerBound[k + 1][r - u];
+						if (rest != Long.MAX_VALUE && taxTable[k][u] + rest < min) {
+							min = taxTable[k][u] + rest;
+						}
+					}
+					lowerBound[k][r] = min;
+				}
+			}
+		}
+
+		private long taxOf(int recipient, long amount) {
+			return GiftTaxRules.taxForCurrentGift(amount, priorGiftAmounts[recipient], deductionAmounts[recipient],
+				grandchild[recipient]);
+		}
+
+		/**
+		 * 하한 표를 따라 최소 세액 분배를 복원합니다.
+		 */
+		private int[] optimalUnits() {
+			int[] allocation = new int[recipients];
+			int remaining = units;
+			for (int k = 0; k < recipients; k++) {
+				for (int u = 0; u <= remaining; u++) {
+					long rest = lowerBound[k + 1][remaining - u];
+					if (rest != Long.MAX_VALUE && taxTable[k][u] + rest == lowerBound[k][remaining]) {
+						allocation[k] = u;
+						remaining -= u;
+						break;
+					}
+				}
+			}
+			return allocation;
+		}
+
+		/**
+		 * 분배안(단위 배열)을 평가하여 상위 N에 들 수 있으면 넣습니다.
+		 */
+		private void offer(int[] allocation) {
+			long tax = 0;
+			for (int i = 0; i < recipients; i++) {
+				tax += taxTable[i][allocation[i]];
+			}
+			// 나머지 금액은 추가 세액이 가장 적은 수증자에게
+			int remainderTo = -1;
+			if (remainder > 0) {
+				long minExtra = Long.MAX_VALUE;
+				for (int i = 0; i < recipients; i++) {
+					long amount = allocation[i] * stepAmount;
+					long extra = taxOf(i, amount + remainder) - taxTable[i][allocation[i]];
+					if (extra < minExtra) {
+						minExtra = extra;
+						remainderTo = i;
+					}
+				}
+				tax += minExtra;
+			}
+			if (tax >= threshold) {
+				return;
+			}
+			synchronized (best) {
+				if (best.size() == topN && tax >= best.peek().getTotalTax()) {
+					return;
+				}
+				// 미리 넣어 둔 DP 최적해 등 같은 분배안이 다시 들어오지 않도록
+				for (Plan plan : best) {
+					if (plan.getTotalTax() == tax && sameAmounts(plan, allocation, remainderTo)) {
+						return;
+					}
+				}
+				long[] amounts = new long[recipients];
+				for (int i = 0; i < recipients; i++) {
+					amounts[i] = allocation[i] * stepAmount + (i == remainderTo ? remainder : 0);
+				}
+				best.add(new Plan(tax, amounts));
+				if (best.size() > topN) {
+					best.poll();
+				}
+				if (best.size() == topN) {
+					threshold = best.peek().getTotalTax();
+				}
+			}
+		}
+
+		private boolean sameAmounts(Plan plan, int[] allocation, int remainderTo) {
+			for (int i = 0; i < recipients; i++) {
+				long amount = allocation[i] * stepAmount + (i == remainderTo ? remainder : 0);
+				if (plan.getAmounts()[i] != amount) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private List<Plan> sortedPlans() {
+			List<Plan> plans;
+			synchronized (best) {
+				plans = new ArrayList<>(best);
+			}
+			plans.sort(Comparator.comparingLong(Plan::getTotalTax));
+			return Collections.unmodifiableList(plans);
+		}
+	}
+
+	/**
+	 * 첫 번째 수증자의 단위 수 구간 [from, to]를 맡는 병렬 작업. 구간이 넓으면 반으로 나눕니다. (수증자 2명 이상)
+	 */
+	private static final class FirstRecipientTask extends RecursiveAction {
+		private final Search search;
+		private final int from;
+		private final int to;
+
+		private FirstRecipientTask(Search search, int from, int to) {
+			this.search = search;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from >= 4) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new FirstRecipientTask(search, from, mid), new FirstRecipientTask(search, mid + 1, to));
+				return;
+			}
+			int[] allocation = new int[search.recipients];
+			long[] visited = new long[1];
+			for (int u = from; u <= to && !search.timedOut.get(); u++) {
+				allocation[0] = u;
+				explore(allocation, 1, search.units - u, search.taxTable[0][u], visited);
+			}
+			search.evaluated.add(visited[0]);
+		}
+
+		/**
+		 * 수증자 k부터 남은 단위를 나누는 깊이 우선 탐색 (가지치기 포함)
+		 */
+		private void explore(int[] allocation, int k, int remaining, long partialTax, long[] visited) {
+			long bound = search.lowerBound[k][remaining];
+			// 나눌 수 없는 경우(Long.MAX_VALUE)는 더하면 넘치므로 먼저 잘라냄
+			if (bound == Long.MAX_VALUE || partialTax + bound >= search.threshold) {
+				return;
+			}
+			if (k == search.recipients - 1) {
+				allocation[k] = remaining;
+				visited[0]++;
+				search.offer(allocation);
+				if ((visited[0] % DEADLINE_CHECK_INTERVAL) == 0 && System.nanoTime() > search.deadlineNanos) {
+					search.timedOut.set(true);
+				}
+				return;
+			}
+			for (int u = 0; u <= remaining; u++) {
+				if (search.timedOut.get()) {
+					return;
+				}
+				allocation[k] = u;
+				explore(allocation, k + 1, remaining - u, partialTax + search.taxTable[k][u], visited);
+			}
+		}
+	}
+
+	/**
+	 * 분배안 (총 세액, 수증자별 증여액)
+	 */
+	@Getter
+	public static final class Plan {
+		private final long totalTax;
+		private final long[] amounts;
+
+		private Plan(long totalTax, long[] amounts) {
+			this.totalTax = totalTax;
+			this.amounts = amounts;
+		}
+	}
+
+	/**
+	 * 탐색 결과 (세액 오름차순 분배안, 평가한 분배안 수, 시간 제한 안에 완료했는지 여부)
+	 */
+	@Getter
+	public static final class Result {
+		private final List<Plan> plans;
+		private final long evaluatedScenarios;
+		private final boolean completed;
+
+		private Result(List<Plan> plans, long evaluatedScenarios, boolean completed) {
+			this.plans = plans;
+			this.evaluatedScenarios = evaluatedScenarios;
+			this.completed = completed;
+		}
+	}
+}
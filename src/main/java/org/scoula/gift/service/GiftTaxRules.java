@@ -0,0 +1,92 @@
+package org.scoula.gift.service;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.scoula.gift.domain.RecipientVo;
+
+/**
+ * 증여세 계산 규칙 (누진 세율 구간, 관계별 증여재산공제, 미성년 여부)
+ * 시뮬레이션과 분배 최적화가 같은 규칙을 쓰도록 한곳에 모아 둡니다.
+ */
+final class GiftTaxRules {
+
+	/** 손자녀(세대생략) 증여 시 할증 비율 */
+	static final double GRANDCHILD_SURCHARGE_RATE = 0.3;
+
+	private GiftTaxRules() {
+	}
+
+	/**
+	 * 과세표준에 대한 증여세 산출세액 (누진공제 적용)
+	 */
+	static long calculateTax(long taxableBase) {
+		if (taxableBase <= 100_000_000L)
+			return (long)(taxableBase * 0.10);
+		if (taxableBase <= 500_000_000L)
+			return (long)(taxableBase * 0.20) - 10_000_000L;
+		if (taxableBase <= 1_000_000_000L)
+			return (long)(taxableBase * 0.30) - 60_000_000L;
+		if (taxableBase <= 3_000_000_000L)
+			return (long)(taxableBase * 0.40) - 160_000_000L;
+		return (long)(taxableBase * 0.50) - 460_000_000L;
+	}
+
+	/**
+	 * 과세표준이 속한 구간의 한계 세율
+	 */
+	static double getMarginalTaxRate(long taxableBase) {
+		if (taxableBase <= 100_000_000L)
+			return 0.10;
+		if (taxableBase <= 500_000_000L)
+			return 0.20;
+		if (taxableBase <= 1_000_000_000L)
+			return 0.30;
+		if (taxableBase <= 3_000_000_000L)
+			return 0.40;
+		return 0.50;
+	}
+
+	/**
+	 * 수증자 관계에 따른 증여재산공제액
+	 */
+	static long getDeductionAmount(RecipientVo recipient) {
+		if (recipient == null || recipient.getRelationship() == null)
+			return 0L;
+		return switch (recipient.getRelationship()) {
+			case "배우자" -> 600_000_000L;
+			case "자녀", "손자녀" -> isMinor(recipient.getBirthDate()) ? 20_000_000L : 50_000_000L;
+			case "기타", "형제자매" -> 10_000_000L;
+			default -> 0L;
+		};
+	}
+
+	static boolean isMinor(Date birthDate) {
+		if (birthDate == null)
+			return false;
+		return Period.between(birthDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate(), LocalDate.now())
+			.getYears() < 19;
+	}
+
+	/**
+	 * 이번 증여액에 대한 수증자의 최종 세액 (기존 증여 합산 후 기존 세액 차감, 손자녀 할증 포함)
+	 *
+	 * @param currentGiftAmount 이번 증여액
+	 * @param priorGiftAmount 10년 이내 기존 증여액
+	 * @param deductionAmount 증여재산공제액
+	 * @param grandchild 손자녀 여부 (30% 할증)
+	 * @return 이번 증여에 대한 세액
+	 */
+	static long taxForCurrentGift(long currentGiftAmount, long priorGiftAmount, long deductionAmount,
+		boolean grandchild) {
+		long taxOnCumulative = calculateTax(Math.max(0, currentGiftAmount + priorGiftAmount - deductionAmount));
+		long taxOnPrior = calculateTax(Math.max(0, priorGiftAmount - deductionAmount));
+		long tax = taxOnCumulative - taxOnPrior;
+		if (grandchild) {
+			tax += (long)(tax * GRANDCHILD_SURCHARGE_RATE);
+		}
+		return tax;
+	}
+}
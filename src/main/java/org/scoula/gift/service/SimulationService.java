@@ -1,5 +1,7 @@
 package org.scoula.gift.service;
 
+import org.scoula.gift.dto.GiftSplitOptimizeRequestDto;
+import org.scoula.gift.dto.GiftSplitOptimizeResponseDto;
 import org.scoula.gift.dto.SimulationRequestDto;
 import org.scoula.gift.dto.SimulationResponseDto;
 import org.scoula.gift.dto.WillPageResponseDto;
@@ -10,5 +12,10 @@ public interface SimulationService {
 	 */
 	SimulationResponseDto runGiftTaxSimulation(SimulationRequestDto requestDto, String email);
 
+	/**
+	 * 총 증여액을 선택한 수증자들에게 나누는 분배안 중 예상 증여세가 가장 낮은 상위 분배안을 찾습니다.
+	 */
+	GiftSplitOptimizeResponseDto optimizeGiftSplit(GiftSplitOptimizeRequestDto requestDto, String email);
+
 	WillPageResponseDto getUserInfoForWillPage(String email);
 }
@@ -1,25 +1,31 @@
 package org.scoula.gift.service;
 
 import java.text.SimpleDateFormat;
-import java.time.LocalDate;
-import java.time.Period;
-import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.scoula.asset.domain.AssetStatusVo;
 import org.scoula.asset.mapper.AssetStatusMapper;
+import org.scoula.exception.UserAccessDeniedException;
 import org.scoula.exception.UserNotFoundException;
+import org.scoula.gift.cache.StrategyRuleCache;
+import org.scoula.gift.cache.StrategyRuleTable;
 import org.scoula.gift.domain.RecipientVo;
 import org.scoula.gift.domain.StrategyVo;
 import org.scoula.gift.dto.AssetGiftRequestDto;
 import org.scoula.gift.dto.CategoryGiftRequestDto;
+import org.scoula.gift.dto.GiftSplitOptimizeRequestDto;
+import org.scoula.gift.dto.GiftSplitOptimizeResponseDto;
+import org.scoula.gift.dto.GiftSplitPlanDto;
 import org.scoula.gift.dto.RecipientGiftRequestDto;
 import org.scoula.gift.dto.RecipientTaxDetailDto;
 import org.scoula.gift.dto.SimulationRequestDto;
@@ -27,9 +33,8 @@ import org.scoula.gift.dto.SimulationResponseDto;
 import org.scoula.gift.dto.StrategyResponseDto;
 import org.scoula.gift.dto.WillPageResponseDto;
 import org.scoula.gift.mapper.RecipientMapper;
-import org.scoula.gift.mapper.StrategyMapper;
 import org.scoula.user.domain.UserVo;
-import org.scoula.user.mapper.UserMapper;
+import org.scoula.user.service.UserSnapshotCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,15 +49,25 @@ import lombok.extern.log4j.Log4j2;
 public class SimulationServiceImpl implements SimulationService {
 
 	private final RecipientMapper recipientMapper;
-	private final StrategyMapper strategyMapper;
+	private final StrategyRuleCache strategyRuleCache;
 	private final AssetStatusMapper assetStatusMapper;
-	private final UserMapper userMapper;
+	private final UserSnapshotCache userSnapshotCache;
+	private final GiftSplitOptimizer giftSplitOptimizer;
 
 	// 가중치 계산 시 사용할 상수
 	private static final long WEIGHT_NORMALIZATION_FACTOR = 3_000_000L; // 300만원당 1점
 	private static final int MAX_WEIGHT_SCORE = 120;
 	private static final int TOP_STRATEGIES_LIMIT = 7;
 
+	// 증여 분배 최적화 기본값 및 상한
+	private static final long DEFAULT_SPLIT_UNITS = 200;
+	private static final long SPLIT_STEP_ROUNDING = 10_000L;
+	private static final int DEFAULT_SPLIT_TOP_N = 5;
+	private static final int MAX_SPLIT_TOP_N = 20;
+	private static final long DEFAULT_SPLIT_TIME_BUDGET_MS = 500L;
+	private static final long MIN_SPLIT_TIME_BUDGET_MS = 50L;
+	private static final long MAX_SPLIT_TIME_BUDGET_MS = 2_000L;
+
 	@Override
 	public SimulationResponseDto runGiftTaxSimulation(SimulationRequestDto requestDto, String email) {
 		TaxCalculationResult taxResult = calculateGiftTaxInternal(requestDto);
@@ -63,33 +78,121 @@ public class SimulationServiceImpl implements SimulationService {
 			strategies);
 	}
 
+	@Override
+	public GiftSplitOptimizeResponseDto optimizeGiftSplit(GiftSplitOptimizeRequestDto requestDto, String email) {
+		long totalAmount = requestDto.getTotalAmount() != null ? requestDto.getTotalAmount() : 0L;
+		if (totalAmount <= 0)
+			throw new IllegalArgumentException("총 증여액은 0보다 커야 합니다.");
+
+		List<Integer> recipientIds = requestDto.getRecipientIds() == null ? Collections.emptyList()
+			: requestDto.getRecipientIds().stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+		if (recipientIds.isEmpty() || recipientIds.size() > GiftSplitOptimizer.MAX_RECIPIENTS)
+			throw new IllegalArgumentException(
+				"수증자는 1명 이상 " + GiftSplitOptimizer.MAX_RECIPIENTS + "명 이하로 선택해야 합니다.");
+
+		long stepAmount = resolveStepAmount(totalAmount, requestDto.getStepAmount());
+		int topN = clamp(requestDto.getTopN(), DEFAULT_SPLIT_TOP_N, 1, MAX_SPLIT_TOP_N);
+		long timeBudgetMs = clamp(requestDto.getTimeBudgetMs(), DEFAULT_SPLIT_TIME_BUDGET_MS, MIN_SPLIT_TIME_BUDGET_MS,
+			MAX_SPLIT_TIME_BUDGET_MS);
+
+		// 본인 수증자만 분배 대상으로 허용 (요청 순서 유지)
+		Map<Integer, RecipientVo> recipientsById = recipientMapper.findByIds(recipientIds).stream()
+			.collect(Collectors.toMap(RecipientVo::getRecipientId, Function.identity(), (first, second) -> first));
+		List<RecipientVo> recipients = new ArrayList<>(recipientIds.size());
+		for (Integer recipientId : recipientIds) {
+			RecipientVo recipient = recipientsById.get(recipientId);
+			if (recipient == null || !email.equals(recipient.getEmail()))
+				throw new UserAccessDeniedException("분배 대상 수증자에 대한 접근 권한이 없습니다. ID: " + recipientId);
+			recipients.add(recipient);
+		}
+
+		int size = recipients.size();
+		long[] priorGiftAmounts = new long[size];
+		long[] deductionAmounts = new long[size];
+		boolean[] grandchild = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			RecipientVo recipient = recipients.get(i);
+			priorGiftAmounts[i] = recipient.getPriorGiftAmount() != null ? recipient.getPriorGiftAmount() : 0L;
+			deductionAmounts[i] = GiftTaxRules.getDeductionAmount(recipient);
+			grandchild[i] = "손자녀".equals(recipient.getRelationship());
+		}
+
+		GiftSplitOptimizer.Result result = giftSplitOptimizer.optimize(priorGiftAmounts, deductionAmounts, grandchild,
+			totalAmount, stepAmount, topN, timeBudgetMs);
+
+		List<GiftSplitPlanDto> plans = new ArrayList<>(result.getPlans().size());
+		for (GiftSplitOptimizer.Plan plan : result.getPlans()) {
+			List<RecipientTaxDetailDto> allocations = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				long amount = plan.getAmounts()[i];
+				long tax = GiftTaxRules.taxForCurrentGift(amount, priorGiftAmounts[i], deductionAmounts[i],
+					grandchild[i]);
+				allocations.add(new RecipientTaxDetailDto(recipients.get(i).getRecipientName(), amount, tax));
+			}
+			plans.add(new GiftSplitPlanDto(plan.getTotalTax(), allocations));
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("증여 분배 최적화: 수증자 {}명, 단위 {}원, 평가 {}건, 완료 여부 {}", size, stepAmount,
+				result.getEvaluatedScenarios(), result.isCompleted());
+		}
+		return new GiftSplitOptimizeResponseDto(stepAmount, plans, result.getEvaluatedScenarios(),
+			result.isCompleted());
+	}
+
+	/**
+	 * 분배 단위 금액을 정합니다. 생략 시 총액의 1/200을 만원 단위로 올림하고, 단위 수가 상한을 넘으면 거부합니다.
+	 */
+	private long resolveStepAmount(long totalAmount, Long requestedStepAmount) {
+		long stepAmount;
+		if (requestedStepAmount == null) {
+			long raw = (totalAmount + DEFAULT_SPLIT_UNITS - 1) / DEFAULT_SPLIT_UNITS;
+			stepAmount = Math.max(SPLIT_STEP_ROUNDING,
+				(raw + SPLIT_STEP_ROUNDING - 1) / SPLIT_STEP_ROUNDING * SPLIT_STEP_ROUNDING);
+		} else {
+			stepAmount = requestedStepAmount;
+		}
+		if (stepAmount <= 0 || totalAmount / stepAmount > GiftSplitOptimizer.MAX_UNITS)
+			throw new IllegalArgumentException(
+				"분배 단위 금액은 총 증여액의 1/" + GiftSplitOptimizer.MAX_UNITS + " 이상이어야 합니다.");
+		return stepAmount;
+	}
+
+	private static int clamp(Integer value, int defaultValue, int min, int max) {
+		return value == null ? defaultValue : Math.max(min, Math.min(max, value));
+	}
+
+	private static long clamp(Long value, long defaultValue, long min, long max) {
+		return value == null ? defaultValue : Math.max(min, Math.min(max, value));
+	}
+
 	private List<StrategyResponseDto> generateTaxSavingStrategies(SimulationRequestDto requestDto,
 		TaxCalculationResult taxResult) {
-		// 1. 조건에 맞는 모든 전략 규칙을 임시 리스트에 수집
+		// 1. 조건에 맞는 모든 전략 규칙을 임시 리스트에 수집 (규칙은 카테고리별로 미리 묶인 캐시 테이블 사용)
 		List<StrategyVo> matchedRules = new ArrayList<>();
-		List<StrategyVo> allRules = strategyMapper.findAll();
-		Map<String, List<StrategyVo>> rulesByCategory = allRules.stream()
-			.collect(Collectors.groupingBy(StrategyVo::getRuleCategory));
+		StrategyRuleTable ruleTable = strategyRuleCache.get();
 
-		checkTotalAssetRules(matchedRules, rulesByCategory.get("총 자산 규모"), taxResult);
-		checkRecipientRules(matchedRules, rulesByCategory.get("수증자 유형"), taxResult, requestDto);
-		checkGiftHistoryRules(matchedRules, rulesByCategory.get("기존 증여이력"), taxResult);
-		checkTaxPayerRules(matchedRules, rulesByCategory.get("증여세 납부자"), taxResult);
-		checkAssetTypeRules(matchedRules, rulesByCategory.get("자산 유형"), requestDto);
+		checkTotalAssetRules(matchedRules, ruleTable.rulesOf("총 자산 규모"), taxResult);
+		checkRecipientRules(matchedRules, ruleTable.rulesOf("수증자 유형"), taxResult, requestDto);
+		checkGiftHistoryRules(matchedRules, ruleTable.rulesOf("기존 증여이력"), taxResult);
+		checkTaxPayerRules(matchedRules, ruleTable.rulesOf("증여세 납부자"), taxResult);
+		checkAssetTypeRules(matchedRules, ruleTable.rulesOf("자산 유형"), requestDto);
 
 		// 2. 수집된 각 전략의 동적 가중치를 계산
 		List<WeightedStrategy> weightedStrategies = matchedRules.stream()
 			.map(rule -> new WeightedStrategy(rule, calculateDynamicWeight(rule, taxResult)))
 			.collect(Collectors.toList());
 
-		log.info("===== 동적 가중치 계산 결과 (정렬 전) =====");
-		weightedStrategies.forEach(ws ->
-			log.info("[전략 가중치] 코드: {}, 레벨: {}, 가중치: {}",
-				ws.getRule().getStrategyCode(),
-				ws.getRule().getPriorityLevel(),
-				String.format("%.2f", ws.getDynamicWeight()))
-		);
-		log.info("========================================");
+		// 요청마다 남기는 상세 로그는 디버그 레벨에서만 출력
+		boolean debug = log.isDebugEnabled();
+		if (debug) {
+			log.debug("===== 동적 가중치 계산 결과 (정렬 전) =====");
+			weightedStrategies.forEach(ws ->
+				log.debug("[전략 가중치] 코드: {}, 레벨: {}, 가중치: {}",
+					ws.getRule().getStrategyCode(),
+					ws.getRule().getPriorityLevel(),
+					String.format("%.2f", ws.getDynamicWeight()))
+			);
+		}
 
 		// 3. 2단계 정렬 로직 적용
 		Comparator<WeightedStrategy> multiLevelComparator = Comparator
@@ -97,22 +200,24 @@ public class SimulationServiceImpl implements SimulationService {
 			.thenComparing(Comparator.comparingDouble(WeightedStrategy::getDynamicWeight).reversed());
 
 		// 4. 정렬 후, 상위 7개만 선택하여 최종 DTO로 변환
-		log.info("===== 최종 추천 Top 7 전략 (정렬 후) =====");
-		List<StrategyResponseDto> top7Strategies = weightedStrategies.stream()
+		List<WeightedStrategy> topStrategies = weightedStrategies.stream()
 			.sorted(multiLevelComparator)
 			.limit(TOP_STRATEGIES_LIMIT)
-			// [로깅 추가] peek()를 사용하여 최종 선택된 7개의 전략 정보를 로그로 출력합니다.
-			.peek(ws -> log.info("[최종 선택] 코드: {}, 레벨: {}, 가중치: {}",
-				ws.getRule().getStrategyCode(),
-				ws.getRule().getPriorityLevel(),
-				String.format("%.2f", ws.getDynamicWeight())))
+			.collect(Collectors.toList());
+		if (debug) {
+			log.debug("===== 최종 추천 Top 7 전략 (정렬 후) =====");
+			topStrategies.forEach(ws ->
+				log.debug("[최종 선택] 코드: {}, 레벨: {}, 가중치: {}",
+					ws.getRule().getStrategyCode(),
+					ws.getRule().getPriorityLevel(),
+					String.format("%.2f", ws.getDynamicWeight()))
+			);
+		}
+		return topStrategies.stream()
 			.map(ws -> new StrategyResponseDto(ws.getRule().getRuleCategory(), ws.getRule().getMessage()))
 			.collect(Collectors.toList());
-		log.info("========================================");
-		return top7Strategies;
 	}
 
-	// ... (calculateGiftTaxInternal, calculateDynamicWeight 등 다른 메서드는 동일)
 	private TaxCalculationResult calculateGiftTaxInternal(SimulationRequestDto requestDto) {
 		long totalCurrentGiftAmount = 0L;
 		long totalEstimatedTax = 0L;
@@ -120,8 +225,11 @@ public class SimulationServiceImpl implements SimulationService {
 		List<RecipientVo> recipientsInSim = new ArrayList<>();
 		Map<Integer, RecipientCalculationDetail> detailsByRecipient = new HashMap<>();
 
+		// 요청에 포함된 수증자를 IN 쿼리 한 번으로 조회 (수증자 수만큼 조회하지 않음)
+		Map<Integer, RecipientVo> recipientsById = findRecipientsById(requestDto.getSimulationList());
+
 		for (RecipientGiftRequestDto giftRequest : requestDto.getSimulationList()) {
-			RecipientVo recipient = recipientMapper.findById(giftRequest.getRecipientId());
+			RecipientVo recipient = recipientsById.get(giftRequest.getRecipientId());
 			if (recipient == null)
 				continue;
 			recipientsInSim.add(recipient);
@@ -133,21 +241,18 @@ public class SimulationServiceImpl implements SimulationService {
 
 			long priorGiftAmount = (recipient.getPriorGiftAmount() != null) ? recipient.getPriorGiftAmount() : 0L;
 			long totalCumulativeGiftAmount = currentGiftAmount + priorGiftAmount;
-			long deductionAmount = getDeductionAmount(recipient);
+			long deductionAmount = GiftTaxRules.getDeductionAmount(recipient);
 
 			long cumulativeTaxableBase = Math.max(0, totalCumulativeGiftAmount - deductionAmount);
-			long taxOnCumulative = calculateTax(cumulativeTaxableBase);
+			double marginalTaxRate = GiftTaxRules.getMarginalTaxRate(cumulativeTaxableBase);
 
-			long priorTaxableBase = Math.max(0, priorGiftAmount - deductionAmount);
-			long taxOnPrior = calculateTax(priorTaxableBase);
-
-			long finalTaxForCurrentGift = taxOnCumulative - taxOnPrior;
-
-			double marginalTaxRate = getMarginalTaxRate(cumulativeTaxableBase);
+			// 할증 전 세액을 구한 뒤, 손자녀면 할증액을 따로 기록 (taxForCurrentGift의 할증 계산과 동일)
+			long finalTaxForCurrentGift = GiftTaxRules.taxForCurrentGift(currentGiftAmount, priorGiftAmount,
+				deductionAmount, false);
 			long surcharge = 0;
 
 			if ("손자녀".equals(recipient.getRelationship())) {
-				surcharge = (long)(finalTaxForCurrentGift * 0.3);
+				surcharge = (long)(finalTaxForCurrentGift * GiftTaxRules.GRANDCHILD_SURCHARGE_RATE);
 				finalTaxForCurrentGift += surcharge;
 			}
 
@@ -162,6 +267,18 @@ public class SimulationServiceImpl implements SimulationService {
 			detailsByRecipient);
 	}
 
+	private Map<Integer, RecipientVo> findRecipientsById(List<RecipientGiftRequestDto> simulationList) {
+		List<Integer> recipientIds = simulationList.stream()
+			.map(RecipientGiftRequestDto::getRecipientId)
+			.filter(Objects::nonNull)
+			.distinct()
+			.collect(Collectors.toList());
+		if (recipientIds.isEmpty())
+			return Collections.emptyMap();
+		return recipientMapper.findByIds(recipientIds).stream()
+			.collect(Collectors.toMap(RecipientVo::getRecipientId, Function.identity(), (first, second) -> first));
+	}
+
 	private double calculateDynamicWeight(StrategyVo rule, TaxCalculationResult taxResult) {
 		Map<Integer, RecipientCalculationDetail> detailsMap = taxResult.getDetailsByRecipient();
 		switch (rule.getStrategyCode()) {
@@ -193,12 +310,12 @@ public class SimulationServiceImpl implements SimulationService {
 				long totalExceededAmount = detailsMap.values().stream()
 					.mapToLong(d -> Math.max(0,
 						(d.getRecipient().getPriorGiftAmount() != null ? d.getRecipient().getPriorGiftAmount() : 0L)
-							- getDeductionAmount(d.getRecipient())))
+							- GiftTaxRules.getDeductionAmount(d.getRecipient())))
 					.sum();
 				double maxRateOnExceeded = detailsMap.values().stream()
 					.filter(d ->
 						(d.getRecipient().getPriorGiftAmount() != null ? d.getRecipient().getPriorGiftAmount() : 0L)
-							> getDeductionAmount(d.getRecipient()))
+							> GiftTaxRules.getDeductionAmount(d.getRecipient()))
 					.mapToDouble(RecipientCalculationDetail::getMarginalTaxRate).max().orElse(0.0);
 				long taxOnExceeded = (long)(totalExceededAmount * maxRateOnExceeded);
 				return Math.min(MAX_WEIGHT_SCORE, (double)taxOnExceeded / WEIGHT_NORMALIZATION_FACTOR);
@@ -236,7 +353,7 @@ public class SimulationServiceImpl implements SimulationService {
 		List<RecipientVo> recipients = taxResult.getRecipientsInSim();
 		boolean hasSpouse = recipients.stream().anyMatch(r -> "배우자".equals(r.getRelationship()));
 		boolean hasGrandChild = recipients.stream().anyMatch(r -> "손자녀".equals(r.getRelationship()));
-		boolean hasMinor = recipients.stream().anyMatch(r -> isMinor(r.getBirthDate()));
+		boolean hasMinor = recipients.stream().anyMatch(r -> GiftTaxRules.isMinor(r.getBirthDate()));
 		boolean hasUnmarriedChild = recipients.stream()
 			.anyMatch(r -> "자녀".equals(r.getRelationship()) && (r.getIsMarried() == null || !r.getIsMarried()));
 		boolean hasRealEstate = requestDto.getSimulationList()
@@ -292,7 +409,7 @@ public class SimulationServiceImpl implements SimulationService {
 				case "CUMULATIVE_GIFT_EXCEEDS_DEDUCTION":
 					if (taxResult.getRecipientsInSim().stream().anyMatch(r -> {
 						long prior = (r.getPriorGiftAmount() != null) ? r.getPriorGiftAmount() : 0L;
-						return prior > getDeductionAmount(r);
+						return prior > GiftTaxRules.getDeductionAmount(r);
 					}))
 						matchedRules.add(rule);
 					break;
@@ -326,13 +443,14 @@ public class SimulationServiceImpl implements SimulationService {
 		boolean hasCashOrSavings = assetCategoryCodes.contains("2") || assetCategoryCodes.contains("3");
 		List<Integer> businessAssetIds = requestDto.getSimulationList().stream()
 			.flatMap(r -> r.getCategoriesToGift().stream()).filter(c -> "5".equals(c.getAssetCategoryCode()))
-			.flatMap(c -> c.getAssets().stream()).map(AssetGiftRequestDto::getAssetId).collect(Collectors.toList());
+			.flatMap(c -> c.getAssets().stream()).map(AssetGiftRequestDto::getAssetId)
+			.filter(Objects::nonNull).distinct().collect(Collectors.toList());
 		boolean isGiftingToSoleProprietorship = false;
 		boolean isGiftingToCorporation = false;
 		if (!businessAssetIds.isEmpty()) {
-			for (Integer assetId : businessAssetIds) {
-				AssetStatusVo assetInfo = assetStatusMapper.findAssetStatusById(assetId);
-				if (assetInfo != null && assetInfo.getBusinessType() != null) {
+			// 사업 자산은 IN 쿼리 한 번으로 조회
+			for (AssetStatusVo assetInfo : assetStatusMapper.findAssetStatusByIds(businessAssetIds)) {
+				if (assetInfo.getBusinessType() != null) {
 					if ("개인 사업자".equals(assetInfo.getBusinessType()))
 						isGiftingToSoleProprietorship = true;
 					if ("법인 사업자".equals(assetInfo.getBusinessType()))
@@ -365,48 +483,6 @@ public class SimulationServiceImpl implements SimulationService {
 
 	// [수정] checkMaritalStatusRules 메서드는 삭제되었습니다.
 
-	private long calculateTax(long taxableBase) {
-		if (taxableBase <= 100_000_000L)
-			return (long)(taxableBase * 0.10);
-		if (taxableBase <= 500_000_000L)
-			return (long)(taxableBase * 0.20) - 10_000_000L;
-		if (taxableBase <= 1_000_000_000L)
-			return (long)(taxableBase * 0.30) - 60_000_000L;
-		if (taxableBase <= 3_000_000_000L)
-			return (long)(taxableBase * 0.40) - 160_000_000L;
-		return (long)(taxableBase * 0.50) - 460_000_000L;
-	}
-
-	private double getMarginalTaxRate(long taxableBase) {
-		if (taxableBase <= 100_000_000L)
-			return 0.10;
-		if (taxableBase <= 500_000_000L)
-			return 0.20;
-		if (taxableBase <= 1_000_000_000L)
-			return 0.30;
-		if (taxableBase <= 3_000_000_000L)
-			return 0.40;
-		return 0.50;
-	}
-
-	private long getDeductionAmount(RecipientVo recipient) {
-		if (recipient == null || recipient.getRelationship() == null)
-			return 0L;
-		return switch (recipient.getRelationship()) {
-			case "배우자" -> 600_000_000L;
-			case "자녀", "손자녀" -> isMinor(recipient.getBirthDate()) ? 20_000_000L : 50_000_000L;
-			case "기타", "형제자매" -> 10_000_000L;
-			default -> 0L;
-		};
-	}
-
-	private boolean isMinor(Date birthDate) {
-		if (birthDate == null)
-			return false;
-		return Period.between(birthDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate(), LocalDate.now())
-			.getYears() < 19;
-	}
-
 	@Getter
 	@AllArgsConstructor
 	private static class TaxCalculationResult {
@@ -435,7 +511,7 @@ public class SimulationServiceImpl implements SimulationService {
 
 	@Transactional(readOnly = true)
 	public WillPageResponseDto getUserInfoForWillPage(String email) {
-		UserVo userVo = userMapper.findByEmail(email);
+		UserVo userVo = userSnapshotCache.get(email);
 		if (userVo == null)
 			throw new UserNotFoundException("사용자를 찾을 수 없습니다. email: " + email);
 		Date birthDate = userVo.getBirth();
@@ -0,0 +1,230 @@
+package org.scoula.gpt.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * GPT 답변 캐시입니다. getChatResponse 앞단에서 OpenAI 호출을 줄이기 위해 사용합니다.
+ *
+ * 1단계 (정확 일치): 정규화된 질문 문자열을 키로 하는 LRU. 적중 시 임베딩/챗 API를 모두 생략합니다.
+ * 2단계 (의미 유사): 질문 임베딩과 캐시된 질문 임베딩의 코사인 유사도가 임계값 이상이면 저장된 답변을 재사용합니다.
+ *                  (질문 임베딩 1회만 호출하고 챗 완료 호출은 생략)
+ *
+ * 두 단계는 같은 저장소를 공유하며, 항목 수(maxEntries)와 TTL로 제거됩니다.
+ */
+@Log4j2
+@Component
+public class SemanticAnswerCache {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s?？!！.~]+$");
+
+	private final int maxEntries;
+	private final long ttlMillis;
+	private final double similarityThreshold;
+
+	/**
+	 * 접근 순서(access-order) LinkedHashMap으로 LRU를 구현합니다. 모든 접근은 this로 동기화합니다.
+	 */
+	private final LinkedHashMap<String, CachedAnswer> entries;
+
+	private final AtomicLong exactHits = new AtomicLong();
+	private final AtomicLong semanticHits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	public SemanticAnswerCache(
+		@Value("${gpt.cache.max.entries:1000}") int maxEntries,
+		@Value("${gpt.cache.ttl.minutes:60}") long ttlMinutes,
+		@Value("${gpt.cache.similarity.threshold:0.95}") double similarityThreshold) {
+		this.maxEntries = maxEntries;
+		this.ttlMillis = ttlMinutes * 60_000L;
+		this.similarityThreshold = similarityThreshold;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedAnswer> eldest) {
+				boolean evict = size() > SemanticAnswerCache.this.maxEntries;
+				if (evict) {
+					evictions.incrementAndGet();
+				}
+				return evict;
+			}
+		};
+		log.info("GPT 답변 캐시 초기화: 최대 {}개, TTL {}분, 유사도 임계값 {}", maxEntries, ttlMinutes, similarityThreshold);
+	}
+
+	/**
+	 * 캐시 키로 사용할 질문 정규화 (공백 정리, 소문자화, 끝의 물음표/마침표 제거)
+	 *
+	 * @param question 사용자 질문
+	 * @return 정규화된 질문
+	 */
+	public static String normalize(String question) {
+		if (question == null) {
+			return "";
+		}
+		String collapsed = WHITESPACE.matcher(question.trim()).replaceAll(" ");
+		return TRAILING_PUNCTUATION.matcher(collapsed).replaceAll("").toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 1단계: 정규화된 질문이 정확히 일치하는 답변을 조회합니다.
+	 * 적중하지 않아도 miss로 집계하지 않습니다. (2단계 조회 결과로 집계)
+	 *
+	 * @param normalizedQuestion normalize()로 정규화된 질문
+	 * @return 캐시된 답변
+	 */
+	public Optional<String> getExact(String normalizedQuestion) {
+		long now = System.currentTimeMillis();
+		synchronized (this) {
+			CachedAnswer cached = entries.get(normalizedQuestion);
+			if (cached == null) {
+				return Optional.empty();
+			}
+			if (cached.isExpired(now)) {
+				entries.remove(normalizedQuestion);
+				return Optional.empty();
+			}
+			exactHits.incrementAndGet();
+			return Optional.of(cached.answer);
+		}
+	}
+
+	/**
+	 * 2단계: 질문 임베딩과 가장 유사한 캐시 항목을 찾아, 유사도가 임계값 이상이면 답변을 반환합니다.
+	 * 적중 시 새 질문도 같은 답변으로 등록하여 다음부터는 1단계에서 바로 적중하도록 합니다.
+	 *
+	 * @param normalizedQuestion normalize()로 정규화된 질문
+	 * @param questionVector 질문 임베딩
+	 * @return 캐시된 답변
+	 */
+	public Optional<String> getSimilar(String normalizedQuestion, List<Float> questionVector) {
+		float[] unitQuery = toUnitVector(questionVector);
+		long now = System.currentTimeMillis();
+
+		// 락을 잡은 채로 스캔하지 않도록 항목 배열만 복사
+		CachedAnswer[] snapshot;
+		synchronized (this) {
+			snapshot = entries.values().toArray(new CachedAnswer[0]);
+		}
+
+		CachedAnswer best = null;
+		double bestScore = similarityThreshold;
+		for (CachedAnswer cached : snapshot) {
+			if (cached.isExpired(now) || cached.unitVector.length != unitQuery.length) {
+				continue;
+			}
+			double score = dot(unitQuery, cached.unitVector);
+			if (score >= bestScore) {
+				bestScore = score;
+				best = cached;
+			}
+		}
+
+		if (best == null) {
+			misses.incrementAndGet();
+			return Optional.empty();
+		}
+		semanticHits.incrementAndGet();
+		log.debug("의미 유사 캐시 적중 (유사도: {})", bestScore);
+		synchronized (this) {
+			entries.put(normalizedQuestion, new CachedAnswer(best.answer, unitQuery, best.expiresAt));
+		}
+		return Optional.of(best.answer);
+	}
+
+	/**
+	 * 새로 생성된 답변을 캐시에 저장합니다.
+	 *
+	 * @param normalizedQuestion normalize()로 정규화된 질문
+	 * @param questionVector 질문 임베딩
+	 * @param answer GPT 답변
+	 */
+	public void put(String normalizedQuestion, List<Float> questionVector, String answer) {
+		CachedAnswer cached = new CachedAnswer(answer, toUnitVector(questionVector),
+			System.currentTimeMillis() + ttlMillis);
+		synchronized (this) {
+			entries.put(normalizedQuestion, cached);
+		}
+	}
+
+	/**
+	 * 캐시를 모두 비웁니다. (참고 자료가 바뀌어 기존 답변을 재사용하면 안 될 때 호출)
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public long getExactHitCount() {
+		return exactHits.get();
+	}
+
+	public long getSemanticHitCount() {
+		return semanticHits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	private static float[] toUnitVector(List<Float> vector) {
+		float[] unit = new float[vector.size()];
+		double sumOfSquares = 0.0;
+		for (int i = 0; i < unit.length; i++) {
+			unit[i] = vector.get(i);
+			sumOfSquares += (double)unit[i] * unit[i];
+		}
+		if (sumOfSquares > 0.0) {
+			float inverseNorm = (float)(1.0 / Math.sqrt(sumOfSquares));
+			for (int i = 0; i < unit.length; i++) {
+				unit[i] *= inverseNorm;
+			}
+		}
+		return unit;
+	}
+
+	private static double dot(float[] a, float[] b) {
+		float sum = 0f;
+		for (int i = 0; i < a.length; i++) {
+			sum += a[i] * b[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * 캐시 항목 (답변, 정규화된 질문 벡터, 만료 시각)
+	 */
+	private static final class CachedAnswer {
+		private final String answer;
+		private final float[] unitVector;
+		private final long expiresAt;
+
+		private CachedAnswer(String answer, float[] unitVector, long expiresAt) {
+			this.answer = answer;
+			this.unitVector = unitVector;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+}
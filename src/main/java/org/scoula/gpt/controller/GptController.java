@@ -1,15 +1,20 @@
 package org.scoula.gpt.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+
 import org.scoula.exception.ErrorResponse;
 import org.scoula.gpt.dto.ChatRequestDto;
 import org.scoula.gpt.dto.ChatResponseDto;
 import org.scoula.gpt.service.GptService;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult; // --- 1. DeferredResult 임포트
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -79,4 +84,53 @@ public class GptController {
 		log.info("DeferredResult 반환, 서블릿 스레드 해제.");
 		return deferredResult;
 	}
-}
\ No newline at end of file
+
+	@ApiOperation(value = "GPT 채팅 요청 (스트리밍)",
+		notes = "AI 답변을 Server-Sent Events로 토큰 단위로 전송합니다. "
+			+ "token 이벤트({\"token\": \"...\"})가 반복되고, 마지막에 전체 답변이 담긴 done 이벤트 또는 error 이벤트가 전송됩니다.")
+	@ApiResponses({
+		@ApiResponse(code = 200, message = "SSE 스트림 시작"),
+		@ApiResponse(code = 400, message = "잘못된 요청 형식", response = ErrorResponse.class)
+	})
+	@PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter chatStream(
+		@ApiParam(value = "사용자의 질문 정보", required = true) @RequestBody ChatRequestDto chatRequestDto) {
+
+		log.info("스트리밍 챗 요청 수신: {}", chatRequestDto.getQuestion());
+		SseEmitter emitter = new SseEmitter(ASYNC_TIMEOUT_MS);
+		emitter.onTimeout(() -> log.warn("GPT 스트리밍 요청 시간 초과 (Timeout)"));
+
+		// 토큰이 도착할 때마다 token 이벤트 전송 (JSON으로 감싸 줄바꿈이 SSE 프레임을 깨지 않도록 함)
+		// 클라이언트가 연결을 끊으면 예외를 던져 OpenAI 스트림 수신도 중단시킴
+		gptService.streamChatResponse(chatRequestDto, token -> {
+				try {
+					emitter.send(SseEmitter.event()
+						.name("token")
+						.data(Collections.singletonMap("token", token), MediaType.APPLICATION_JSON));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			})
+			.whenComplete((response, throwable) -> {
+				try {
+					if (throwable != null) {
+						log.error("GPT 스트리밍 처리 중 예외 발생", throwable);
+						emitter.send(SseEmitter.event()
+							.name("error")
+							.data(Collections.singletonMap("message", "죄송합니다. 답변을 생성하는 중 오류가 발생했습니다."),
+								MediaType.APPLICATION_JSON));
+					} else {
+						emitter.send(SseEmitter.event().name("done").data(response, MediaType.APPLICATION_JSON));
+					}
+					emitter.complete();
+				} catch (IOException | IllegalStateException e) {
+					// 이미 연결이 끊겼거나 타임아웃으로 종료된 경우
+					log.debug("SSE 종료 이벤트 전송 실패: {}", e.getMessage());
+					emitter.completeWithError(e);
+				}
+			});
+
+		// 서블릿 스레드는 여기서 해제되고, 이후 토큰은 ragTaskExecutor 스레드에서 전송됨
+		return emitter;
+	}
+}
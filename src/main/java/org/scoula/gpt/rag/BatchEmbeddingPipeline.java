@@ -0,0 +1,218 @@
+package org.scoula.gpt.rag;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.openai.client.OpenAIClient;
+import com.openai.models.embeddings.CreateEmbeddingResponse;
+import com.openai.models.embeddings.Embedding;
+import com.openai.models.embeddings.EmbeddingCreateParams;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * RAG 인제스트용 배치 임베딩 파이프라인입니다.
+ *
+ * - 청크들을 추정 토큰 수 기준으로 묶어 임베딩 API 한 번에 여러 입력을 보냅니다. (청크당 1회 → 배치당 1회)
+ * - Semaphore로 동시에 진행 중인 배치 요청 수를 제한하므로, Executor 큐가 넘쳐 작업이 거부되지 않습니다.
+ * - 실패한 배치는 지수 백오프(+지터)로 재시도하고, 최종 실패한 청크 수는 결과에 기록합니다.
+ */
+@Log4j2
+public class BatchEmbeddingPipeline {
+
+	private static final long MAX_BACKOFF_MS = 30_000L;
+
+	private final OpenAIClient openAiClient;
+	private final String model;
+	private final Executor executor;
+	private final int maxTokensPerBatch;
+	private final int maxInputsPerBatch;
+	private final int maxConcurrency;
+	private final int maxAttempts;
+	private final long initialBackoffMs;
+
+	/**
+	 * @param openAiClient OpenAI 클라이언트
+	 * @param model 임베딩 모델명
+	 * @param executor 배치 요청을 실행할 Executor
+	 * @param maxTokensPerBatch 배치 하나에 담을 최대 추정 토큰 수
+	 * @param maxInputsPerBatch 배치 하나에 담을 최대 입력 수
+	 * @param maxConcurrency 동시에 진행할 최대 배치 요청 수
+	 * @param maxAttempts 배치당 최대 시도 횟수 (최초 1회 포함)
+	 * @param initialBackoffMs 첫 재시도 대기 시간 (이후 2배씩 증가)
+	 */
+	public BatchEmbeddingPipeline(OpenAIClient openAiClient, String model, Executor executor,
+		int maxTokensPerBatch, int maxInputsPerBatch, int maxConcurrency, int maxAttempts, long initialBackoffMs) {
+		this.openAiClient = openAiClient;
+		this.model = model;
+		this.executor = executor;
+		this.maxTokensPerBatch = maxTokensPerBatch;
+		this.maxInputsPerBatch = maxInputsPerBatch;
+		this.maxConcurrency = maxConcurrency;
+		this.maxAttempts = maxAttempts;
+		this.initialBackoffMs = initialBackoffMs;
+	}
+
+	/**
+	 * 모든 청크를 배치로 임베딩합니다. 호출 스레드는 모든 배치가 끝날 때까지 대기합니다.
+	 *
+	 * @param chunks 임베딩할 청크 목록
+	 * @return 임베딩 결과 (성공한 청크와 벡터, 실패한 청크 수)
+	 * @throws InterruptedException 대기 중 인터럽트된 경우
+	 */
+	public Result embedAll(List<String> chunks) throws InterruptedException {
+		List<List<String>> batches = partition(chunks);
+		log.info("총 {}개의 청크를 {}개의 배치로 나누어 임베딩합니다. (최대 동시 요청: {})",
+			chunks.size(), batches.size(), maxConcurrency);
+
+		float[][] vectors = new float[chunks.size()][];
+		AtomicInteger failedChunks = new AtomicInteger();
+		Semaphore permits = new Semaphore(maxConcurrency);
+		List<CompletableFuture<Void>> futures = new ArrayList<>(batches.size());
+
+		int offset = 0;
+		for (List<String> batch : batches) {
+			int batchOffset = offset;
+			offset += batch.size();
+
+			permits.acquire();
+			try {
+				futures.add(CompletableFuture.runAsync(() -> {
+					try {
+						embedBatchWithRetry(batch, batchOffset, vectors, failedChunks);
+					} finally {
+						permits.release();
+					}
+				}, executor));
+			} catch (RuntimeException e) {
+				// Executor가 작업을 거부한 경우에도 permit이 새지 않도록 반환
+				permits.release();
+				failedChunks.addAndGet(batch.size());
+				log.error("임베딩 배치 제출 실패 (청크 {}개)", batch.size(), e);
+			}
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+		List<String> embeddedTexts = new ArrayList<>(chunks.size());
+		List<float[]> embeddedVectors = new ArrayList<>(chunks.size());
+		for (int i = 0; i < vectors.length; i++) {
+			if (vectors[i] != null) {
+				embeddedTexts.add(chunks.get(i));
+				embeddedVectors.add(vectors[i]);
+			}
+		}
+		return new Result(embeddedTexts, embeddedVectors, failedChunks.get(), batches.size());
+	}
+
+	/**
+	 * 하나의 배치를 임베딩하고, 실패 시 지수 백오프로 재시도합니다.
+	 * 결과 벡터는 vectors[batchOffset + 응답 index] 위치에 기록됩니다.
+	 */
+	private void embedBatchWithRetry(List<String> batch, int batchOffset, float[][] vectors,
+		AtomicInteger failedChunks) {
+		long backoffMs = initialBackoffMs;
+		for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+			try {
+				EmbeddingCreateParams params = EmbeddingCreateParams.builder()
+					.model(model)
+					.inputOfArrayOfStrings(batch)
+					.build();
+				CreateEmbeddingResponse response = openAiClient.embeddings().create(params);
+
+				List<Embedding> data = response.data();
+				if (data == null || data.size() != batch.size()) {
+					throw new IllegalStateException("임베딩 응답 개수가 요청과 다릅니다. (요청: " + batch.size()
+						+ ", 응답: " + (data == null ? 0 : data.size()) + ")");
+				}
+				for (Embedding embedding : data) {
+					vectors[batchOffset + (int)embedding.index()] = toArray(embedding.embedding());
+				}
+				log.info("  > [배치 임베딩 완료] 청크 {}개 (시도 {}회)", batch.size(), attempt);
+				return;
+
+			} catch (RuntimeException e) {
+				if (attempt == maxAttempts) {
+					failedChunks.addAndGet(batch.size());
+					log.error("임베딩 배치가 {}회 시도 후 최종 실패했습니다. (청크 {}개, 첫 청크: '{}...')",
+						maxAttempts, batch.size(), preview(batch.get(0)), e);
+					return;
+				}
+				long sleepMs = backoffMs + ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1);
+				log.warn("임베딩 배치 실패 ({}/{}), {}ms 후 재시도합니다: {}", attempt, maxAttempts, sleepMs, e.getMessage());
+				try {
+					Thread.sleep(sleepMs);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					failedChunks.addAndGet(batch.size());
+					return;
+				}
+				backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+			}
+		}
+	}
+
+	/**
+	 * 추정 토큰 수와 입력 개수 제한에 맞춰 청크를 순서대로 배치로 묶습니다.
+	 */
+	private List<List<String>> partition(List<String> chunks) {
+		List<List<String>> batches = new ArrayList<>();
+		List<String> current = new ArrayList<>();
+		int currentTokens = 0;
+		for (String chunk : chunks) {
+			int tokens = estimateTokens(chunk);
+			if (!current.isEmpty()
+				&& (currentTokens + tokens > maxTokensPerBatch || current.size() >= maxInputsPerBatch)) {
+				batches.add(current);
+				current = new ArrayList<>();
+				currentTokens = 0;
+			}
+			current.add(chunk);
+			currentTokens += tokens;
+		}
+		if (!current.isEmpty()) {
+			batches.add(current);
+		}
+		return batches;
+	}
+
+	/**
+	 * 토크나이저 없이 토큰 수를 보수적으로 추정합니다.
+	 * (UTF-8 2바이트당 1토큰: 한글 1자 ≒ 1.5토큰, 영문 1자 ≒ 0.5토큰)
+	 */
+	static int estimateTokens(String text) {
+		return text.getBytes(StandardCharsets.UTF_8).length / 2 + 1;
+	}
+
+	private static float[] toArray(List<Float> boxed) {
+		float[] array = new float[boxed.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = boxed.get(i);
+		}
+		return array;
+	}
+
+	private static String preview(String chunk) {
+		return chunk.substring(0, Math.min(chunk.length(), 30)).replaceAll("\\r?\\n", " ");
+	}
+
+	/**
+	 * 배치 임베딩 결과. texts와 vectors는 같은 순서입니다.
+	 */
+	@Getter
+	@AllArgsConstructor(access = AccessLevel.PACKAGE)
+	public static class Result {
+		private final List<String> texts;
+		private final List<float[]> vectors;
+		private final int failedCount;
+		private final int batchCount;
+	}
+}
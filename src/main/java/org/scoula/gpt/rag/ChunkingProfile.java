@@ -0,0 +1,128 @@
+package org.scoula.gpt.rag;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+import lombok.Getter;
+
+/**
+ * 문서별 청킹 규칙입니다. (본문 시작/종료 마커, 제목 폰트 크기, 머리글/꼬리글 패턴, 제외할 섹션 접두어)
+ *
+ * 코퍼스 디렉터리의 문서는 같은 이름의 프로필 파일(예: tax_guide.pdf → tax_guide.pdf.profile.properties)로
+ * 규칙을 지정할 수 있으며, 파일이 없으면 DEFAULT 규칙(문서 처음부터 끝까지, 제외 없음)을 사용합니다.
+ *
+ * <pre>
+ * start.marker=가계부실위험지수(HDRI)
+ * end.marker=경제금융용어 700선  집필자
+ * heading.font.size=11.5
+ * header.footer.pattern=^경제금융용어 700선.*$
+ * excluded.prefixes=## ABC|## 경제금융용어 700선
+ * max.chunk.chars=10000
+ * </pre>
+ */
+@Getter
+public final class ChunkingProfile {
+
+	/**
+	 * 프로필 파일 확장자 (문서 파일명 뒤에 붙임)
+	 */
+	public static final String FILE_SUFFIX = ".profile.properties";
+
+	private static final float DEFAULT_HEADING_FONT_SIZE = 11.5f;
+	private static final int DEFAULT_MAX_CHUNK_CHARS = 10000;
+
+	/**
+	 * 마커/머리글/제외 규칙이 없는 기본 프로필
+	 */
+	public static final ChunkingProfile DEFAULT = new ChunkingProfile(null, null, DEFAULT_HEADING_FONT_SIZE,
+		null, Collections.emptyList(), DEFAULT_MAX_CHUNK_CHARS);
+
+	/**
+	 * "경제금융용어 700선" PDF 전용 프로필 (목차/부록 스킵, 머리글 제거, 색인·집필자 섹션 제외)
+	 */
+	public static final ChunkingProfile ECONOMIC_TERMS = new ChunkingProfile(
+		"가계부실위험지수(HDRI)",
+		"경제금융용어 700선  집필자",
+		DEFAULT_HEADING_FONT_SIZE,
+		"^경제금융용어 700선.*$",
+		List.of("## ABC", "## 경제금융용어 700선"),
+		DEFAULT_MAX_CHUNK_CHARS);
+
+	/**
+	 * 이 텍스트와 일치하는 줄부터 본문으로 봄 (null이면 문서 처음부터)
+	 */
+	private final String startMarker;
+	/**
+	 * 이 텍스트를 포함하는 줄부터 이후를 무시 (null이면 문서 끝까지)
+	 */
+	private final String endMarker;
+	private final float headingFontSize;
+	/**
+	 * 줄 단위로 제거할 머리글/꼬리글 패턴 (null이면 제거하지 않음)
+	 */
+	private final Pattern headerFooterPattern;
+	private final List<String> excludedPrefixes;
+	private final int maxChunkChars;
+
+	public ChunkingProfile(String startMarker, String endMarker, float headingFontSize,
+		String headerFooterRegex, List<String> excludedPrefixes, int maxChunkChars) {
+		this.startMarker = startMarker;
+		this.endMarker = endMarker;
+		this.headingFontSize = headingFontSize;
+		this.headerFooterPattern = headerFooterRegex == null ? null : Pattern.compile("(?m)" + headerFooterRegex);
+		this.excludedPrefixes = List.copyOf(excludedPrefixes);
+		this.maxChunkChars = maxChunkChars;
+	}
+
+	/**
+	 * 프로필 파일을 읽습니다. 지정하지 않은 항목은 DEFAULT 값을 사용합니다.
+	 *
+	 * @param path 프로필 파일 경로
+	 * @return 청킹 프로필
+	 * @throws IOException 파일 읽기 실패 시
+	 */
+	public static ChunkingProfile load(Path path) throws IOException {
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+
+		List<String> excludedPrefixes = new ArrayList<>();
+		String prefixes = properties.getProperty("excluded.prefixes");
+		if (prefixes != null) {
+			for (String prefix : prefixes.split("\\|")) {
+				if (!prefix.isBlank()) {
+					excludedPrefixes.add(prefix.strip());
+				}
+			}
+		}
+		return new ChunkingProfile(
+			emptyToNull(properties.getProperty("start.marker")),
+			emptyToNull(properties.getProperty("end.marker")),
+			Float.parseFloat(properties.getProperty("heading.font.size", String.valueOf(DEFAULT_HEADING_FONT_SIZE))),
+			emptyToNull(properties.getProperty("header.footer.pattern")),
+			excludedPrefixes,
+			Integer.parseInt(properties.getProperty("max.chunk.chars", String.valueOf(DEFAULT_MAX_CHUNK_CHARS))));
+	}
+
+	/**
+	 * 청킹 결과에 영향을 주는 모든 값을 나열한 문자열. (스냅샷 해시에 포함하여 규칙이 바뀌면 재임베딩)
+	 */
+	public String fingerprint() {
+		return startMarker + '\u0000' + endMarker + '\u0000' + headingFontSize + '\u0000'
+			+ (headerFooterPattern == null ? null : headerFooterPattern.pattern()) + '\u0000'
+			+ String.join("|", excludedPrefixes) + '\u0000' + maxChunkChars;
+	}
+
+	private static String emptyToNull(String value) {
+		return value == null || value.isBlank() ? null : value.strip();
+	}
+}
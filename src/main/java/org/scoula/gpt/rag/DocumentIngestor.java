@@ -0,0 +1,129 @@
+package org.scoula.gpt.rag;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 문서 하나를 벡터 인덱스로 만드는 인제스트 단계입니다.
+ * 스냅샷 확인 → (PDF: Layout-Aware 파싱 / Markdown·텍스트: 제목 기준 분할) → 청킹 → 배치 임베딩 → 스냅샷 저장
+ */
+@Log4j2
+public class DocumentIngestor {
+
+	private static final Pattern HEADING_SPLIT_PATTERN = Pattern.compile("(?m)^(?=##\\s)");
+
+	private final BatchEmbeddingPipeline pipeline;
+	private final String embeddingModel;
+
+	/**
+	 * @param pipeline 배치 임베딩 파이프라인
+	 * @param embeddingModel 임베딩 모델명 (스냅샷 해시에 포함)
+	 */
+	public DocumentIngestor(BatchEmbeddingPipeline pipeline, String embeddingModel) {
+		this.pipeline = pipeline;
+		this.embeddingModel = embeddingModel;
+	}
+
+	/**
+	 * 인제스트할 수 있는 문서 파일인지 확장자로 확인합니다. (.pdf, .md, .txt)
+	 */
+	public static boolean isSupported(String fileName) {
+		String lower = fileName.toLowerCase(Locale.ROOT);
+		return lower.endsWith(".pdf") || lower.endsWith(".md") || lower.endsWith(".txt");
+	}
+
+	/**
+	 * 문서 내용과 청킹 규칙, 임베딩 모델로 계산한 해시. 셋 중 하나라도 바뀌면 다시 임베딩해야 합니다.
+	 */
+	public byte[] contentHash(byte[] content, ChunkingProfile profile) {
+		return EmbeddingSnapshot.sourceHash(content, embeddingModel + '\u0000' + profile.fingerprint());
+	}
+
+	/**
+	 * 문서를 인덱스로 만듭니다. 같은 해시의 스냅샷이 있으면 파싱/임베딩 없이 복원합니다.
+	 *
+	 * @param fileName 문서 파일명 (확장자로 형식 판단)
+	 * @param content 문서 바이트
+	 * @param profile 청킹 규칙
+	 * @param snapshotFile 이 문서의 스냅샷 파일 경로
+	 * @return 문서 인덱스
+	 * @throws IOException 파싱 실패 또는 임베딩 대기 중 인터럽트 시
+	 */
+	public VectorIndex ingest(String fileName, byte[] content, ChunkingProfile profile, Path snapshotFile)
+		throws IOException {
+		byte[] hash = contentHash(content, profile);
+		Optional<VectorIndex> snapshotIndex = EmbeddingSnapshot.read(snapshotFile, hash);
+		if (snapshotIndex.isPresent()) {
+			log.info("[{}] RAG 스냅샷에서 인덱스를 복원했습니다. 총 {}개의 벡터 (경로: {})",
+				fileName, snapshotIndex.get().size(), snapshotFile.toAbsolutePath());
+			return snapshotIndex.get();
+		}
+
+		// 1~3단계: 파싱 → '하이브리드' 청킹 → Junk 청크 필터링 (섹션 단위 스트리밍)
+		List<String> chunks = new ArrayList<>();
+		MarkdownChunker chunker = new MarkdownChunker(profile, chunks::add);
+		if (fileName.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+			try (PDDocument document = PDDocument.load(content)) {
+				LayoutAwareStripper stripper = new LayoutAwareStripper(profile, chunker);
+				stripper.writeText(document, Writer.nullWriter());
+			}
+		} else {
+			splitMarkdownSections(new String(content, StandardCharsets.UTF_8), fileName, chunker);
+		}
+		log.info("[{}] 청크 분할 완료. ({}개 제외) -> (최종: {}개)", fileName, chunker.getExcludedChunks(), chunks.size());
+
+		// 4단계: 토큰 기준 배치 임베딩
+		BatchEmbeddingPipeline.Result result;
+		try {
+			result = pipeline.embedAll(chunks);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("임베딩 작업 대기 중 인터럽트되었습니다.", e);
+		}
+
+		// 5단계: 정규화된 primitive 벡터 인덱스 생성
+		VectorIndex index = VectorIndex.of(result.getTexts(), result.getVectors());
+		log.info("[{}] 임베딩 완료. 총 {}개의 벡터 (배치 {}회, 실패 청크 {}개, 차원: {})",
+			fileName, index.size(), result.getBatchCount(), result.getFailedCount(), index.dimension());
+
+		// 6단계: 모든 청크가 임베딩된 경우에만 스냅샷 저장 (일부 실패한 인덱스가 고정되지 않도록)
+		if (result.getFailedCount() > 0 || index.isEmpty()) {
+			log.warn("[{}] 임베딩 실패 청크가 {}개 있어 RAG 스냅샷을 저장하지 않습니다.", fileName, result.getFailedCount());
+			return index;
+		}
+		try {
+			EmbeddingSnapshot.write(snapshotFile, hash, index);
+			log.info("[{}] RAG 스냅샷을 저장했습니다: {}", fileName, snapshotFile.toAbsolutePath());
+		} catch (IOException e) {
+			log.warn("[{}] RAG 스냅샷 저장 중 오류 발생", fileName, e);
+		}
+		return index;
+	}
+
+	/**
+	 * Markdown/텍스트 문서를 '## ' 제목 기준으로 나누어 섹션 consumer로 넘깁니다.
+	 * 첫 제목 앞의 본문(또는 제목이 없는 문서)은 파일명을 제목으로 붙여 하나의 섹션으로 만듭니다.
+	 */
+	private static void splitMarkdownSections(String text, String fileName, Consumer<String> sectionConsumer) {
+		String[] sections = HEADING_SPLIT_PATTERN.split(text);
+		for (String section : sections) {
+			String trimmed = section.trim();
+			if (trimmed.isEmpty()) {
+				continue;
+			}
+			sectionConsumer.accept(trimmed.startsWith("## ") ? trimmed : "## " + fileName + "\n\n" + trimmed);
+		}
+	}
+}
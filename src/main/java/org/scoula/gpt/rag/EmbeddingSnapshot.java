@@ -0,0 +1,163 @@
+package org.scoula.gpt.rag;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * RAG 임베딩 결과(청크 텍스트 + 정규화된 벡터)를 바이너리 스냅샷 파일로 저장하고 읽어오는 유틸리티입니다.
+ * 원본 문서의 해시가 같으면 재시작 시 임베딩 API를 호출하지 않고 스냅샷만으로 인덱스를 복원합니다.
+ *
+ * 파일 구조 (Big-Endian)
+ * <pre>
+ * [magic:int][version:int][sourceHash:32 bytes][count:int][dimension:int]
+ * [vectors: float x count x dimension]
+ * [texts: (byteLength:int, UTF-8 bytes) x count]
+ * </pre>
+ * 벡터 구간을 헤더 바로 뒤(4바이트 정렬)에 두어, 메모리 매핑된 버퍼에서 한 번에 bulk 복사합니다.
+ */
+@Log4j2
+public final class EmbeddingSnapshot {
+
+	private static final int MAGIC = 0x52414731; // "RAG1"
+
+	/**
+	 * 청킹 규칙이나 파일 구조가 바뀌면 올려서 기존 스냅샷을 무효화합니다.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int HASH_LENGTH = 32;
+	private static final int HEADER_LENGTH = 4 + 4 + HASH_LENGTH + 4 + 4;
+
+	private EmbeddingSnapshot() {
+	}
+
+	/**
+	 * 원본 문서 내용과 임베딩 모델명으로 스냅샷 키(SHA-256)를 계산합니다.
+	 * 문서가 같아도 모델이 바뀌면 벡터 공간이 달라지므로 모델명도 키에 포함합니다.
+	 *
+	 * @param content 원본 문서 바이트
+	 * @param embeddingModel 임베딩 모델명
+	 * @return 32바이트 해시
+	 */
+	public static byte[] sourceHash(byte[] content, String embeddingModel) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(embeddingModel.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte)0);
+			digest.update(content);
+			return digest.digest();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 스냅샷 파일을 메모리 매핑으로 읽어 인덱스를 복원합니다.
+	 * 파일이 없거나, 형식이 다르거나, 원본 해시가 일치하지 않으면 빈 Optional을 반환합니다.
+	 *
+	 * @param path 스냅샷 파일 경로
+	 * @param expectedHash 현재 원본 문서의 해시
+	 * @return 복원된 인덱스
+	 */
+	public static Optional<VectorIndex> read(Path path, byte[] expectedHash) {
+		if (!Files.isReadable(path)) {
+			return Optional.empty();
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_LENGTH) {
+				log.warn("RAG 스냅샷 파일이 손상되었습니다 (헤더 부족): {}", path);
+				return Optional.empty();
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+				log.info("RAG 스냅샷 형식/버전이 달라 사용하지 않습니다: {}", path);
+				return Optional.empty();
+			}
+			byte[] storedHash = new byte[HASH_LENGTH];
+			buffer.get(storedHash);
+			if (!Arrays.equals(storedHash, expectedHash)) {
+				log.info("원본 문서가 변경되어 RAG 스냅샷을 사용하지 않습니다: {}", path);
+				return Optional.empty();
+			}
+
+			int count = buffer.getInt();
+			int dimension = buffer.getInt();
+			float[] vectors = new float[count * dimension];
+			buffer.asFloatBuffer().get(vectors);
+			buffer.position(buffer.position() + vectors.length * Float.BYTES);
+
+			String[] texts = new String[count];
+			for (int i = 0; i < count; i++) {
+				byte[] bytes = new byte[buffer.getInt()];
+				buffer.get(bytes);
+				texts[i] = new String(bytes, StandardCharsets.UTF_8);
+			}
+			return Optional.of(VectorIndex.ofNormalized(texts, vectors, dimension));
+
+		} catch (IOException | RuntimeException e) {
+			log.warn("RAG 스냅샷 파일을 읽는 중 오류가 발생하여 사용하지 않습니다: {}", path, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 인덱스를 스냅샷 파일로 저장합니다.
+	 * 임시 파일에 먼저 쓴 뒤 이동하므로, 저장 도중 종료되어도 기존 스냅샷이 깨지지 않습니다.
+	 *
+	 * @param path 스냅샷 파일 경로
+	 * @param sourceHash 원본 문서의 해시
+	 * @param index 저장할 인덱스
+	 * @throws IOException 파일 쓰기 실패 시
+	 */
+	public static void write(Path path, byte[] sourceHash, VectorIndex index) throws IOException {
+		if (sourceHash.length != HASH_LENGTH) {
+			throw new IllegalArgumentException("sourceHash는 " + HASH_LENGTH + "바이트여야 합니다.");
+		}
+		Path absolutePath = path.toAbsolutePath();
+		if (absolutePath.getParent() != null) {
+			Files.createDirectories(absolutePath.getParent());
+		}
+		Path tempPath = absolutePath.resolveSibling(absolutePath.getFileName() + ".tmp");
+
+		try (OutputStream fileOut = Files.newOutputStream(tempPath);
+			 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 1 << 16))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.write(sourceHash);
+			out.writeInt(index.size());
+			out.writeInt(index.dimension());
+			for (float value : index.normalizedVectors()) {
+				out.writeFloat(value);
+			}
+			for (int row = 0; row < index.size(); row++) {
+				byte[] bytes = index.textAt(row).getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+		}
+
+		try {
+			Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -0,0 +1,259 @@
+package org.scoula.gpt.rag;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * PDF의 레이아웃(폰트 크기, Y좌표)을 분석하여 Markdown을 생성하는 커스텀 Stripper.
+ * [V3 개선]
+ * 1. '상태 플래그'(contentStarted, contentEnded)를 도입하여 목차(TOC)와 부록(집필자 등)을 파싱 단계에서부터 제외.
+ * 2. Y좌표를 이용한 헤더/푸터 영역 필터링 로직 추가.
+ * 3. 목차의 "・・・・・・" 패턴을 명시적으로 필터링.
+ * [V4 개선 - 스트리밍]
+ * 1. 문서 전체 Markdown을 만들지 않고, '## ' 제목이 나올 때마다 직전 섹션을 sectionConsumer로 바로 내보냄.
+ *    (버퍼에는 현재 섹션만 남으므로 메모리 사용량이 섹션 크기로 제한됨)
+ * 2. 끝 문자 확인을 toString().endsWith() 대신 마지막 두 글자 검사로 처리하여 O(1)로 수행. (기존은 문서 크기에 비례)
+ * 3. Junk 판별을 정규식 대신 문자 범위 비교로 처리.
+ * [V5 개선 - 문서별 프로필]
+ * 1. 본문 시작/종료 마커와 제목 폰트 크기 기준을 ChunkingProfile에서 가져옴. (시작 마커가 없으면 처음부터 본문)
+ *
+ * 사용법: writeText(document, Writer.nullWriter())로 실행하면 문서 끝에서 마지막 섹션까지 모두 내보냅니다.
+ */
+@Log4j2
+public class LayoutAwareStripper extends PDFTextStripper {
+
+	// [튜닝 포인트 2] 단락 구분을 위한 Y좌표 간격 (폰트 크기의 1.5배)
+	private static final float PARAGRAPH_SPACE_THRESHOLD = 1.5f;
+
+	// [튜닝 포인트 3] 헤더/푸터 영역 Y좌표 (A4 페이지 842pt 기준)
+	private static final float HEADER_Y_LIMIT = 70.0f;
+	private static final float FOOTER_Y_LIMIT = 770.0f; // 페이지 번호 '1', '2' 등이 찍히는 Y좌표
+
+	private static final String TOC_PATTERN = "・・・・・・";
+
+	/**
+	 * 문서별 규칙 (본문 시작/종료 마커, 제목 폰트 크기 기준)
+	 */
+	private final ChunkingProfile profile;
+
+	/**
+	 * 완성된 섹션('## 제목'으로 시작하는 Markdown 조각)을 받는 consumer
+	 */
+	private final Consumer<String> sectionConsumer;
+
+	/**
+	 * 현재 작성 중인 섹션 (직전 '## ' 제목 이후의 텍스트만 보관)
+	 */
+	private final StringBuilder section = new StringBuilder();
+	private float lastY = -1;
+	private boolean isNewLine = true;
+	private int emittedSections = 0;
+
+	// --- [개선] 상태 플래그 ---
+	/**
+	 * true가 되기 전까지 모든 텍스트를 무시 (목차 스킵용)
+	 */
+	private boolean contentStarted = false;
+	/**
+	 * true가 되면 이후 모든 텍스트를 무시 (부록 스킵용)
+	 */
+	private boolean contentEnded = false;
+
+	/**
+	 * @param profile 문서별 청킹 규칙
+	 * @param sectionConsumer 완성된 섹션을 받을 consumer
+	 */
+	public LayoutAwareStripper(ChunkingProfile profile, Consumer<String> sectionConsumer) throws IOException {
+		super();
+		this.profile = profile;
+		this.sectionConsumer = sectionConsumer;
+		this.contentStarted = profile.getStartMarker() == null;
+		// [필수!] PDFBox가 텍스트를 시각적 Y/X 좌표 순서로 정렬하도록 강제
+		setSortByPosition(true);
+	}
+
+	/**
+	 * 지금까지 내보낸 섹션 수
+	 */
+	public int getEmittedSections() {
+		return emittedSections;
+	}
+
+	/**
+	 * PDF의 텍스트 조각(TextPosition)을 하나씩 처리하며 Markdown을 생성합니다.
+	 * (상태 관리 로직이 적용된 최종 버전)
+	 */
+	@Override
+	protected void writeString(String text, List<TextPosition> textPositions) throws IOException {
+
+		// 1. Guard Clauses (유효성 검사)
+		if (textPositions.isEmpty()) {
+			return;
+		}
+		String trimmedText = text.trim();
+		if (trimmedText.isEmpty()) {
+			return;
+		}
+
+		// --- [개선] 상태 머신(State Machine) 로직 ---
+		// 2-1. [상태 3] 본문이 종료되었다면, 이후 모든 텍스트 무시
+		if (contentEnded) {
+			return;
+		}
+
+		// 2-2. 본문 종료 마커("집필자")를 감지하면, 상태를 3으로 변경하고 현재 텍스트 무시
+		if (profile.getEndMarker() != null && trimmedText.contains(profile.getEndMarker())) {
+			log.info("본문 종료 마커('{}') 감지. 이후 텍스트를 무시합니다.", profile.getEndMarker());
+			contentEnded = true;
+			return;
+		}
+
+		// 2-3. [상태 1] 아직 본문이 시작되지 않았다면,
+		if (!contentStarted) {
+			// 2-4. 본문 시작 마커(첫 용어)를 감지하면 상태를 2로 변경 (파싱 시작)
+			if (trimmedText.equals(profile.getStartMarker())) {
+				log.info("본문 시작 마커('{}') 감지. 파싱을 시작합니다.", profile.getStartMarker());
+				contentStarted = true;
+				// (fall-through하여 이 텍스트부터 파싱을 시작함)
+			} else {
+				// 2-5. 시작 마커가 아니면 (머리말, 목차 등) 현재 텍스트 무시
+				log.trace("본문 시작 전 텍스트 무시: {}", trimmedText);
+				return;
+			}
+		}
+		// --- [상태 2] (contentStarted = true, contentEnded = false) ---
+		// 3. 노이즈 필터링 (TOC, 헤더, 푸터)
+		// 3-1. [개선] 목차(TOC)의 "...." 패턴이 포함된 라인 폐기
+		if (trimmedText.contains(TOC_PATTERN)) {
+			log.trace("목차(TOC) 패턴 감지. 텍스트 무시: {}", trimmedText);
+			return;
+		}
+
+		// 3-2. [개선] 헤더/푸터 Y좌표 영역 텍스트 폐기
+		TextPosition firstPos = textPositions.get(0);
+		float currentY = firstPos.getY();
+		float currentFontSize = firstPos.getFontSizeInPt();
+
+		if (currentY < HEADER_Y_LIMIT || currentY > FOOTER_Y_LIMIT) {
+			log.trace("헤더/푸터 Y좌표({}pt) 텍스트 무시: {}", currentY, trimmedText);
+			return; // (페이지 번호 '1', '2', '3'... 등이 여기서 걸러짐)
+		}
+
+		// 4. 줄바꿈(isNewLine) 여부 판단 및 줄바꿈/공백 삽입
+		if (lastY == -1) { // 문서 또는 페이지의 첫 시작
+			isNewLine = true;
+		} else if (Math.abs(currentY - lastY) > 1.0f) { // Y좌표가 1.0pt 이상 변경됨 (새 줄)
+			isNewLine = true;
+
+			if (Math.abs(currentY - lastY) > (currentFontSize * PARAGRAPH_SPACE_THRESHOLD)) {
+				if (section.length() > 0 && trailingNewlines() < 2) {
+					section.append("\n\n"); // 새 문단
+				}
+			} else { // 단순 줄바꿈
+				if (section.length() > 0 && trailingNewlines() == 0) {
+					section.append("\n");
+				}
+			}
+		} else { // Y좌표가 거의 동일 (같은 줄)
+			isNewLine = false;
+			if (section.length() > 0 && !endsWith(' ') && !endsWith('\n')) {
+				section.append(" "); // 같은 줄 단어 사이 공백
+			}
+		}
+
+		// 5. "Junk Content" 식별 (RAG에 불필요한 색인 문자 등: "ㄱ", "ㄴ", ... / "A", "B", ...)
+		boolean isJunkContent = isIndexLetter(trimmedText);
+
+		// 6. 텍스트 내용 추가 (핵심 로직)
+		if (isNewLine && currentFontSize > profile.getHeadingFontSize() && !isJunkContent) {
+			// Case 1: [진짜 제목] (새 줄 + 큰 폰트 + Junk 아님) → 직전 섹션을 내보내고 새 섹션 시작
+			emitSection();
+			section.append("## ").append(trimmedText);
+
+		} else if (isNewLine && isJunkContent) {
+			// Case 2: [가짜 제목/내용] (새 줄 + Junk 임)
+			log.trace("Junk 헤더('{}') 무시", trimmedText);
+			section.setLength(section.length() - trailingNewlines());
+			// (텍스트는 append하지 않음)
+
+		} else if (isNewLine) {
+			// Case 3: [일반 텍스트 줄 시작]
+			section.append(trimmedText);
+
+		} else {
+			// Case 4: [같은 줄 텍스트]
+			section.append(text); // trim 안함
+		}
+
+		// 7. 다음 비교를 위해 마지막 위치 정보 업데이트
+		if (!(isNewLine && isJunkContent)) {
+			lastY = textPositions.get(textPositions.size() - 1).getY();
+		}
+	}
+
+	// 페이지가 끝날 때마다 Y좌표 리셋
+	@Override
+	protected void writePageEnd() {
+		// [개선] 본문이 시작된 후에만 페이지 구분을 추가
+		if (contentStarted && !contentEnded) {
+			section.append("\n\n");
+		}
+		lastY = -1;
+	}
+
+	// 문서가 끝나면 남아있는 마지막 섹션을 내보냄
+	@Override
+	protected void endDocument(PDDocument document) throws IOException {
+		emitSection();
+		super.endDocument(document);
+	}
+
+	/**
+	 * 현재 섹션을 consumer로 내보내고 버퍼를 비웁니다.
+	 */
+	private void emitSection() {
+		if (section.length() == 0) {
+			return;
+		}
+		String completed = section.toString().trim();
+		section.setLength(0);
+		if (!completed.isEmpty()) {
+			emittedSections++;
+			sectionConsumer.accept(completed);
+		}
+	}
+
+	/**
+	 * 버퍼 끝의 연속 줄바꿈 수 (0, 1, 2). 마지막 두 글자만 확인하므로 O(1).
+	 */
+	private int trailingNewlines() {
+		int length = section.length();
+		if (length == 0 || section.charAt(length - 1) != '\n') {
+			return 0;
+		}
+		return (length >= 2 && section.charAt(length - 2) == '\n') ? 2 : 1;
+	}
+
+	private boolean endsWith(char c) {
+		int length = section.length();
+		return length > 0 && section.charAt(length - 1) == c;
+	}
+
+	/**
+	 * 사전식 색인 문자("ㄱ"~"ㅎ", "A"~"Z") 한 글자인지 확인합니다.
+	 */
+	private static boolean isIndexLetter(String text) {
+		if (text.length() != 1) {
+			return false;
+		}
+		char c = text.charAt(0);
+		return (c >= 'ㄱ' && c <= 'ㅎ') || (c >= 'A' && c <= 'Z');
+	}
+}
@@ -0,0 +1,152 @@
+package org.scoula.gpt.rag;
+
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * '하이브리드' Markdown 기반 Semantic Chunker.
+ * LayoutAwareStripper가 내보내는 섹션('## 제목'으로 시작)을 하나씩 받아, 정제/분할/필터링한 청크를
+ * 바로 chunkConsumer로 내보냅니다. 문서 전체를 모아두지 않으므로 섹션 단위로 처리됩니다.
+ *
+ * 1. 섹션이 최대 길이를 넘으면 문단(\n\n) 기준으로 나누고, 각 하위 청크 앞에 제목을 다시 붙입니다.
+ * 2. 프로필의 머리글/꼬리글, 페이지 번호, 과도한 빈 줄을 제거합니다. (정규식은 미리 컴파일)
+ * 3. 너무 짧거나 제목이 없는 청크, 프로필에 지정된 본문이 아닌 섹션(예: "## ABC", 부록)은 제외합니다.
+ */
+@Log4j2
+public class MarkdownChunker implements Consumer<String> {
+
+	private static final String PARAGRAPH_SPLITTER = "\n\n";
+
+	private static final Pattern PARAGRAPH_SPLIT_PATTERN = Pattern.compile(PARAGRAPH_SPLITTER, Pattern.LITERAL);
+	private static final Pattern PAGE_NUMBER_PATTERN = Pattern.compile("(?m)^[ivxlcdm\\d]+\\s*$");
+	private static final Pattern EXCESS_BLANK_LINES_PATTERN = Pattern.compile("\n\\s*\n+");
+	private static final Pattern LINE_BREAK_PATTERN = Pattern.compile("\\r?\\n");
+
+	/**
+	 * 문서별 규칙 (머리글/꼬리글 패턴, 본문이 아닌 섹션의 제목 접두어)
+	 */
+	private final ChunkingProfile profile;
+	private final int maxChunkChars;
+	private final Consumer<String> chunkConsumer;
+	private int emittedChunks = 0;
+	private int excludedChunks = 0;
+
+	/**
+	 * @param profile 문서별 청킹 규칙 (청크 최대 글자 수 포함)
+	 * @param chunkConsumer 완성된 청크를 받을 consumer
+	 */
+	public MarkdownChunker(ChunkingProfile profile, Consumer<String> chunkConsumer) {
+		this.profile = profile;
+		this.maxChunkChars = profile.getMaxChunkChars();
+		this.chunkConsumer = chunkConsumer;
+	}
+
+	/**
+	 * 섹션 하나를 청크로 분할하여 내보냅니다.
+	 *
+	 * @param rawSection '## 제목'으로 시작하는 Markdown 섹션
+	 */
+	@Override
+	public void accept(String rawSection) {
+		String cleanedChunk = rawSection.trim();
+		if (cleanedChunk.isEmpty()) {
+			return;
+		}
+
+		// 1: 청크가 최대 길이를 넘지 않으면 정제 후 바로 내보냄 (정상)
+		if (cleanedChunk.length() <= maxChunkChars) {
+			emitIfValid(postProcessChunk(cleanedChunk));
+			return;
+		}
+
+		log.warn("청크가 최대 길이( {}자)를 초과했습니다 (현재 {}자). 문단 기준으로 2차 분할합니다. (시작: '{}...')",
+			maxChunkChars, cleanedChunk.length(), preview(cleanedChunk));
+
+		// 2: 문단(`\n\n`) 기준으로 2차 분할
+		String[] subChunks = PARAGRAPH_SPLIT_PATTERN.split(cleanedChunk);
+
+		if (subChunks.length <= 1) {
+			// 문단 분할이 불가능한 거대 청크 (최악의 경우) → 강제로 잘라서 유효성 검사 없이 추가
+			log.error("청크가 너무 길지만 문단으로 분할할 수 없습니다. 강제로 {}자에서 자릅니다. (시작: '{}...')",
+				maxChunkChars, preview(cleanedChunk));
+			emit(postProcessChunk(cleanedChunk.substring(0, maxChunkChars)));
+			return;
+		}
+
+		// 3: 첫 번째 조각은 '제목' (예: "## 용어 A"), 나머지 문단에 제목을 붙여 하위 청크 생성
+		String titleHeader = subChunks[0];
+		StringBuilder currentSubChunk = new StringBuilder(titleHeader);
+		for (int i = 1; i < subChunks.length; i++) {
+			String paragraph = subChunks[i].trim();
+			if (paragraph.isEmpty()) {
+				continue;
+			}
+			if (currentSubChunk.length() + paragraph.length() + PARAGRAPH_SPLITTER.length() > maxChunkChars) {
+				// 넘으면, 지금까지 만든 청크를 내보내고 '제목' + '현재 문단'으로 새 청크 시작
+				emitIfValid(postProcessChunk(currentSubChunk.toString()));
+				currentSubChunk.setLength(0);
+				currentSubChunk.append(titleHeader).append(PARAGRAPH_SPLITTER).append(paragraph);
+			} else {
+				currentSubChunk.append(PARAGRAPH_SPLITTER).append(paragraph);
+			}
+		}
+		// 마지막에 남아있는 하위 청크도 내보냄
+		emitIfValid(postProcessChunk(currentSubChunk.toString()));
+	}
+
+	public int getEmittedChunks() {
+		return emittedChunks;
+	}
+
+	public int getExcludedChunks() {
+		return excludedChunks;
+	}
+
+	/**
+	 * 청크에서 불필요한 공백, 머리글/꼬리글 등을 제거합니다.
+	 */
+	private String postProcessChunk(String chunk) {
+		String result = chunk;
+		if (profile.getHeaderFooterPattern() != null) {
+			result = profile.getHeaderFooterPattern().matcher(result).replaceAll(""); // 머리글/꼬리글
+		}
+		result = PAGE_NUMBER_PATTERN.matcher(result).replaceAll(""); // 페이지 번호
+		result = EXCESS_BLANK_LINES_PATTERN.matcher(result).replaceAll(PARAGRAPH_SPLITTER); // 과도한 빈 줄
+		return result.trim();
+	}
+
+	/**
+	 * 청크가 RAG에 사용하기에 유효한지(제목으로 시작하는지, 최소 길이를 넘는지) 검사 후 내보냅니다.
+	 */
+	private void emitIfValid(String chunk) {
+		// "## " (4자) + 최소한의 제목/내용 (예: 20자)
+		boolean valid = chunk.length() > 24 && chunk.startsWith("## ");
+		if (!valid) {
+			if (!chunk.isEmpty()) {
+				log.debug("너무 짧거나 헤딩이 없어 제외된 청크: '{}...'", preview(chunk));
+			}
+			return;
+		}
+		emit(chunk);
+	}
+
+	/**
+	 * 본문이 아닌 섹션을 제외하고 chunkConsumer로 내보냅니다.
+	 */
+	private void emit(String chunk) {
+		for (String prefix : profile.getExcludedPrefixes()) {
+			if (chunk.startsWith(prefix)) {
+				excludedChunks++;
+				return;
+			}
+		}
+		emittedChunks++;
+		chunkConsumer.accept(chunk);
+	}
+
+	private static String preview(String chunk) {
+		return LINE_BREAK_PATTERN.matcher(chunk.substring(0, Math.min(chunk.length(), 50))).replaceAll(" ");
+	}
+}
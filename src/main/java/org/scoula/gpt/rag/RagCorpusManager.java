@@ -0,0 +1,299 @@
+package org.scoula.gpt.rag;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 여러 문서로 구성된 RAG 코퍼스를 관리합니다.
+ *
+ * - 문서별 인덱스를 보관하고, 모든 문서를 합친 검색용 인덱스를 불변 스냅샷(Corpus)으로 만들어 한 번에 교체합니다.
+ *   검색 쪽은 volatile 참조만 읽으므로, 재구성 중에도 항상 완성된 인덱스만 보게 됩니다.
+ * - 코퍼스 디렉터리를 WatchService로 감시하여, 추가/변경된 문서만 다시 임베딩하고 삭제된 문서는 제거합니다.
+ *   (문서 내용과 청킹 프로필의 해시가 같으면 변경 이벤트가 와도 다시 임베딩하지 않음)
+ */
+@Log4j2
+public class RagCorpusManager implements AutoCloseable {
+
+	/**
+	 * 마지막 파일 이벤트 이후 이 시간 동안 추가 이벤트가 없으면 변경을 반영합니다. (파일 복사 중 반복 이벤트 대응)
+	 */
+	private static final long QUIET_PERIOD_MS = 2_000L;
+
+	private static final String CORPUS_DOCUMENT_PREFIX = "corpus:";
+
+	private final DocumentIngestor ingestor;
+	private final Path snapshotDirectory;
+	/**
+	 * 인덱스가 교체된 뒤 호출됩니다. (기존 답변 캐시 무효화 등)
+	 */
+	private final Runnable onSwap;
+
+	private volatile Corpus corpus = Corpus.EMPTY;
+	private volatile WatchService watchService;
+	private Thread watcherThread;
+
+	/**
+	 * @param ingestor 문서 인제스트 단계
+	 * @param snapshotDirectory 코퍼스 디렉터리 문서의 스냅샷 저장 디렉터리
+	 * @param onSwap 인덱스 교체 후 호출할 콜백
+	 */
+	public RagCorpusManager(DocumentIngestor ingestor, Path snapshotDirectory, Runnable onSwap) {
+		this.ingestor = ingestor;
+		this.snapshotDirectory = snapshotDirectory;
+		this.onSwap = onSwap;
+	}
+
+	/**
+	 * 현재 코퍼스 전체의 검색용 인덱스
+	 */
+	public VectorIndex index() {
+		return corpus.mergedIndex;
+	}
+
+	/**
+	 * 현재 코퍼스에 포함된 문서 ID 목록
+	 */
+	public Set<String> documentIds() {
+		return corpus.documents.keySet();
+	}
+
+	/**
+	 * 문서를 인제스트하여 코퍼스에 추가(또는 교체)합니다. 내용과 프로필이 이전과 같으면 아무것도 하지 않습니다.
+	 *
+	 * @param documentId 문서 ID
+	 * @param fileName 문서 파일명 (형식 판단용)
+	 * @param content 문서 바이트
+	 * @param profile 청킹 규칙
+	 * @param snapshotFile 이 문서의 스냅샷 파일 경로
+	 * @throws IOException 인제스트 실패 시
+	 */
+	public void ingest(String documentId, String fileName, byte[] content, ChunkingProfile profile,
+		Path snapshotFile) throws IOException {
+		byte[] hash = ingestor.contentHash(content, profile);
+		Document current = corpus.documents.get(documentId);
+		if (current != null && Arrays.equals(current.hash, hash)) {
+			log.debug("[{}] 내용과 프로필이 같아 다시 임베딩하지 않습니다.", documentId);
+			return;
+		}
+
+		VectorIndex index = ingestor.ingest(fileName, content, profile, snapshotFile);
+		swap(documentId, new Document(hash, index));
+	}
+
+	/**
+	 * 문서를 코퍼스에서 제거합니다.
+	 */
+	public void remove(String documentId) {
+		if (corpus.documents.containsKey(documentId)) {
+			swap(documentId, null);
+		}
+	}
+
+	/**
+	 * 코퍼스 디렉터리의 모든 문서를 (변경된 것만) 인제스트하고, 사라진 문서는 제거합니다.
+	 *
+	 * @param directory 코퍼스 디렉터리
+	 * @throws IOException 디렉터리 읽기 실패 시
+	 */
+	public void scanDirectory(Path directory) throws IOException {
+		Set<String> present = new LinkedHashSet<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for (Path file : files) {
+				String fileName = file.getFileName().toString();
+				if (Files.isRegularFile(file) && DocumentIngestor.isSupported(fileName)) {
+					present.add(fileName);
+				}
+			}
+		}
+		for (String fileName : present) {
+			reloadQuietly(directory, fileName);
+		}
+		for (String documentId : corpus.documents.keySet()) {
+			if (documentId.startsWith(CORPUS_DOCUMENT_PREFIX)
+				&& !present.contains(documentId.substring(CORPUS_DOCUMENT_PREFIX.length()))) {
+				remove(documentId);
+			}
+		}
+	}
+
+	/**
+	 * 코퍼스 디렉터리를 스캔한 뒤, 별도 스레드에서 변경을 감시하기 시작합니다.
+	 *
+	 * @param directory 코퍼스 디렉터리 (없으면 생성)
+	 * @throws IOException 디렉터리 생성/감시 등록 실패 시
+	 */
+	public synchronized void watch(Path directory) throws IOException {
+		if (watcherThread != null) {
+			throw new IllegalStateException("이미 코퍼스 디렉터리를 감시 중입니다.");
+		}
+		Files.createDirectories(directory);
+		WatchService service = directory.getFileSystem().newWatchService();
+		directory.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+		this.watchService = service;
+
+		scanDirectory(directory);
+
+		watcherThread = new Thread(() -> watchLoop(directory, service), "rag-corpus-watcher");
+		watcherThread.setDaemon(true);
+		watcherThread.start();
+		log.info("RAG 코퍼스 디렉터리 감시 시작: {} (문서 {}개)", directory.toAbsolutePath(), corpus.documents.size());
+	}
+
+	/**
+	 * 디렉터리 감시를 중단합니다.
+	 */
+	@Override
+	public synchronized void close() {
+		WatchService service = this.watchService;
+		if (service == null) {
+			return;
+		}
+		try {
+			service.close();
+		} catch (IOException e) {
+			log.warn("WatchService 종료 중 오류 발생", e);
+		}
+		watcherThread.interrupt();
+		watchService = null;
+		watcherThread = null;
+	}
+
+	private void watchLoop(Path directory, WatchService service) {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				WatchKey key = service.take();
+				Set<String> changed = new LinkedHashSet<>();
+				boolean overflow = false;
+
+				// 조용한 구간이 올 때까지 이벤트를 모아 한 번에 반영
+				while (key != null) {
+					for (WatchEvent<?> event : key.pollEvents()) {
+						if (event.kind() == OVERFLOW) {
+							overflow = true;
+						} else {
+							changed.add(documentFileName(((Path)event.context()).getFileName().toString()));
+						}
+					}
+					if (!key.reset()) {
+						log.warn("RAG 코퍼스 디렉터리를 더 이상 감시할 수 없습니다: {}", directory);
+						return;
+					}
+					key = service.poll(QUIET_PERIOD_MS, TimeUnit.MILLISECONDS);
+				}
+
+				if (overflow) {
+					scanDirectory(directory);
+					continue;
+				}
+				for (String fileName : changed) {
+					if (!DocumentIngestor.isSupported(fileName)) {
+						continue;
+					}
+					if (Files.isRegularFile(directory.resolve(fileName))) {
+						reloadQuietly(directory, fileName);
+					} else {
+						log.info("[{}] 문서가 삭제되어 코퍼스에서 제거합니다.", fileName);
+						remove(CORPUS_DOCUMENT_PREFIX + fileName);
+					}
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			log.info("RAG 코퍼스 디렉터리 감시 종료");
+		} catch (IOException | RuntimeException e) {
+			log.error("RAG 코퍼스 디렉터리 감시 중 오류 발생", e);
+		}
+	}
+
+	/**
+	 * 코퍼스 디렉터리의 문서 하나를 인제스트합니다. 실패해도 기존 인덱스는 그대로 유지합니다.
+	 */
+	private void reloadQuietly(Path directory, String fileName) {
+		try {
+			Path file = directory.resolve(fileName);
+			Path profileFile = directory.resolve(fileName + ChunkingProfile.FILE_SUFFIX);
+			ChunkingProfile profile = Files.isRegularFile(profileFile)
+				? ChunkingProfile.load(profileFile) : ChunkingProfile.DEFAULT;
+			ingest(CORPUS_DOCUMENT_PREFIX + fileName, fileName, Files.readAllBytes(file), profile,
+				snapshotDirectory.resolve(fileName + ".bin"));
+		} catch (IOException | RuntimeException e) {
+			log.error("[{}] 문서 인제스트 실패. 기존 인덱스를 유지합니다.", fileName, e);
+		}
+	}
+
+	/**
+	 * 프로필 파일 이벤트는 해당 문서 파일의 변경으로 취급합니다.
+	 */
+	private static String documentFileName(String fileName) {
+		return fileName.endsWith(ChunkingProfile.FILE_SUFFIX)
+			? fileName.substring(0, fileName.length() - ChunkingProfile.FILE_SUFFIX.length())
+			: fileName;
+	}
+
+	/**
+	 * 문서 하나를 추가/교체/제거한 새 코퍼스를 만들어 교체합니다. (document가 null이면 제거)
+	 * 교체는 직렬화하고, 검색 쪽은 락 없이 volatile 참조만 읽습니다.
+	 */
+	private synchronized void swap(String documentId, Document document) {
+		Map<String, Document> documents = new LinkedHashMap<>(corpus.documents);
+		if (document == null) {
+			documents.remove(documentId);
+		} else {
+			documents.put(documentId, document);
+		}
+		Corpus next = new Corpus(documents);
+		this.corpus = next;
+		log.info("RAG 코퍼스 인덱스 교체 완료 ([{}] {}). 문서 {}개, 총 {}개의 벡터",
+			documentId, document == null ? "제거" : "반영", documents.size(), next.mergedIndex.size());
+		onSwap.run();
+	}
+
+	/**
+	 * 문서 하나의 (내용+프로필 해시, 인덱스)
+	 */
+	private static final class Document {
+		private final byte[] hash;
+		private final VectorIndex index;
+
+		private Document(byte[] hash, VectorIndex index) {
+			this.hash = hash;
+			this.index = index;
+		}
+	}
+
+	/**
+	 * 불변 코퍼스 스냅샷 (문서별 인덱스 + 전체를 합친 검색용 인덱스)
+	 */
+	private static final class Corpus {
+		private static final Corpus EMPTY = new Corpus(Collections.emptyMap());
+
+		private final Map<String, Document> documents;
+		private final VectorIndex mergedIndex;
+
+		private Corpus(Map<String, Document> documents) {
+			this.documents = Collections.unmodifiableMap(documents);
+			this.mergedIndex = VectorIndex.concat(documents.values().stream().map(document -> document.index)
+				.collect(Collectors.toList()));
+		}
+	}
+}
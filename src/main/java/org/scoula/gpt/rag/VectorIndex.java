@@ -0,0 +1,373 @@
+package org.scoula.gpt.rag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * RAG 검색용 인메모리 벡터 인덱스입니다.
+ *
+ * - 모든 청크 임베딩을 하나의 연속된 float[]에 행 단위(row-major)로 저장합니다.
+ * - 인덱스 생성 시점에 각 벡터를 단위 벡터로 정규화하므로, 검색 시 코사인 유사도는 내적만으로 계산됩니다.
+ * - 전체 정렬 대신 크기 K의 최소 힙으로 상위 K개만 유지합니다.
+ * - 청크 수가 PARALLEL_THRESHOLD 이상이면 스캔 구간을 나누어 여러 코어에서 병렬로 검색합니다.
+ *
+ * 생성 후에는 변경되지 않는 불변 객체이므로, 여러 스레드에서 동시에 검색해도 안전합니다.
+ */
+public final class VectorIndex {
+
+	/**
+	 * 병렬 스캔을 시작하는 최소 청크 수 (이보다 작으면 단일 스레드 스캔이 더 빠름)
+	 */
+	private static final int PARALLEL_THRESHOLD = 4096;
+
+	/**
+	 * 병렬 스캔 시 한 작업이 담당하는 최소 청크 수
+	 */
+	private static final int MIN_SLICE_SIZE = 1024;
+
+	private static final VectorIndex EMPTY = new VectorIndex(new String[0], new float[0], 0);
+
+	private final String[] texts;
+	private final float[] vectors;
+	private final int dimension;
+
+	private VectorIndex(String[] texts, float[] vectors, int dimension) {
+		this.texts = texts;
+		this.vectors = vectors;
+		this.dimension = dimension;
+	}
+
+	/**
+	 * 비어있는 인덱스를 반환합니다. (RAG 초기화 전 기본값)
+	 */
+	public static VectorIndex empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * (텍스트 → 임베딩) 맵으로부터 인덱스를 생성합니다.
+	 * 차원이 다른 벡터는 인덱스에 포함하지 않습니다.
+	 *
+	 * @param embeddings 청크 텍스트와 임베딩 벡터 맵
+	 * @return 정규화된 벡터 인덱스
+	 */
+	public static VectorIndex of(Map<String, List<Float>> embeddings) {
+		List<String> textList = new ArrayList<>(embeddings.size());
+		List<float[]> vectorList = new ArrayList<>(embeddings.size());
+		for (Map.Entry<String, List<Float>> entry : embeddings.entrySet()) {
+			textList.add(entry.getKey());
+			vectorList.add(toArray(entry.getValue()));
+		}
+		return of(textList, vectorList);
+	}
+
+	/**
+	 * 텍스트 목록과 같은 순서의 임베딩 목록으로부터 인덱스를 생성합니다.
+	 * 차원이 다른 벡터는 인덱스에 포함하지 않습니다.
+	 *
+	 * @param textList 청크 텍스트 목록
+	 * @param vectorList 청크 임베딩 목록 (textList와 같은 순서)
+	 * @return 정규화된 벡터 인덱스
+	 */
+	public static VectorIndex of(List<String> textList, List<float[]> vectorList) {
+		if (textList.size() != vectorList.size()) {
+			throw new IllegalArgumentException(
+				"텍스트 수(" + textList.size() + ")와 벡터 수(" + vectorList.size() + ")가 다릅니다.");
+		}
+		if (textList.isEmpty()) {
+			return EMPTY;
+		}
+
+		int dimension = vectorList.get(0).length;
+		int count = 0;
+		for (float[] vector : vectorList) {
+			if (vector.length == dimension) {
+				count++;
+			}
+		}
+
+		String[] texts = new String[count];
+		float[] vectors = new float[count * dimension];
+		int row = 0;
+		for (int i = 0; i < textList.size(); i++) {
+			float[] vector = vectorList.get(i);
+			if (vector.length != dimension) {
+				continue;
+			}
+			texts[row] = textList.get(i);
+			System.arraycopy(vector, 0, vectors, row * dimension, dimension);
+			normalize(vectors, row * dimension, dimension);
+			row++;
+		}
+		return new VectorIndex(texts, vectors, dimension);
+	}
+
+	/**
+	 * 여러 인덱스를 하나로 합칩니다. (문서별 인덱스 → 코퍼스 전체 인덱스)
+	 * 이미 정규화된 벡터를 그대로 복사하며, 첫 번째 비어있지 않은 인덱스와 차원이 다른 인덱스는 제외합니다.
+	 *
+	 * @param indexes 합칠 인덱스 목록
+	 * @return 합쳐진 인덱스
+	 */
+	public static VectorIndex concat(Collection<VectorIndex> indexes) {
+		int dimension = -1;
+		int count = 0;
+		for (VectorIndex index : indexes) {
+			if (index.isEmpty()) {
+				continue;
+			}
+			if (dimension == -1) {
+				dimension = index.dimension;
+			}
+			if (index.dimension == dimension) {
+				count += index.size();
+			}
+		}
+		if (count == 0) {
+			return EMPTY;
+		}
+
+		String[] texts = new String[count];
+		float[] vectors = new float[count * dimension];
+		int row = 0;
+		for (VectorIndex index : indexes) {
+			if (index.isEmpty() || index.dimension != dimension) {
+				continue;
+			}
+			System.arraycopy(index.texts, 0, texts, row, index.size());
+			System.arraycopy(index.vectors, 0, vectors, row * dimension, index.vectors.length);
+			row += index.size();
+		}
+		return new VectorIndex(texts, vectors, dimension);
+	}
+
+	/**
+	 * 이미 단위 벡터로 정규화된 연속 배열로부터 인덱스를 생성합니다. (스냅샷 로딩용, 배열을 복사하지 않음)
+	 */
+	static VectorIndex ofNormalized(String[] texts, float[] vectors, int dimension) {
+		if (texts.length == 0) {
+			return EMPTY;
+		}
+		if (vectors.length != texts.length * dimension) {
+			throw new IllegalArgumentException("벡터 배열 길이가 청크 수 x 차원과 일치하지 않습니다.");
+		}
+		return new VectorIndex(texts, vectors, dimension);
+	}
+
+	/**
+	 * 질문 벡터와 코사인 유사도가 가장 높은 청크 텍스트를 최대 topK개 반환합니다.
+	 * 청크 수에 따라 병렬 스캔 여부를 자동으로 결정합니다.
+	 *
+	 * @param query 질문 임베딩 벡터
+	 * @param topK 반환할 최대 청크 수
+	 * @return 유사도 내림차순으로 정렬된 청크 텍스트 목록
+	 */
+	public List<String> search(List<Float> query, int topK) {
+		return search(toArray(query), topK, size() >= PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * 질문 벡터와 코사인 유사도가 가장 높은 청크 텍스트를 최대 topK개 반환합니다.
+	 *
+	 * @param query 질문 임베딩 벡터 (정규화되지 않아도 됨, 이 배열은 변경하지 않음)
+	 * @param topK 반환할 최대 청크 수
+	 * @param parallel true면 스캔 구간을 나누어 여러 코어에서 병렬로 검색
+	 * @return 유사도 내림차순으로 정렬된 청크 텍스트 목록
+	 */
+	public List<String> search(float[] query, int topK, boolean parallel) {
+		int size = size();
+		if (size == 0 || topK <= 0) {
+			return Collections.emptyList();
+		}
+		if (query.length != dimension) {
+			throw new IllegalArgumentException(
+				"질문 벡터 차원(" + query.length + ")이 인덱스 차원(" + dimension + ")과 다릅니다.");
+		}
+
+		float[] unitQuery = query.clone();
+		normalize(unitQuery, 0, dimension);
+
+		int k = Math.min(topK, size);
+		TopKHeap heap;
+		if (parallel && size >= MIN_SLICE_SIZE * 2) {
+			int slices = Math.min(Runtime.getRuntime().availableProcessors(), size / MIN_SLICE_SIZE);
+			int sliceSize = (size + slices - 1) / slices;
+			heap = IntStream.range(0, slices)
+				.parallel()
+				.mapToObj(slice -> scan(unitQuery, slice * sliceSize, Math.min(size, (slice + 1) * sliceSize), k))
+				.reduce(TopKHeap::merge)
+				.orElseGet(() -> new TopKHeap(k));
+		} else {
+			heap = scan(unitQuery, 0, size, k);
+		}
+
+		int[] rows = heap.sortedRowsDescending();
+		List<String> result = new ArrayList<>(rows.length);
+		for (int row : rows) {
+			result.add(texts[row]);
+		}
+		return result;
+	}
+
+	/**
+	 * 인덱스에 저장된 청크 수
+	 */
+	public int size() {
+		return texts.length;
+	}
+
+	/**
+	 * 임베딩 벡터 차원 수
+	 */
+	public int dimension() {
+		return dimension;
+	}
+
+	public boolean isEmpty() {
+		return texts.length == 0;
+	}
+
+	/**
+	 * row번째 청크 텍스트 (스냅샷 저장용)
+	 */
+	String textAt(int row) {
+		return texts[row];
+	}
+
+	/**
+	 * 정규화된 전체 벡터 배열 (스냅샷 저장용, 읽기 전용으로만 사용)
+	 */
+	float[] normalizedVectors() {
+		return vectors;
+	}
+
+	/**
+	 * [from, to) 구간의 청크를 스캔하여 상위 k개를 힙에 담아 반환합니다.
+	 */
+	private TopKHeap scan(float[] unitQuery, int from, int to, int k) {
+		TopKHeap heap = new TopKHeap(k);
+		for (int row = from; row < to; row++) {
+			int offset = row * dimension;
+			float dot = 0f;
+			for (int d = 0; d < dimension; d++) {
+				dot += unitQuery[d] * vectors[offset + d];
+			}
+			heap.offer(row, dot);
+		}
+		return heap;
+	}
+
+	/**
+	 * vector[offset, offset + length) 구간을 단위 벡터로 정규화합니다. (영벡터는 그대로 둠)
+	 */
+	private static void normalize(float[] vector, int offset, int length) {
+		double sumOfSquares = 0.0;
+		for (int i = offset; i < offset + length; i++) {
+			sumOfSquares += (double)vector[i] * vector[i];
+		}
+		if (sumOfSquares == 0.0) {
+			return;
+		}
+		float inverseNorm = (float)(1.0 / Math.sqrt(sumOfSquares));
+		for (int i = offset; i < offset + length; i++) {
+			vector[i] *= inverseNorm;
+		}
+	}
+
+	private static float[] toArray(List<Float> boxed) {
+		float[] array = new float[boxed.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = boxed.get(i);
+		}
+		return array;
+	}
+
+	/**
+	 * 상위 K개의 (행 번호, 점수)만 유지하는 고정 크기 최소 힙.
+	 * 루트에는 현재까지의 K번째 점수가 위치하므로, 이보다 낮은 점수는 O(1)에 버려집니다.
+	 */
+	private static final class TopKHeap {
+		private final int[] rows;
+		private final float[] scores;
+		private int size;
+
+		TopKHeap(int capacity) {
+			this.rows = new int[capacity];
+			this.scores = new float[capacity];
+		}
+
+		void offer(int row, float score) {
+			if (size < rows.length) {
+				rows[size] = row;
+				scores[size] = score;
+				siftUp(size++);
+			} else if (score > scores[0]) {
+				rows[0] = row;
+				scores[0] = score;
+				siftDown(0);
+			}
+		}
+
+		TopKHeap merge(TopKHeap other) {
+			for (int i = 0; i < other.size; i++) {
+				offer(other.rows[i], other.scores[i]);
+			}
+			return this;
+		}
+
+		/**
+		 * 힙을 비우면서 점수 내림차순으로 정렬된 행 번호 배열을 반환합니다.
+		 */
+		int[] sortedRowsDescending() {
+			int[] sorted = new int[size];
+			for (int i = sorted.length - 1; i >= 0; i--) {
+				sorted[i] = rows[0];
+				size--;
+				rows[0] = rows[size];
+				scores[0] = scores[size];
+				siftDown(0);
+			}
+			return sorted;
+		}
+
+		private void siftUp(int index) {
+			while (index > 0) {
+				int parent = (index - 1) >>> 1;
+				if (scores[parent] <= scores[index]) {
+					break;
+				}
+				swap(index, parent);
+				index = parent;
+			}
+		}
+
+		private void siftDown(int index) {
+			while (true) {
+				int left = index * 2 + 1;
+				if (left >= size) {
+					break;
+				}
+				int right = left + 1;
+				int smallest = (right < size && scores[right] < scores[left]) ? right : left;
+				if (scores[index] <= scores[smallest]) {
+					break;
+				}
+				swap(index, smallest);
+				index = smallest;
+			}
+		}
+
+		private void swap(int i, int j) {
+			int row = rows[i];
+			rows[i] = rows[j];
+			rows[j] = row;
+			float score = scores[i];
+			scores[i] = scores[j];
+			scores[j] = score;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package org.scoula.gpt.service;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.scoula.gpt.dto.ChatRequestDto;
 import org.scoula.gpt.dto.ChatResponseDto;
@@ -12,4 +13,12 @@ public interface GptService {
 	 * @return AI의 답변이 담긴 응답 객체
 	 */
 	CompletableFuture<ChatResponseDto> getChatResponse(ChatRequestDto chatRequest);
+
+	/**
+	 * 채팅 요청을 받아 AI의 답변을 토큰(텍스트 조각) 단위로 스트리밍합니다.
+	 * @param chatRequest 사용자의 질문이 담긴 요청 객체
+	 * @param onToken 토큰이 도착할 때마다 호출되는 콜백 (캐시 적중 시 전체 답변이 한 번에 전달됨)
+	 * @return 스트리밍이 끝나면 전체 답변으로 완료되는 응답 객체
+	 */
+	CompletableFuture<ChatResponseDto> streamChatResponse(ChatRequestDto chatRequest, Consumer<String> onToken);
 }
@@ -2,25 +2,25 @@ package org.scoula.gpt.service;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 import java.util.concurrent.Executor;
 
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
-import org.apache.pdfbox.text.TextPosition;
+import javax.annotation.PreDestroy;
+
+import org.scoula.gpt.cache.SemanticAnswerCache;
 import org.scoula.gpt.dto.ChatRequestDto;
 import org.scoula.gpt.dto.ChatResponseDto;
+import org.scoula.gpt.rag.BatchEmbeddingPipeline;
+import org.scoula.gpt.rag.ChunkingProfile;
+import org.scoula.gpt.rag.DocumentIngestor;
+import org.scoula.gpt.rag.RagCorpusManager;
 import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -34,8 +34,10 @@ import org.springframework.beans.factory.annotation.Qualifier;
 
 import com.openai.client.OpenAIClient;
 import com.openai.client.okhttp.OpenAIOkHttpClient;
+import com.openai.core.http.StreamResponse;
 import com.openai.models.ChatModel;
 import com.openai.models.chat.completions.ChatCompletion;
+import com.openai.models.chat.completions.ChatCompletionChunk;
 import com.openai.models.chat.completions.ChatCompletionCreateParams;
 import com.openai.models.embeddings.CreateEmbeddingResponse;
 import com.openai.models.embeddings.EmbeddingCreateParams;
@@ -57,7 +59,11 @@ public class GptServiceImpl implements GptService, ApplicationListener<ContextRe
 
 	// === 의존성 및 상태 필드 ===
 	private final OpenAIClient openAiClient;
-	private final Map<String, List<Float>> vectorStore = new ConcurrentHashMap<>();
+	private final SemanticAnswerCache answerCache;
+	/**
+	 * 검색용 RAG 코퍼스. 문서가 반영될 때마다 인덱스 전체를 한 번에 교체합니다.
+	 */
+	private final RagCorpusManager corpusManager;
 
 	@Value("${rag.pdf.path}")
 	private String pdfPath;
@@ -65,13 +71,30 @@ public class GptServiceImpl implements GptService, ApplicationListener<ContextRe
 	@Value("${gpt.system.prompt}")
 	private String systemPrompt;
 
-	@Autowired
-	@Qualifier("ragTaskExecutor") // Step 1에서 정의한 Executor 주입
-	private Executor taskExecutor;
+	/**
+	 * 임베딩 스냅샷 파일 경로. 원본 PDF가 바뀌지 않았다면 재시작 시 이 파일에서 인덱스를 복원합니다.
+	 */
+	@Value("${rag.snapshot.path:rag_embedding_snapshot.bin}")
+	private String snapshotPath;
+
+	/**
+	 * 추가 문서(.pdf, .md, .txt)를 넣는 코퍼스 디렉터리. 비어있으면 기본 PDF만 사용합니다.
+	 */
+	@Value("${rag.corpus.dir:}")
+	private String corpusDirectory;
+
+	private final Executor taskExecutor;
 
 	private ApplicationContext applicationContext;
 
-	private static final int MAX_CHUNK_CHAR_LIMIT = 10000;
+	private static final String BUILTIN_DOCUMENT_PREFIX = "builtin:";
+
+	// === 배치 임베딩 설정 ===
+	private static final int EMBEDDING_BATCH_MAX_TOKENS = 100_000; // 배치당 최대 추정 토큰 수 (API 요청당 한도 이내)
+	private static final int EMBEDDING_BATCH_MAX_INPUTS = 256;      // 배치당 최대 입력 수
+	private static final int EMBEDDING_MAX_CONCURRENCY = 4;         // 동시에 진행할 배치 요청 수
+	private static final int EMBEDDING_MAX_ATTEMPTS = 5;            // 배치당 최대 시도 횟수
+	private static final long EMBEDDING_INITIAL_BACKOFF_MS = 1_000L; // 첫 재시도 대기 시간
 
 	/**
 	 * [신규] ApplicationContextAware 인터페이스의 구현 메서드
@@ -84,13 +107,24 @@ public class GptServiceImpl implements GptService, ApplicationListener<ContextRe
 
 
 	/**
-	 * 생성자: API 키를 주입받아 OpenAIClient를 초기화합니다.
+	 * 생성자: API 키를 주입받아 OpenAIClient와 RAG 코퍼스를 초기화합니다.
 	 */
-	public GptServiceImpl(ResourceLoader resourceLoader, @Value("${openai.api.key}") String apiKey) {
+	public GptServiceImpl(ResourceLoader resourceLoader, SemanticAnswerCache answerCache,
+		@Qualifier("ragTaskExecutor") Executor taskExecutor, // Step 1에서 정의한 Executor 주입
+		@Value("${openai.api.key}") String apiKey,
+		@Value("${rag.corpus.snapshot.dir:rag_snapshots}") String corpusSnapshotDirectory) {
 		this.resourceLoader = resourceLoader;
+		this.answerCache = answerCache;
+		this.taskExecutor = taskExecutor;
 		this.openAiClient = OpenAIOkHttpClient.builder()
 			.apiKey(apiKey)
 			.build();
+
+		BatchEmbeddingPipeline pipeline = new BatchEmbeddingPipeline(openAiClient, EMBEDDING_MODEL, taskExecutor,
+			EMBEDDING_BATCH_MAX_TOKENS, EMBEDDING_BATCH_MAX_INPUTS, EMBEDDING_MAX_CONCURRENCY,
+			EMBEDDING_MAX_ATTEMPTS, EMBEDDING_INITIAL_BACKOFF_MS);
+		this.corpusManager = new RagCorpusManager(new DocumentIngestor(pipeline, EMBEDDING_MODEL),
+			Paths.get(corpusSnapshotDirectory), answerCache::clear);
 		log.info("GptServiceImpl 초기화 완료: OpenAIClient 생성");
 	}
 
@@ -136,518 +170,256 @@ public class GptServiceImpl implements GptService, ApplicationListener<ContextRe
 		}
 	}
 
-	// ===================================================================================
-	// === Layout-Aware 파싱을 위한 비공개 정적 내부 클래스 ===
-	// ===================================================================================
 	/**
-	 * PDF의 레이아웃(폰트 크기, Y좌표)을 분석하여 Markdown을 생성하는 커스텀 Stripper.
-	 * [V3 개선]
-	 * 1. '상태 플래그'(contentStarted, contentEnded)를 도입하여 목차(TOC)와 부록(집필자 등)을 파싱 단계에서부터 제외.
-	 * 2. Y좌표를 이용한 헤더/푸터 영역 필터링 로직 추가.
-	 * 3. 목차의 "・・・・・・" 패턴을 명시적으로 필터링.
+	 * RAG 데이터 준비 단계: 기본 PDF(rag.pdf.path)를 코퍼스에 인제스트하고, 코퍼스 디렉터리 감시를 시작합니다.
+	 * [V5 수정 - 다중 문서 코퍼스]
+	 * 1. 파싱/청킹/임베딩/스냅샷은 DocumentIngestor가 문서 단위로 수행 (문서별 ChunkingProfile 적용)
+	 * 2. rag.corpus.dir이 지정되면 디렉터리의 문서를 추가로 인제스트하고, 추가/변경/삭제를 감시하여 반영
+	 * 3. 인덱스는 문서가 반영될 때마다 통째로 교체되며, 교체 시 답변 캐시를 비움
+	 *
+	 * @param filePath PDF 파일 경로
+	 * @throws IOException 파일 읽기 실패 시
 	 */
-	private static class LayoutAwareStripper extends PDFTextStripper {
-
-		private final StringBuilder markdown = new StringBuilder();
-		private float lastY = -1;
-		private float lastFontSize = -1;
-		private boolean isNewLine = true;
-
-		// --- [개선] 상태 플래그 및 마커 ---
-		/**
-		 * true가 되기 전까지 모든 텍스트를 무시 (목차 스킵용)
-		 */
-		private boolean contentStarted = false;
-		/**
-		 * true가 되면 이후 모든 텍스트를 무시 (부록 스킵용)
-		 */
-		private boolean contentEnded = false;
-		/**
-		 * 본문 시작을 알리는 첫 번째 용어
-		 */
-		private static final String START_MARKER = "가계부실위험지수(HDRI)";
-		/**
-		 * 본문 종료(부록 시작)를 알리는 마커
-		 */
-		private static final String END_MARKER = "경제금융용어 700선  집필자";
-		// ---------------------------------
-
-		// [튜닝 포인트 1] PDF 원본 확인 후, 본문 폰트 크기보다는 크고 제목 폰트 크기보다는 작은 값으로 조정
-		private static final float HEADING_FONT_SIZE_THRESHOLD = 11.5f;
-
-		// [튜닝 포인트 2] 단락 구분을 위한 Y좌표 간격 (폰트 크기의 1.5배)
-		private static final float PARAGRAPH_SPACE_THRESHOLD = 1.5f;
-
-		// [튜닝 포인트 3] 헤더/푸터 영역 Y좌표 (A4 페이지 842pt 기준)
-		private static final float HEADER_Y_LIMIT = 70.0f;
-		private static final float FOOTER_Y_LIMIT = 770.0f; // 페이지 번호 '1', '2' 등이 찍히는 Y좌표
-
-		public LayoutAwareStripper() throws IOException {
-			super();
-			// [필수!] PDFBox가 텍스트를 시각적 Y/X 좌표 순서로 정렬하도록 강제
-			setSortByPosition(true);
+	private void initializeRagData(String filePath) throws IOException {
+		log.info("RAG 데이터 초기화를 (비동기) 시작합니다. (Layout-Aware + State Machine 파싱 방식) 경로: {}", filePath);
+		Resource ragResource = resourceLoader.getResource(filePath);
+
+		if (!ragResource.exists()) {
+			log.error("지정된 경로에 PDF 파일이 없습니다: {}", filePath);
+			throw new FileNotFoundException("PDF 파일을 찾을 수 없습니다.");
 		}
 
-		/**
-		 * 파싱 완료된 Markdown 텍스트를 반환합니다.
-		 */
-		public String getMarkdownResult() {
-			return markdown.toString().trim();
+		byte[] pdfBytes;
+		try (InputStream in = ragResource.getInputStream()) {
+			pdfBytes = in.readAllBytes();
 		}
 
-		/**
-		 * PDF의 텍스트 조각(TextPosition)을 하나씩 처리하며 Markdown을 생성합니다.
-		 * (상태 관리 로직이 적용된 최종 버전)
-		 */
-		@Override
-		protected void writeString(String text, List<TextPosition> textPositions) throws IOException {
+		String fileName = Optional.ofNullable(ragResource.getFilename()).orElse("rag.pdf");
+		corpusManager.ingest(BUILTIN_DOCUMENT_PREFIX + fileName, fileName, pdfBytes, ChunkingProfile.ECONOMIC_TERMS,
+			Paths.get(snapshotPath));
 
-			// 1. Guard Clauses (유효성 검사)
-			if (textPositions.isEmpty()) {
-				return;
-			}
-			String trimmedText = text.trim();
-			if (trimmedText.isEmpty()) {
-				return;
-			}
+		if (!corpusDirectory.isBlank()) {
+			corpusManager.watch(Paths.get(corpusDirectory));
+		}
+		log.info("RAG 데이터 초기화 완료. 문서 {}개, 총 {}개의 벡터 (차원: {})",
+			corpusManager.documentIds().size(), corpusManager.index().size(), corpusManager.index().dimension());
+	}
 
-			// --- [개선] 상태 머신(State Machine) 로직 ---
-			// 2-1. [상태 3] 본문이 종료되었다면, 이후 모든 텍스트 무시
-			if (contentEnded) {
-				return;
-			}
+	/**
+	 * 종료 시 코퍼스 디렉터리 감시를 중단합니다.
+	 */
+	@PreDestroy
+	public void stopCorpusWatcher() {
+		corpusManager.close();
+	}
 
-			// 2-2. 본문 종료 마커("집필자")를 감지하면, 상태를 3으로 변경하고 현재 텍스트 무시
-			if (trimmedText.contains(END_MARKER)) {
-				log.info("본문 종료 마커('{}') 감지. 이후 텍스트를 무시합니다.", END_MARKER);
-				contentEnded = true;
-				return;
-			}
+	/**
+	 * RAG 검색 단계: 질문 벡터와 가장 유사한 텍스트 조각을 찾습니다.
+	 * (정규화된 인덱스에서 Top-K 힙으로 검색)
+	 */
+	private String findSimilarChunks(List<Float> questionVector, int topK) {
+		return String.join("\n\n", corpusManager.index().search(questionVector, topK));
+	}
 
-			// 2-3. [상태 1] 아직 본문이 시작되지 않았다면,
-			if (!contentStarted) {
-				// 2-4. 본문 시작 마커(첫 용어)를 감지하면 상태를 2로 변경 (파싱 시작)
-				if (trimmedText.equals(START_MARKER)) {
-					log.info("본문 시작 마커('{}') 감지. 파싱을 시작합니다.", START_MARKER);
-					contentStarted = true;
-					// (fall-through하여 이 텍스트부터 파싱을 시작함)
-				} else {
-					// 2-5. 시작 마커가 아니면 (머리말, 목차 등) 현재 텍스트 무시
-					log.trace("본문 시작 전 텍스트 무시: {}", trimmedText);
-					return;
-				}
-			}
-			// --- [상태 2] (contentStarted = true, contentEnded = false) ---
-			// 3. 노이즈 필터링 (TOC, 헤더, 푸터)
-			// 3-1. [개선] 목차(TOC)의 "...." 패턴이 포함된 라인 폐기
-			// (상태 관리 로직으로 대부분 걸러지지만, 만약을 위한 이중 방어)
-			if (trimmedText.contains("・・・・・・")) {
-				log.trace("목차(TOC) 패턴 감지. 텍스트 무시: {}", trimmedText);
-				return;
-			}
+	/**
+	 * RAG 생성 단계: 비동기 파이프라인으로 변경
+	 * [캐시] 정확 일치 → (질문 임베딩 후) 의미 유사 → RAG + GPT 순서로 답변을 찾습니다.
+	 */
+	@Override
+	public CompletableFuture<ChatResponseDto> getChatResponse(ChatRequestDto chatRequestDto) {
+		log.info("GPT 비동기 요청 시작 (RAG): {}", chatRequestDto.getQuestion());
 
-			// 3-2. [개선] 헤더/푸터 Y좌표 영역 텍스트 폐기
-			TextPosition firstPos = textPositions.get(0);
-			float currentY = firstPos.getY();
-			float currentFontSize = firstPos.getFontSizeInPt();
+		// --- RAG 서비스 준비 상태 확인 ---
+		if (!isReady.get()) {
+			log.warn("RAG 서비스가 아직 준비되지 않았습니다. (초기화 진행 중)");
+			return CompletableFuture.completedFuture(
+				new ChatResponseDto("시스템이 아직 준비 중입니다. 잠시 후 다시 시도해주세요.")
+			);
+		}
 
-			if (currentY < HEADER_Y_LIMIT || currentY > FOOTER_Y_LIMIT) {
-				log.trace("헤더/푸터 Y좌표({}pt) 텍스트 무시: {}", currentY, trimmedText);
-				return; // (페이지 번호 '1', '2', '3'... 등이 여기서 걸러짐)
-			}
+		// 0. 정확 일치 캐시 확인 (OpenAI 호출 없음)
+		String normalizedQuestion = SemanticAnswerCache.normalize(chatRequestDto.getQuestion());
+		Optional<String> exactAnswer = answerCache.getExact(normalizedQuestion);
+		if (exactAnswer.isPresent()) {
+			log.info("답변 캐시 적중 (정확 일치)");
+			return CompletableFuture.completedFuture(new ChatResponseDto(exactAnswer.get()));
+		}
 
-			// 4. 줄바꿈(isNewLine) 여부 판단 및 줄바꿈/공백 삽입
-			if (lastY == -1) { // 문서 또는 페이지의 첫 시작
-				isNewLine = true;
-			} else if (Math.abs(currentY - lastY) > 1.0f) { // Y좌표가 1.0pt 이상 변경됨 (새 줄)
-				isNewLine = true;
-
-				if (Math.abs(currentY - lastY) > (currentFontSize * PARAGRAPH_SPACE_THRESHOLD)) {
-					if (markdown.length() > 0 && !markdown.toString().endsWith("\n\n")) {
-						markdown.append("\n\n"); // 새 문단
-					}
-				} else { // 단순 줄바꿈
-					if (markdown.length() > 0 && !markdown.toString().endsWith("\n") && !markdown.toString().endsWith("\n\n")) {
-						markdown.append("\n");
-					}
-				}
-			} else { // Y좌표가 거의 동일 (같은 줄)
-				isNewLine = false;
-				if (markdown.length() > 0 && !markdown.toString().endsWith(" ") && !markdown.toString().endsWith("\n")) {
-					markdown.append(" "); // 같은 줄 단어 사이 공백
-				}
+		// 1. 사용자 질문 임베딩 (I/O 작업 1) - 비동기 실행
+		CompletableFuture<List<Float>> questionVectorFuture = CompletableFuture.supplyAsync(
+			() -> createQuestionEmbedding(chatRequestDto.getQuestion()), taskExecutor); // Step 1에서 만든 스레드 풀 사용
+
+		// 2. 임베딩 완료 후 -> 의미 유사 캐시 확인 -> (miss) 유사 청크 검색 + GPT 챗 완료 (I/O 작업 2)
+		CompletableFuture<ChatResponseDto> chatResponseFuture = questionVectorFuture.thenCompose(questionVector -> {
+			Optional<String> similarAnswer = answerCache.getSimilar(normalizedQuestion, questionVector);
+			if (similarAnswer.isPresent()) {
+				log.info("답변 캐시 적중 (의미 유사)");
+				return CompletableFuture.completedFuture(new ChatResponseDto(similarAnswer.get()));
 			}
 
-			// 5. "Junk Content" 식별 (RAG에 불필요한 색인 문자 등)
-			boolean isJunkContent = trimmedText.matches("^[ㄱ-ㅎ]$") || // "ㄱ", "ㄴ", "ㄷ"...
-				trimmedText.matches("^[A-Z]$");    // "A", "B", "C"...
-
-			// 6. 텍스트 내용 추가 (핵심 로직)
-			if (isNewLine && currentFontSize > HEADING_FONT_SIZE_THRESHOLD && !isJunkContent) {
-				// Case 1: [진짜 제목] (새 줄 + 큰 폰트 + Junk 아님)
-				if (markdown.length() > 0 && !markdown.toString().endsWith("\n\n")) {
-					if (markdown.toString().endsWith("\n")) {
-						markdown.setLength(markdown.length() - 1); // 기존 \n 제거
-					}
-					markdown.append("\n\n");
-				}
-				markdown.append("## ").append(trimmedText);
-
-			} else if (isNewLine && isJunkContent) {
-				// Case 2: [가짜 제목/내용] (새 줄 + Junk 임)
-				log.trace("Junk 헤더('{}') 무시", trimmedText);
-				if (markdown.toString().endsWith("\n\n")) {
-					markdown.setLength(markdown.length() - 2);
-				} else if (markdown.toString().endsWith("\n")) {
-					markdown.setLength(markdown.length() - 1);
+			return CompletableFuture.supplyAsync(() -> {
+				String augmentedPrompt = buildAugmentedPrompt(chatRequestDto.getQuestion(), questionVector);
+				String content = requestCompletion(augmentedPrompt);
+				if (!content.isBlank()) {
+					answerCache.put(normalizedQuestion, questionVector, content);
 				}
-				// (텍스트는 append하지 않음)
-
-			} else if (isNewLine) {
-				// Case 3: [일반 텍스트 줄 시작]
-				markdown.append(trimmedText);
-
-			} else {
-				// Case 4: [같은 줄 텍스트]
-				markdown.append(text); // trim 안함
-			}
-
-			// 7. 다음 비교를 위해 마지막 위치/폰트 정보 업데이트
-			if (!(isNewLine && isJunkContent)) {
-				lastY = textPositions.get(textPositions.size() - 1).getY();
-				lastFontSize = currentFontSize;
-			}
-		}
+				return new ChatResponseDto(content);
+			}, taskExecutor); // Step 1에서 만든 스레드 풀 사용
+		});
 
-		// 페이지가 끝날 때마다 Y좌표 리셋
-		@Override
-		protected void writePageEnd() {
-			// [개선] 본문이 시작된 후에만 페이지 구분을 추가
-			if (contentStarted && !contentEnded) {
-				markdown.append("\n\n");
-			}
-			lastY = -1;
-			lastFontSize = -1;
-		}
+		// 3. 모든 예외 처리
+		return chatResponseFuture.exceptionally(ex -> {
+			log.error("GPT 비동기 처리 중 에러 발생: {}", ex.getMessage(), ex);
+			return new ChatResponseDto("죄송합니다. 답변을 생성하는 중 오류가 발생했습니다: " + ex.getMessage());
+		});
 	}
 
 	/**
-	 * RAG 데이터 준비 단계: Layout-Aware 파싱 및 '하이브리드' Semantic Chunking
-	 * [V3 수정]
-	 * 1. 상태 관리가 포함된 LayoutAwareStripper V3 호출
-	 * 2. 청킹 완료 후, 본문과 관련 없는 부록/메타데이터 청크를 필터링하는 로직 추가
-	 *
-	 * @param filePath PDF 파일 경로
-	 * @throws IOException 파일 읽기 실패 시
+	 * 스트리밍 RAG 생성 단계: getChatResponse와 같은 캐시/검색 과정을 거치되,
+	 * GPT 답변은 스트리밍 API로 받아 토큰이 도착하는 즉시 onToken으로 전달합니다.
+	 * (예외는 응답 DTO로 변환하지 않고 그대로 전파하여 컨트롤러가 error 이벤트로 알리도록 함)
 	 */
-	private void initializeRagData(String filePath) throws IOException {
-		log.info("RAG 데이터 초기화를 (비동기) 시작합니다. (Layout-Aware + State Machine 파싱 방식) 경로: {}", filePath);
-		Resource ragResource = resourceLoader.getResource(filePath);
-
-		if (!ragResource.exists()) {
-			log.error("지정된 경로에 PDF 파일이 없습니다: {}", filePath);
-			throw new FileNotFoundException("PDF 파일을 찾을 수 없습니다.");
-		}
+	@Override
+	public CompletableFuture<ChatResponseDto> streamChatResponse(ChatRequestDto chatRequestDto,
+		Consumer<String> onToken) {
+		log.info("GPT 스트리밍 요청 시작 (RAG): {}", chatRequestDto.getQuestion());
 
-		// 1단계: [개선된] Layout-Aware + State Machine 파싱
-		String markdownText;
-		try (PDDocument document = PDDocument.load(ragResource.getInputStream())) {
-			log.info("1단계: Layout-Aware Stripper (State Machine) 파싱을 시작합니다...");
-			// GptServiceImpl의 private static inner class로 LayoutAwareStripper가 정의되어 있어야 함
-			LayoutAwareStripper stripper = new LayoutAwareStripper();
-			stripper.getText(document);
-			markdownText = stripper.getMarkdownResult();
+		if (!isReady.get()) {
+			log.warn("RAG 서비스가 아직 준비되지 않았습니다. (초기화 진행 중)");
+			return CompletableFuture.completedFuture(
+				emitWhole("시스템이 아직 준비 중입니다. 잠시 후 다시 시도해주세요.", onToken));
 		}
 
-		// (디버깅 코드 - 파일명 변경)
-		try {
-			String dumpFileName = "structured_markdown_dump_v3.txt"; // 새 이름으로 저장
-			java.nio.file.Path dumpPath = Paths.get(dumpFileName);
-			Files.writeString(dumpPath, markdownText);
-			log.info("개선된 파싱 결과(Markdown)를 다음 경로에 파일로 저장했습니다: {}", dumpPath.toAbsolutePath());
-		} catch (IOException e) {
-			log.warn("Markdown 덤프 파일 저장 중 오류 발생", e);
+		String normalizedQuestion = SemanticAnswerCache.normalize(chatRequestDto.getQuestion());
+		Optional<String> exactAnswer = answerCache.getExact(normalizedQuestion);
+		if (exactAnswer.isPresent()) {
+			log.info("답변 캐시 적중 (정확 일치)");
+			return CompletableFuture.completedFuture(emitWhole(exactAnswer.get(), onToken));
 		}
 
-		// 2단계: '하이브리드' Markdown 기반 Semantic Chunking
-		log.info("2단계: '하이브리드' Markdown 기반 Semantic Chunking을 시작합니다...");
-
-		// 1차 분할: '## ' (제목) 기준으로 분할
-		String[] rawChunks = markdownText.split("(?m)(?=\n##\\s)");
-
-		List<String> chunks = new ArrayList<>(); // 1차 청크 리스트
-		final String PARAGRAPH_SPLITTER = "\n\n";
-
-		for (String rawChunk : rawChunks) {
-			String cleanedChunk = rawChunk.trim();
-
-			// 2.1: 청크가 최대 길이(MAX_CHUNK_CHAR_LIMIT)를 초과하는지 확인
-			if (cleanedChunk.length() > MAX_CHUNK_CHAR_LIMIT) {
-				log.warn("청크가 최대 길이( {}자)를 초과했습니다 (현재 {}자). 문단 기준으로 2차 분할합니다. (시작: '{}...')",
-					MAX_CHUNK_CHAR_LIMIT, cleanedChunk.length(), cleanedChunk.substring(0, 50).replaceAll("\\r?\\n", " "));
-
-				// 2.2: 문단(`\n\n`) 기준으로 2차 분할
-				String[] subChunks = cleanedChunk.split(PARAGRAPH_SPLITTER);
-
-				if (subChunks.length > 1) {
-					// 2.3: 첫 번째 청크는 '제목' (예: "## 용어 A")
-					String titleHeader = subChunks[0];
-					StringBuilder currentSubChunkBuilder = new StringBuilder(titleHeader);
-
-					// 2.4: 나머지 문단들을 순회하며 제목을 붙여 하위 청크 생성
-					for (int i = 1; i < subChunks.length; i++) {
-						String paragraph = subChunks[i].trim();
-						if (paragraph.isEmpty()) continue; // 빈 문단 스킵
-
-						// 2.5: 문단을 붙였을 때 최대 길이를 넘는지 확인
-						if (currentSubChunkBuilder.length() + paragraph.length() + PARAGRAPH_SPLITTER.length() > MAX_CHUNK_CHAR_LIMIT) {
-							// 넘으면, 지금까지 만든 청크를 저장하고 새 청크 시작
-							String finalSubChunk = postProcessChunk(currentSubChunkBuilder.toString());
-							if (isValidChunk(finalSubChunk)) {
-								chunks.add(finalSubChunk);
-							}
-							// 새 청크는 다시 '제목' + '현재 문단'으로 시작
-							currentSubChunkBuilder = new StringBuilder(titleHeader).append(PARAGRAPH_SPLITTER).append(paragraph);
-						} else {
-							// 넘지 않으면, 현재 청크에 문단을 계속 추가
-							currentSubChunkBuilder.append(PARAGRAPH_SPLITTER).append(paragraph);
-						}
-					}
-					// 2.6: 마지막에 남아있는 하위 청크도 추가
-					String finalSubChunk = postProcessChunk(currentSubChunkBuilder.toString());
-					if (isValidChunk(finalSubChunk)) {
-						chunks.add(finalSubChunk);
-					}
-				} else {
-					// 2.7: 문단 분할이 불가능한 거대 청크 (최악의 경우)
-					log.error("청크가 너무 길지만 문단( '{}')으로 분할할 수 없습니다. 강제로 {}자에서 자릅니다. (시작: '{}...')",
-						PARAGRAPH_SPLITTER, MAX_CHUNK_CHAR_LIMIT, cleanedChunk.substring(0, 50).replaceAll("\\r?\\n", " "));
-					String truncatedChunk = cleanedChunk.substring(0, MAX_CHUNK_CHAR_LIMIT);
-					String finalTruncatedChunk = postProcessChunk(truncatedChunk);
-					// 유효성(## 시작)도 통과 못하면 그냥 강제로 추가
-					chunks.add(finalTruncatedChunk);
+		return CompletableFuture.supplyAsync(
+				() -> createQuestionEmbedding(chatRequestDto.getQuestion()), taskExecutor)
+			.thenApplyAsync(questionVector -> {
+				Optional<String> similarAnswer = answerCache.getSimilar(normalizedQuestion, questionVector);
+				if (similarAnswer.isPresent()) {
+					log.info("답변 캐시 적중 (의미 유사)");
+					return emitWhole(similarAnswer.get(), onToken);
 				}
 
-			} else if (!cleanedChunk.isEmpty()) {
-				// 2.8: 청크가 길지 않은 경우 (정상)
-				String finalChunk = postProcessChunk(cleanedChunk); // 정제
-				if (isValidChunk(finalChunk)) { // 유효성 검사
-					chunks.add(finalChunk);
+				String augmentedPrompt = buildAugmentedPrompt(chatRequestDto.getQuestion(), questionVector);
+				String content = streamCompletion(augmentedPrompt, onToken);
+				if (!content.isBlank()) {
+					answerCache.put(normalizedQuestion, questionVector, content);
 				}
-			}
-		}
-		// --- 2단계(하이브리드 청킹) 끝 ---
-
-		// [개선] 3단계: 청크 후처리 (Junk 청크 필터링)
-		// "## ABC", "## 경제금융용어 700선  집필자" 등 본문이 아닌 청크를 제거합니다.
-		List<String> finalFilteredChunks = chunks.stream()
-			.filter(chunk ->
-				!chunk.startsWith("## ABC") &&          // "ABC" 섹션 제외
-					!chunk.startsWith("## 경제금융용어 700선") // "집필자" 섹션 제외
-			)
-			.collect(Collectors.toList());
-
-		log.info("Markdown 기반 청크 분할 완료. (1차: {}개) -> 후처리 필터링 -> (최종: {}개)", chunks.size(), finalFilteredChunks.size());
-
-		// 4단계: 비동기 스트리밍 임베딩
-		log.info("총 {}개의 청크에 대해 '비동기 스트리밍 임베딩'을 시작합니다. (Executor: {})", finalFilteredChunks.size(), taskExecutor);
-
-		List<CompletableFuture<Void>> allProcessingFutures = new ArrayList<>();
-
-		// [수정] 'finalFilteredChunks' 리스트를 사용
-		for (String chunk : finalFilteredChunks) {
-			CompletableFuture<Map.Entry<String, List<Float>>> embeddingFuture =
-				CompletableFuture.supplyAsync(() -> createEmbedding(chunk), taskExecutor);
-
-			CompletableFuture<Void> processingFuture = embeddingFuture.thenAccept(entry -> {
-				if (entry != null) {
-					vectorStore.put(entry.getKey(), entry.getValue());
-					String chunkText = entry.getKey();
-					log.info("  > [비동기 저장 완료] 청크: {}", chunkText.substring(0, Math.min(chunkText.length(), 70)).replaceAll("\\r?\\n", " "));
-				} else {
-					log.warn("임베딩 결과가 null이므로 저장을 건너뜁니다. (원본 청크: {}...)", chunk.substring(0, Math.min(chunk.length(), 30)));
-				}
-			});
-
-			allProcessingFutures.add(processingFuture);
-		}
-
-		log.info("모든 임베딩+저장 작업(총 {}개)이 'taskExecutor'에 제출되었습니다. 전체 완료를 기다립니다...", allProcessingFutures.size());
-
-		try {
-			CompletableFuture.allOf(allProcessingFutures.toArray(new CompletableFuture[0])).join();
-		} catch (Exception e) {
-			log.error("임베딩 작업 대기 중 예외 발생", e);
-		}
-
-		log.info("RAG 데이터 초기화 완료. 총 {}개의 벡터를 메모리에 저장했습니다.", vectorStore.size());
+				return new ChatResponseDto(content);
+			}, taskExecutor);
 	}
 
 	/**
-	 * [헬퍼 메서드 1]
-	 * 청크에서 불필요한 공백, 머리글/꼬리글 등을 제거합니다.
+	 * 이미 완성된 답변(캐시, 안내 문구)을 하나의 토큰으로 전달합니다.
 	 */
-	private String postProcessChunk(String chunk) {
-		return chunk
-			.replaceAll("(?m)^경제금융용어 700선.*$", "") // 머리글/꼬리글
-			.replaceAll("(?m)^[ivxlcdm\\d]+\\s*$", "") // 페이지 번호
-			.replaceAll("\n\\s*\n+", "\n\n") // 과도한 빈 줄
-			.trim();
+	private ChatResponseDto emitWhole(String answer, Consumer<String> onToken) {
+		onToken.accept(answer);
+		return new ChatResponseDto(answer);
 	}
 
 	/**
-	 * [헬퍼 메서드 2]
-	 * 청크가 RAG에 사용하기에 유효한지(제목으로 시작하는지, 최소 길이를 넘는지) 검사합니다.
+	 * 사용자 질문을 임베딩합니다.
+	 *
+	 * @param question 사용자 질문
+	 * @return 질문 임베딩 벡터
 	 */
-	private boolean isValidChunk(String chunk) {
-		// "## " (4자) + 최소한의 제목/내용 (예: 20자)
-		boolean valid = chunk.length() > 24 && chunk.startsWith("## ");
-		if (!valid && !chunk.isEmpty()) {
-			log.debug("너무 짧거나 헤딩이 없어 제외된 청크: '{}...'", chunk.substring(0, Math.min(chunk.length(), 50)));
+	private List<Float> createQuestionEmbedding(String question) {
+		log.info("비동기: 질문 임베딩 시작...");
+		EmbeddingCreateParams questionParams = EmbeddingCreateParams.builder()
+			.model(EMBEDDING_MODEL)
+			.input(question)
+			.build();
+		CreateEmbeddingResponse response = openAiClient.embeddings().create(questionParams);
+
+		if (response.data() == null || response.data().isEmpty()) {
+			log.warn("사용자 질문을 임베딩할 수 없습니다.");
+			// 예외를 던져서 .exceptionally() 에서 처리하도록 함
+			throw new RuntimeException("질문 임베딩 실패");
 		}
-		return valid;
+		return response.data().get(0).embedding();
 	}
 
 	/**
-	 * [헬퍼 메서드 3]
-	 * 청크 1개에 대한 임베딩 API 호출을 수행하는 헬퍼 메서드입니다.
-	 * CompletableFuture.supplyAsync 내부에서 호출됩니다.
+	 * 유사 청크를 검색(In-Memory, 빠름)하여 [참고 자료]가 포함된 프롬프트를 구성합니다.
 	 *
-	 * @param chunk 임베딩할 텍스트 조각
-	 * @return 성공 시 (텍스트, 벡터) Map.Entry, 실패 시 null
+	 * @param question 사용자 질문
+	 * @param questionVector 질문 임베딩 벡터
+	 * @return GPT에 전달할 프롬프트
 	 */
-	private Map.Entry<String, List<Float>> createEmbedding(String chunk) {
-		try {
-			EmbeddingCreateParams params = EmbeddingCreateParams.builder()
-				.model(EMBEDDING_MODEL)
-				.input(chunk)
-				.build();
-			CreateEmbeddingResponse response = openAiClient.embeddings().create(params);
-
-			if (response.data() != null && !response.data().isEmpty()) {
-				List<Float> vector = response.data().get(0).embedding();
-				// 성공 시 Map.Entry 객체 반환
-				return Map.entry(chunk, vector);
-			} else {
-				log.warn("임베딩 데이터가 비어있습니다 (null or empty data). 청크: '{}...'", chunk.substring(0, Math.min(chunk.length(), 30)));
-				return null;
-			}
-		} catch (Exception e) {
-			// 개별 청크의 임베딩 실패가 전체 init을 중단시키지 않도록 예외 처리
-			log.error("텍스트 조각 임베딩 중 오류 발생: '{}...'", chunk.substring(0, Math.min(chunk.length(), 50)), e);
-			return null; // 실패 시 null 반환
+	private String buildAugmentedPrompt(String question, List<Float> questionVector) {
+		log.info("비동기: 유사 청크 검색 시작...");
+		String retrievedContext = findSimilarChunks(questionVector, TOP_K_CHUNKS);
+		// 로그 길이 제한 (너무 길면 로그가 지저분해짐)
+		log.info("검색된 참고 자료: {}", retrievedContext.substring(0, Math.min(retrievedContext.length(), 100)) + "...");
+
+		if (retrievedContext.trim().isEmpty()) {
+			log.warn("참고할 만한 자료를 찾지 못했습니다. 일반 답변을 시도합니다.");
+			return question;
 		}
+		return "아래 [참고 자료]를 바탕으로 사용자의 [질문]에 대해 답변해주세요.\n\n"
+			+ "[참고 자료]\n"
+			+ retrievedContext + "\n\n"
+			+ "[질문]\n"
+			+ question;
 	}
 
-
 	/**
-	 * RAG 검색 단계: 질문 벡터와 가장 유사한 텍스트 조각을 찾습니다.
+	 * GPT 챗 완료를 요청하여 답변 내용을 반환합니다.
+	 *
+	 * @param augmentedPrompt 참고 자료가 포함된 프롬프트
+	 * @return GPT 답변 내용
 	 */
-	private String findSimilarChunks(List<Float> questionVector, int topK) {
-		Map<String, Double> similarityScores = new HashMap<>();
-		for (Map.Entry<String, List<Float>> entry : vectorStore.entrySet()) {
-			double similarity = cosineSimilarity(questionVector, entry.getValue());
-			similarityScores.put(entry.getKey(), similarity);
-		}
-		return similarityScores.entrySet().stream()
-			.sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-			.limit(topK)
-			.map(Map.Entry::getKey)
-			.collect(Collectors.joining("\n\n"));
-	}
+	private String requestCompletion(String augmentedPrompt) {
+		log.info("비동기: GPT 챗 완료 요청 시작...");
+		ChatCompletion completion = openAiClient.chat().completions().create(buildCompletionParams(augmentedPrompt));
 
-	/**
-	 * 코사인 유사도 계산 헬퍼 메서드
-	 */
-	private double cosineSimilarity(List<Float> vec1, List<Float> vec2) {
-		double dotProduct = 0.0;
-		double normA = 0.0;
-		double normB = 0.0;
-		for (int i = 0; i < vec1.size(); i++) {
-			dotProduct += vec1.get(i) * vec2.get(i);
-			normA += Math.pow(vec1.get(i), 2);
-			normB += Math.pow(vec2.get(i), 2);
+		if (completion.choices().isEmpty()) {
+			log.warn("응답 choices가 비어있음");
+			throw new RuntimeException("GPT 응답 없음");
 		}
-		return dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
+		String content = completion.choices().get(0).message().content().orElse("");
+		log.info("GPT 응답 내용: {}", content.substring(0, Math.min(content.length(), 100)) + "...");
+		return content;
 	}
 
-
 	/**
-	 * RAG 생성 단계: 비동기 파이프라인으로 변경
+	 * GPT 챗 완료를 스트리밍으로 요청하여, 토큰이 도착할 때마다 onToken으로 전달합니다.
+	 * onToken에서 예외가 발생하면(클라이언트 연결 종료 등) 스트림을 닫고 예외를 전파합니다.
+	 *
+	 * @param augmentedPrompt 참고 자료가 포함된 프롬프트
+	 * @param onToken 토큰 콜백
+	 * @return 전체 GPT 답변 내용
 	 */
-	@Override
-	public CompletableFuture<ChatResponseDto> getChatResponse(ChatRequestDto chatRequestDto) {
-		log.info("GPT 비동기 요청 시작 (RAG): {}", chatRequestDto.getQuestion());
-
-		// --- RAG 서비스 준비 상태 확인 ---
-		if (!isReady.get()) {
-			log.warn("RAG 서비스가 아직 준비되지 않았습니다. (초기화 진행 중)");
-			return CompletableFuture.completedFuture(
-				new ChatResponseDto("시스템이 아직 준비 중입니다. 잠시 후 다시 시도해주세요.")
-			);
+	private String streamCompletion(String augmentedPrompt, Consumer<String> onToken) {
+		log.info("비동기: GPT 챗 완료 스트리밍 요청 시작...");
+		StringBuilder content = new StringBuilder();
+		try (StreamResponse<ChatCompletionChunk> stream =
+				 openAiClient.chat().completions().createStreaming(buildCompletionParams(augmentedPrompt))) {
+			stream.stream()
+				.flatMap(chunk -> chunk.choices().stream())
+				.flatMap(choice -> choice.delta().content().stream())
+				.filter(token -> !token.isEmpty())
+				.forEach(token -> {
+					content.append(token);
+					onToken.accept(token);
+				});
 		}
+		log.info("GPT 스트리밍 응답 완료 ({}자)", content.length());
+		return content.toString();
+	}
 
-		// 1. 사용자 질문 임베딩 (I/O 작업 1) - 비동기 실행
-		CompletableFuture<List<Float>> questionVectorFuture = CompletableFuture.supplyAsync(() -> {
-			log.info("비동기: 질문 임베딩 시작...");
-			EmbeddingCreateParams questionParams = EmbeddingCreateParams.builder()
-				.model(EMBEDDING_MODEL)
-				.input(chatRequestDto.getQuestion())
-				.build();
-			CreateEmbeddingResponse response = openAiClient.embeddings().create(questionParams);
-
-			if (response.data() == null || response.data().isEmpty()) {
-				log.warn("사용자 질문을 임베딩할 수 없습니다.");
-				// 예외를 던져서 .exceptionally() 에서 처리하도록 함
-				throw new RuntimeException("질문 임베딩 실패");
-			}
-			return response.data().get(0).embedding();
-		}, taskExecutor); // Step 1에서 만든 스레드 풀 사용
-
-		// 2. 임베딩 완료 후 -> 유사 청크 검색 (In-Memory, 빠름) -> 프롬프트 구성
-		CompletableFuture<String> augmentedPromptFuture = questionVectorFuture.thenApply(questionVector -> {
-			log.info("비동기: 유사 청크 검색 시작...");
-			String retrievedContext = findSimilarChunks(questionVector, TOP_K_CHUNKS);
-			// 로그 길이 제한 (너무 길면 로그가 지저분해짐)
-			log.info("검색된 참고 자료: {}", retrievedContext.substring(0, Math.min(retrievedContext.length(), 100)) + "...");
-
-			if (retrievedContext.trim().isEmpty()) {
-				log.warn("참고할 만한 자료를 찾지 못했습니다. 일반 답변을 시도합니다.");
-				return chatRequestDto.getQuestion();
-			} else {
-				return "아래 [참고 자료]를 바탕으로 사용자의 [질문]에 대해 답변해주세요.\n\n"
-					+ "[참고 자료]\n"
-					+ retrievedContext + "\n\n"
-					+ "[질문]\n"
-					+ chatRequestDto.getQuestion();
-			}
-		});
-
-		// 3. 프롬프트 구성 완료 후 -> GPT 챗 완료 (I/O 작업 2) - 비동기 실행
-		CompletableFuture<ChatResponseDto> chatResponseFuture = augmentedPromptFuture.thenApplyAsync(augmentedPrompt -> {
-			log.info("비동기: GPT 챗 완료 요청 시작...");
-			ChatCompletionCreateParams params = ChatCompletionCreateParams.builder()
-				.model(ChatModel.GPT_4O_MINI_2024_07_18)
-				.addSystemMessage(this.systemPrompt)
-				.addUserMessage(augmentedPrompt)
-				.maxCompletionTokens(1024)
-				.build();
-
-			ChatCompletion completion = openAiClient.chat().completions().create(params);
-
-			if (completion.choices().isEmpty()) {
-				log.warn("응답 choices가 비어있음");
-				throw new RuntimeException("GPT 응답 없음");
-			}
-			String content = completion.choices().get(0).message().content().orElse("");
-			log.info("GPT 응답 내용: {}", content.substring(0, Math.min(content.length(), 100)) + "...");
-			return new ChatResponseDto(content);
-		}, taskExecutor); // Step 1에서 만든 스레드 풀 사용
-
-		// 4. 모든 예외 처리
-		return chatResponseFuture.exceptionally(ex -> {
-			log.error("GPT 비동기 처리 중 에러 발생: {}", ex.getMessage(), ex);
-			return new ChatResponseDto("죄송합니다. 답변을 생성하는 중 오류가 발생했습니다: " + ex.getMessage());
-		});
+	private ChatCompletionCreateParams buildCompletionParams(String augmentedPrompt) {
+		return ChatCompletionCreateParams.builder()
+			.model(ChatModel.GPT_4O_MINI_2024_07_18)
+			.addSystemMessage(this.systemPrompt)
+			.addUserMessage(augmentedPrompt)
+			.maxCompletionTokens(1024)
+			.build();
 	}
-}
\ No newline at end of file
+}
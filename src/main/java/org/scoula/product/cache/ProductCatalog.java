@@ -0,0 +1,147 @@
+package org.scoula.product.cache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.scoula.product.domain.DepositVo;
+import org.scoula.product.domain.FundVo;
+import org.scoula.product.domain.GoldVo;
+import org.scoula.product.domain.MortgageVo;
+import org.scoula.product.domain.ProductVo;
+import org.scoula.product.domain.SavingVo;
+import org.scoula.product.domain.TrustVo;
+import org.scoula.product.dto.ProductDto;
+import org.scoula.product.struct.ProductVoToMapper;
+
+import lombok.Getter;
+
+/**
+ * 전체 금융상품의 불변 스냅샷입니다.
+ * 한 번 조회한 VO와 목록용 DTO를 상품코드별, 카테고리별로 색인해 둡니다.
+ * 생성 후 변경되지 않으므로 여러 요청에서 동시에 읽어도 안전합니다. (VO/DTO는 읽기 전용으로만 사용)
+ */
+@Getter
+public final class ProductCatalog {
+
+	/**
+	 * 카테고리 순서 (findAllProducts 응답의 키)
+	 */
+	public static final List<String> TYPES = List.of("deposit", "saving", "mortgage", "fund", "gold", "trust");
+
+	private final List<ProductVo> products;
+	private final Map<String, ProductVo> productsByCode;
+	private final Map<String, List<ProductVo>> productsByType;
+	/**
+	 * 카테고리별 목록 조회용 DTO (ProductVoToMapper 변환 결과)
+	 */
+	private final Map<String, List<? extends ProductDto>> simpleDtosByType;
+	private final LocalDateTime loadedAt;
+
+	private ProductCatalog(List<ProductVo> products, Map<String, ProductVo> productsByCode,
+		Map<String, List<ProductVo>> productsByType, Map<String, List<? extends ProductDto>> simpleDtosByType,
+		LocalDateTime loadedAt) {
+		this.products = products;
+		this.productsByCode = productsByCode;
+		this.productsByType = productsByType;
+		this.simpleDtosByType = simpleDtosByType;
+		this.loadedAt = loadedAt;
+	}
+
+	/**
+	 * 조회한 전체 상품 VO 목록으로 스냅샷을 만듭니다. (VO → DTO 변환은 여기서 한 번만 수행)
+	 *
+	 * @param list v_all_products 조회 결과
+	 * @return 상품 카탈로그 스냅샷
+	 */
+	public static ProductCatalog of(List<? extends ProductVo> list) {
+		List<ProductVo> products = new ArrayList<>(list.size());
+		Map<String, ProductVo> byCode = new HashMap<>(list.size() * 2);
+		Map<String, List<ProductVo>> byType = new LinkedHashMap<>();
+		Map<String, List<ProductDto<?>>> dtosByType = new LinkedHashMap<>();
+		for (String type : TYPES) {
+			byType.put(type, new ArrayList<>());
+			dtosByType.put(type, new ArrayList<>());
+		}
+
+		for (ProductVo p : list) {
+			if (p == null || p.getFinPrdtCd() == null) {
+				continue;
+			}
+			String type = typeOf(p);
+			if (type == null) {
+				continue;
+			}
+			products.add(p);
+			byCode.put(p.getFinPrdtCd(), p);
+			byType.get(type).add(p);
+			dtosByType.get(type).add(toSimpleDto(p));
+		}
+
+		Map<String, List<ProductVo>> immutableByType = new LinkedHashMap<>();
+		Map<String, List<? extends ProductDto>> immutableDtosByType = new LinkedHashMap<>();
+		for (String type : TYPES) {
+			immutableByType.put(type, Collections.unmodifiableList(byType.get(type)));
+			immutableDtosByType.put(type, Collections.unmodifiableList(dtosByType.get(type)));
+		}
+		return new ProductCatalog(
+			Collections.unmodifiableList(products),
+			Collections.unmodifiableMap(byCode),
+			Collections.unmodifiableMap(immutableByType),
+			Collections.unmodifiableMap(immutableDtosByType),
+			LocalDateTime.now());
+	}
+
+	/**
+	 * 상품코드로 상품을 찾습니다.
+	 *
+	 * @param finPrdtCd 금융상품 코드
+	 * @return 상품 VO (없으면 null)
+	 */
+	public ProductVo findByCode(String finPrdtCd) {
+		return productsByCode.get(finPrdtCd);
+	}
+
+	public int size() {
+		return products.size();
+	}
+
+	/**
+	 * VO 타입으로 카테고리 키를 판단합니다. (ProductMapper.xml의 discriminator와 같은 키)
+	 */
+	private static String typeOf(ProductVo p) {
+		if (p instanceof DepositVo) {
+			return "deposit";
+		} else if (p instanceof SavingVo) {
+			return "saving";
+		} else if (p instanceof MortgageVo) {
+			return "mortgage";
+		} else if (p instanceof FundVo) {
+			return "fund";
+		} else if (p instanceof GoldVo) {
+			return "gold";
+		} else if (p instanceof TrustVo) {
+			return "trust";
+		}
+		return null;
+	}
+
+	private static ProductDto<?> toSimpleDto(ProductVo p) {
+		if (p instanceof DepositVo) {
+			return ProductVoToMapper.toDepositSimpleDto((DepositVo)p);
+		} else if (p instanceof SavingVo) {
+			return ProductVoToMapper.toSavingSimpleDto((SavingVo)p);
+		} else if (p instanceof MortgageVo) {
+			return ProductVoToMapper.toMortgageSimpleDto((MortgageVo)p);
+		} else if (p instanceof FundVo) {
+			return ProductVoToMapper.toFundSimpleDto((FundVo)p);
+		} else if (p instanceof GoldVo) {
+			return ProductVoToMapper.toGoldSimpleDto((GoldVo)p);
+		}
+		return ProductVoToMapper.toTrustSimpleDto((TrustVo)p);
+	}
+}
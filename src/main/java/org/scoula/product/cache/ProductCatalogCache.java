@@ -0,0 +1,64 @@
+package org.scoula.product.cache;
+
+import org.scoula.product.mapper.ProductMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 전역 금융상품 카탈로그 캐시입니다.
+ *
+ * - 전체 상품을 한 번에 조회하여 불변 스냅샷(ProductCatalog)으로 만들고, volatile 참조 교체로 갱신합니다.
+ * - 주기적으로(기본 10분) 다시 읽어옵니다. 상품 테이블은 애플리케이션 밖(데이터 적재 배치)에서만 바뀌므로
+ *   변경은 최대 갱신 주기(product.catalog.refresh.ms)만큼 늦게 반영됩니다.
+ * - 갱신 중 조회에 실패하면 기존 스냅샷을 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogCache {
+
+	private final ProductMapper productMapper;
+
+	private volatile ProductCatalog catalog;
+
+	/**
+	 * 현재 카탈로그 스냅샷을 반환합니다. 아직 적재되지 않았다면 지금 적재합니다.
+	 *
+	 * @return 상품 카탈로그 스냅샷
+	 */
+	public ProductCatalog get() {
+		ProductCatalog current = catalog;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (catalog == null) {
+				catalog = load();
+			}
+			return catalog;
+		}
+	}
+
+	/**
+	 * 주기적으로 전체 상품을 다시 읽어 스냅샷을 교체합니다.
+	 */
+	@Scheduled(fixedDelayString = "${product.catalog.refresh.ms:600000}",
+		initialDelayString = "${product.catalog.refresh.ms:600000}")
+	public void scheduledRefresh() {
+		try {
+			catalog = load();
+		} catch (RuntimeException e) {
+			log.error("상품 카탈로그 갱신 실패. 기존 스냅샷을 유지합니다.", e);
+		}
+	}
+
+	private ProductCatalog load() {
+		long start = System.currentTimeMillis();
+		ProductCatalog loaded = ProductCatalog.of(productMapper.findAllProduct());
+		log.info("상품 카탈로그 적재 완료: {}개 ({}ms)", loaded.size(), System.currentTimeMillis() - start);
+		return loaded;
+	}
+}
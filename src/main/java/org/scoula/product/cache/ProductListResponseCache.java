@@ -0,0 +1,135 @@
+package org.scoula.product.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 목록 응답(JSON)을 미리 직렬화해 두는 캐시입니다.
+ *
+ * - 카탈로그 스냅샷이 바뀔 때 한 번만 JSON 바이트와 gzip 압축본을 만들고, 이후 요청은 메모리의 바이트를 그대로 내려줍니다.
+ * - 내용의 SHA-256으로 강한 ETag를 만들어 If-None-Match 요청에 304로 응답할 수 있게 합니다.
+ *   (gzip 압축본은 표현이 다르므로 "-gzip" 접미사를 붙인 별도의 ETag를 사용)
+ * - 다른 응답에 상품 목록을 포함할 때는 getRawJson()을 필드로 넣어 다시 직렬화하지 않고 그대로 끼워 넣습니다.
+ * - 직렬화에는 MVC 메시지 컨버터와 같은 공용 ObjectMapper(RootConfig)를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductListResponseCache {
+
+	private final ProductCatalogCache productCatalogCache;
+	private final ObjectMapper objectMapper;
+
+	private volatile RenderedResponse rendered;
+
+	/**
+	 * 현재 카탈로그 기준으로 직렬화된 응답을 반환합니다. 카탈로그가 갱신되었으면 다시 직렬화합니다.
+	 *
+	 * @return 직렬화된 상품 목록 응답
+	 */
+	public RenderedResponse get() {
+		ProductCatalog catalog = productCatalogCache.get();
+		RenderedResponse current = rendered;
+		if (current != null && current.source == catalog) {
+			return current;
+		}
+		synchronized (this) {
+			if (rendered == null || rendered.source != catalog) {
+				rendered = render(catalog);
+			}
+			return rendered;
+		}
+	}
+
+	private RenderedResponse render(ProductCatalog catalog) {
+		try {
+			byte[] json = objectMapper.writeValueAsBytes(catalog.getSimpleDtosByType());
+			byte[] gzip = gzip(json);
+			String tag = sha256(json);
+			log.info("상품 목록 응답 직렬화 완료: JSON {}바이트, gzip {}바이트", json.length, gzip.length);
+			return new RenderedResponse(catalog, json, gzip, "\"" + tag + "\"", "\"" + tag + "-gzip\"");
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("상품 목록 응답 직렬화에 실패했습니다.", e);
+		}
+	}
+
+	private static byte[] gzip(byte[] content) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+		try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+			gzipOut.write(content);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 직렬화된 상품 목록 응답 (원본 JSON, gzip 압축본, 각각의 강한 ETag, 다른 응답에 끼워 넣을 RawValue)
+	 */
+	@Getter
+	public static final class RenderedResponse {
+		private final ProductCatalog source;
+		private final byte[] json;
+		private final byte[] gzip;
+		private final String etag;
+		private final String gzipEtag;
+		private final RawValue rawJson;
+
+		private RenderedResponse(ProductCatalog source, byte[] json, byte[] gzip, String etag, String gzipEtag) {
+			this.source = source;
+			this.json = json;
+			this.gzip = gzip;
+			this.etag = etag;
+			this.gzipEtag = gzipEtag;
+			this.rawJson = new RawValue(new String(json, StandardCharsets.UTF_8));
+		}
+
+		/**
+		 * If-None-Match 헤더 값이 이 응답의 ETag(어느 표현이든) 중 하나와 일치하는지 확인합니다.
+		 * (If-None-Match는 약한 비교를 사용하므로 W/ 접두사는 무시)
+		 *
+		 * @param ifNoneMatch If-None-Match 헤더 값
+		 * @return 일치하면 true (304 응답 대상)
+		 */
+		public boolean matches(String ifNoneMatch) {
+			if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+				return false;
+			}
+			for (String candidate : ifNoneMatch.split(",")) {
+				String tag = candidate.trim();
+				if (tag.startsWith("W/")) {
+					tag = tag.substring(2);
+				}
+				if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package org.scoula.product.controller;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.scoula.product.cache.ProductListResponseCache;
+import org.scoula.product.cache.ProductListResponseCache.RenderedResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+
+@Api(tags = "금융상품 API", description = "금융상품 목록 조회 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/products")
+public class ProductController {
+
+	private final ProductListResponseCache productListResponseCache;
+
+	@ApiOperation(value = "전체 금융상품 목록 조회",
+		notes = "카테고리별 금융상품 목록을 조회합니다. 미리 직렬화된 응답을 반환하며, ETag가 일치하면 304를 반환합니다.")
+	@ApiResponses({
+		@ApiResponse(code = 200, message = "조회 성공"),
+		@ApiResponse(code = 304, message = "변경 없음 (If-None-Match 일치)")
+	})
+	@GetMapping
+	public ResponseEntity<byte[]> getAllProducts(
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+		RenderedResponse rendered = productListResponseCache.get();
+		boolean gzip = acceptsGzip(acceptEncoding);
+		String etag = gzip ? rendered.getGzipEtag() : rendered.getEtag();
+
+		// 캐시는 저장하되, 매번 ETag로 재검증하도록 no-cache 사용 (카탈로그 갱신 즉시 반영)
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag(etag);
+		headers.setCacheControl(CacheControl.noCache());
+		headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+		if (rendered.matches(ifNoneMatch)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+		}
+
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		byte[] body = gzip ? rendered.getGzip() : rendered.getJson();
+		if (gzip) {
+			headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		headers.setContentLength(body.length);
+		return ResponseEntity.ok().headers(headers).body(body);
+	}
+
+	/**
+	 * Accept-Encoding 헤더에 gzip이 (q=0이 아닌 값으로) 포함되어 있는지 확인합니다.
+	 */
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String token : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+			String[] parts = token.trim().split(";");
+			if (!parts[0].trim().equals("gzip")) {
+				continue;
+			}
+			for (int i = 1; i < parts.length; i++) {
+				String param = parts[i].trim();
+				if (param.startsWith("q=")) {
+					try {
+						return Double.parseDouble(param.substring(2)) > 0;
+					} catch (NumberFormatException e) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+}
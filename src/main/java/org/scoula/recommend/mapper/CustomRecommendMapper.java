@@ -43,4 +43,19 @@ public interface CustomRecommendMapper {
 	 * @return 삭제된 행의 수
 	 */
 	int deleteAllProductsByEmail(String email);
+
+	/**
+	 * 여러 맞춤 추천 상품 정보를 한 번의 다중 행 INSERT로 저장합니다. (이미 있으면 점수만 갱신)
+	 * @param customRecommends 저장할 추천 상품 정보 목록 (비어있으면 안 됨)
+	 * @return 영향받은 행의 수
+	 */
+	int upsertCustomRecommends(@Param("list") List<CustomRecommendVo> customRecommends);
+
+	/**
+	 * 특정 사용자의 맞춤 추천 상품 중 주어진 상품 코드 목록에 없는 것을 삭제합니다.
+	 * @param email 사용자 이메일
+	 * @param codes 유지할 금융 상품 코드 목록
+	 * @return 삭제된 행의 수
+	 */
+	int deleteCustomRecommendsExcept(@Param("email") String email, @Param("codes") List<String> codes);
 }
\ No newline at end of file
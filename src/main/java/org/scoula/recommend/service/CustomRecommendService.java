@@ -21,4 +21,12 @@ public interface CustomRecommendService {
 	 * @param email 추천 목록을 갱신할 사용자의 이메일
 	 */
 	void addCustomRecommend(String email);
+
+	/**
+	 * 호출 측에서 이미 알고 있는 성향/자산 비율로 맞춤 추천 상품 목록을 갱신합니다. (사용자 재조회 없음)
+	 * @param email 추천 목록을 갱신할 사용자의 이메일
+	 * @param tendency 사용자 투자 성향
+	 * @param assetProportion 사용자 자산 비율
+	 */
+	void addCustomRecommend(String email, Double tendency, Double assetProportion);
 }
\ No newline at end of file
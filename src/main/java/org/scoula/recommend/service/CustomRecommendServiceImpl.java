@@ -1,18 +1,15 @@
 package org.scoula.recommend.service;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.scoula.product.domain.ProductVo;
-import org.scoula.product.mapper.ProductMapper;
-import org.scoula.product.service.ProductService;
 import org.scoula.recommend.domain.CustomRecommendVo;
 import org.scoula.recommend.dto.CustomRecommendDto;
 import org.scoula.recommend.mapper.CustomRecommendMapper;
 import org.scoula.user.dto.UserDto;
 import org.scoula.user.service.UserService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,7 +19,10 @@ public class CustomRecommendServiceImpl implements CustomRecommendService {
 
 	private final CustomRecommendMapper customRecommendMapper;
 	private final UserService userService;
-	private final ProductService productService;
+	private final RecommendationEngine recommendationEngine;
+
+	/** 사용자별로 저장할 추천 상품 수 */
+	private static final int RECOMMEND_COUNT = 8;
 
 	@Override
 	public List<CustomRecommendDto> getCustomRecommendsByEmail(String email) {
@@ -43,75 +43,48 @@ public class CustomRecommendServiceImpl implements CustomRecommendService {
 	 * 새로운 맞춤 추천 상품 목록을 생성하고 DB에 저장합니다.
 	 * @param email 추천 목록을 생성할 사용자의 이메일
 	 */
-
-	private final ProductMapper productMapper;
-
 	@Override
+	@Transactional
 	public void addCustomRecommend(String email) {
-
-		// 1. 추천 계산에 필요한 사용자 정보와 전체 상품 목록을 가져옵니다.
+		// 1. 추천 계산에 필요한 사용자 정보를 가져옵니다.
 		UserDto user = userService.getUser(email);
-		List<? extends ProductVo> products = productMapper.findAllProduct();
-		// List<? extends ProductVo> products = productService.findAllProducts();
-		// List<? extends ProductVo> prdtList = productMapper.findAllProduct();
 
 		// 2. 필수 정보가 없으면 로직을 중단합니다.
-		if (user == null || products == null || products.isEmpty()) {
+		if (user == null) {
 			return;
 		}
+		addCustomRecommend(email, user.getTendency(), user.getAssetProportion());
+	}
 
-		// 3. 최신 추천 목록을 생성하기 위해 기존 목록을 모두 삭제합니다.
-		customRecommendMapper.deleteAllProductsByEmail(email);
-
-		List<CustomRecommendVo> recommendVoList = new ArrayList<>();
-
-		// 4. Null-safe하게 사용자 성향/자산 비율을 가져옵니다.
-		double userTendency = (user.getTendency() != null) ? user.getTendency() : 0.0;
-		double userAssetProportion = (user.getAssetProportion() != null) ? user.getAssetProportion() : 0.0;
-
-		// 5. 모든 상품을 순회하며 코사인 유사도 점수를 계산합니다.
-		for (ProductVo vo : products) {
-			if (vo == null || vo.getFinPrdtCd() == null) {
-				continue; // 필수 정보가 없는 상품은 건너뜁니다.
-			}
-			// Null-safe하게 상품 성향/자산 비율을 가져옵니다.
-			double productTendency = (vo.getTendency() != null) ? vo.getTendency() : 0.0;
-			double productAssetProportion = (vo.getAssetProportion() != null) ? vo.getAssetProportion() : 0.0;
-
-			double score = cosineSimilarity(userTendency, userAssetProportion, productTendency, productAssetProportion);
+	/**
+	 * 이미 알고 있는 사용자 성향/자산 비율로 맞춤 추천 상품 목록을 갱신합니다. (사용자 재조회 없음)
+	 *
+	 * 1. 추천 엔진이 상품 특성 행렬에서 상위 8개를 고릅니다.
+	 * 2. 목록에서 빠진 기존 추천은 한 번의 DELETE로 지우고, 상위 8개는 한 번의 다중 행 upsert로 저장합니다.
+	 * @param email 추천 목록을 갱신할 사용자의 이메일
+	 * @param tendency 사용자 투자 성향
+	 * @param assetProportion 사용자 자산 비율
+	 */
+	@Override
+	@Transactional
+	public void addCustomRecommend(String email, Double tendency, Double assetProportion) {
+		// Null-safe하게 사용자 성향/자산 비율을 가져옵니다.
+		double userTendency = (tendency != null) ? tendency : 0.0;
+		double userAssetProportion = (assetProportion != null) ? assetProportion : 0.0;
 
-			recommendVoList.add(new CustomRecommendVo(email, vo.getFinPrdtCd(), String.valueOf(score)));
-		}
+		List<CustomRecommendVo> recommendVoList =
+			recommendationEngine.recommend(email, userTendency, userAssetProportion, RECOMMEND_COUNT);
 
-		// 6. 계산된 유사도 점수를 기준으로 내림차순 정렬합니다.
-		recommendVoList.sort((a, b) -> {
-			try {
-				return Double.compare(Double.parseDouble(b.getScore()), Double.parseDouble(a.getScore()));
-			} catch (NumberFormatException e) {
-				return 0; // 점수 변환 실패 시 순서 변경 안함
-			}
-		});
-
-		// 7. 상위 8개의 추천 상품만 DB에 저장합니다.
-		for (int i = 0; i < Math.min(8, recommendVoList.size()); i++) {
-			customRecommendMapper.insertCustomRecommend(recommendVoList.get(i));
+		// 상품 목록이 비어있으면 기존 추천을 유지합니다.
+		if (recommendVoList.isEmpty()) {
+			return;
 		}
-	}
 
-	/**
-	 * 두 벡터(사용자, 상품) 간의 코사인 유사도를 계산합니다.
-	 * @param t1 사용자 성향
-	 * @param a1 사용자 자산 비율
-	 * @param t2 상품 성향
-	 * @param a2 상품 자산 비율
-	 * @return 0과 1 사이의 유사도 점수
-	 */
-	private double cosineSimilarity(double t1, double a1, double t2, double a2) {
-		double dotProduct = t1 * t2 + a1 * a2;
-		double normA = Math.sqrt(t1 * t1 + a1 * a1);
-		double normB = Math.sqrt(t2 * t2 + a2 * a2);
-		// 분모가 0이 되는 경우를 방지
-		return (normA == 0 || normB == 0) ? 0 : dotProduct / (normA * normB);
+		List<String> codes = recommendVoList.stream()
+			.map(CustomRecommendVo::getFinPrdtCd)
+			.collect(Collectors.toList());
+		customRecommendMapper.deleteCustomRecommendsExcept(email, codes);
+		customRecommendMapper.upsertCustomRecommends(recommendVoList);
 	}
 
 	/**
@@ -0,0 +1,170 @@
+package org.scoula.recommend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.scoula.product.cache.ProductCatalog;
+import org.scoula.product.cache.ProductCatalogCache;
+import org.scoula.product.domain.ProductVo;
+import org.scoula.recommend.domain.CustomRecommendVo;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 성향/자산 비율과 상품 특성 벡터의 코사인 유사도로 상위 K개 상품을 고르는 추천 엔진입니다.
+ *
+ * - 상품 특성(성향, 자산 비율)은 카탈로그 스냅샷이 바뀔 때 한 번만 단위 벡터로 정규화하여 double[]에 저장합니다.
+ * - 추천 시에는 내적만 계산하고, 크기 K의 최소 힙으로 상위 K개만 유지합니다. (전체 정렬, 점수 문자열 변환 없음)
+ * - 점수가 같으면 카탈로그 순서가 앞선 상품을 우선합니다. (기존 안정 정렬과 같은 결과)
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationEngine {
+
+	private final ProductCatalogCache productCatalogCache;
+
+	private volatile FeatureMatrix matrix;
+
+	/**
+	 * 사용자 특성과 가장 유사한 상품을 최대 k개 추천합니다.
+	 *
+	 * @param email 사용자 이메일
+	 * @param tendency 사용자 투자 성향
+	 * @param assetProportion 사용자 자산 비율
+	 * @param k 추천할 최대 상품 수
+	 * @return 점수 내림차순으로 정렬된 추천 목록
+	 */
+	public List<CustomRecommendVo> recommend(String email, double tendency, double assetProportion, int k) {
+		FeatureMatrix current = currentMatrix();
+		int size = current.codes.length;
+		if (size == 0 || k <= 0) {
+			return new ArrayList<>();
+		}
+
+		// 사용자 벡터 정규화 (영벡터면 모든 점수가 0)
+		double norm = Math.sqrt(tendency * tendency + assetProportion * assetProportion);
+		double userT = norm == 0 ? 0 : tendency / norm;
+		double userA = norm == 0 ? 0 : assetProportion / norm;
+
+		int capacity = Math.min(k, size);
+		int[] heapRows = new int[capacity];
+		double[] heapScores = new double[capacity];
+		int heapSize = 0;
+		double[] features = current.unitFeatures;
+		for (int row = 0; row < size; row++) {
+			double score = userT * features[row * 2] + userA * features[row * 2 + 1];
+			if (heapSize < capacity) {
+				heapRows[heapSize] = row;
+				heapScores[heapSize] = score;
+				siftUp(heapRows, heapScores, heapSize++);
+			} else if (score > heapScores[0]) {
+				// 점수가 같으면 먼저 들어온(카탈로그 순서가 앞선) 상품을 유지
+				heapRows[0] = row;
+				heapScores[0] = score;
+				siftDown(heapRows, heapScores, heapSize, 0);
+			}
+		}
+
+		// 힙을 비우면서 뒤에서부터 채워 점수 내림차순 정렬
+		CustomRecommendVo[] sorted = new CustomRecommendVo[heapSize];
+		for (int i = heapSize - 1; i >= 0; i--) {
+			sorted[i] = new CustomRecommendVo(email, current.codes[heapRows[0]], String.valueOf(heapScores[0]));
+			heapSize--;
+			heapRows[0] = heapRows[heapSize];
+			heapScores[0] = heapScores[heapSize];
+			siftDown(heapRows, heapScores, heapSize, 0);
+		}
+		return new ArrayList<>(List.of(sorted));
+	}
+
+	/**
+	 * 현재 카탈로그 스냅샷의 특성 행렬을 반환합니다. 카탈로그가 갱신되었으면 다시 만듭니다.
+	 */
+	private FeatureMatrix currentMatrix() {
+		ProductCatalog catalog = productCatalogCache.get();
+		FeatureMatrix current = matrix;
+		if (current != null && current.source == catalog) {
+			return current;
+		}
+		current = FeatureMatrix.of(catalog);
+		matrix = current;
+		return current;
+	}
+
+	/**
+	 * "더 나쁜" 항목이 루트에 오는 최소 힙 비교. 점수가 낮을수록, 같으면 카탈로그 순서가 뒤일수록 나쁨.
+	 */
+	private static boolean worse(int[] rows, double[] scores, int i, int j) {
+		return scores[i] < scores[j] || (scores[i] == scores[j] && rows[i] > rows[j]);
+	}
+
+	private static void siftUp(int[] rows, double[] scores, int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!worse(rows, scores, index, parent)) {
+				break;
+			}
+			swap(rows, scores, index, parent);
+			index = parent;
+		}
+	}
+
+	private static void siftDown(int[] rows, double[] scores, int size, int index) {
+		while (true) {
+			int left = index * 2 + 1;
+			if (left >= size) {
+				break;
+			}
+			int right = left + 1;
+			int worst = (right < size && worse(rows, scores, right, left)) ? right : left;
+			if (!worse(rows, scores, worst, index)) {
+				break;
+			}
+			swap(rows, scores, index, worst);
+			index = worst;
+		}
+	}
+
+	private static void swap(int[] rows, double[] scores, int i, int j) {
+		int row = rows[i];
+		rows[i] = rows[j];
+		rows[j] = row;
+		double score = scores[i];
+		scores[i] = scores[j];
+		scores[j] = score;
+	}
+
+	/**
+	 * 상품코드 배열과 (성향, 자산 비율) 단위 벡터를 행 단위로 저장한 불변 행렬
+	 */
+	private static final class FeatureMatrix {
+		private final ProductCatalog source;
+		private final String[] codes;
+		private final double[] unitFeatures;
+
+		private FeatureMatrix(ProductCatalog source, String[] codes, double[] unitFeatures) {
+			this.source = source;
+			this.codes = codes;
+			this.unitFeatures = unitFeatures;
+		}
+
+		private static FeatureMatrix of(ProductCatalog catalog) {
+			List<ProductVo> products = catalog.getProducts();
+			String[] codes = new String[products.size()];
+			double[] features = new double[products.size() * 2];
+			for (int row = 0; row < codes.length; row++) {
+				ProductVo vo = products.get(row);
+				codes[row] = vo.getFinPrdtCd();
+				// Null-safe하게 상품 성향/자산 비율을 가져옵니다.
+				double t = (vo.getTendency() != null) ? vo.getTendency() : 0.0;
+				double a = (vo.getAssetProportion() != null) ? vo.getAssetProportion() : 0.0;
+				double norm = Math.sqrt(t * t + a * a);
+				// 영벡터 상품은 (0, 0)으로 두어 점수가 0이 되도록 함
+				features[row * 2] = norm == 0 ? 0 : t / norm;
+				features[row * 2 + 1] = norm == 0 ? 0 : a / norm;
+			}
+			return new FeatureMatrix(catalog, codes, features);
+		}
+	}
+}
@@ -8,9 +8,9 @@ import java.util.stream.Collectors;
 import org.scoula.asset.dto.AssetStatusSummaryDto;
 import org.scoula.asset.service.AssetStatusService;
 import org.scoula.news.service.NewsService;
+import org.scoula.product.cache.ProductListResponseCache;
 import org.scoula.product.domain.ProductVo;
 import org.scoula.product.dto.FundDailyReturnDto;
-import org.scoula.product.dto.ProductDto;
 import org.scoula.product.mapper.ProductMapper;
 import org.scoula.product.service.ProductService;
 import org.scoula.recommend.service.CustomRecommendService;
@@ -25,6 +25,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.util.RawValue;
+
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
@@ -40,6 +42,7 @@ public class RetirementController {
 	private final UserService userService;
 	private final AssetStatusService assetStatusService;
 	private final ProductService productService;
+	private final ProductListResponseCache productListResponseCache;
 	private final CustomRecommendService customRecommendService;
 	private final ProductMapper productMapper;
 	private final NewsService newsService;
@@ -65,8 +68,8 @@ public class RetirementController {
 			.assetStatus(assetList)
 			.build();
 
-		// 2. 나머지 데이터 조회 및 설정
-		Map<String, List<? extends ProductDto>> allProducts = productService.findAllProducts();
+		// 2. 나머지 데이터 조회 및 설정 (전체 상품 목록은 미리 직렬화된 JSON을 그대로 사용)
+		RawValue allProducts = productListResponseCache.get().getRawJson();
 
 		// 응답 DTO 생성
 		RetirementMainResponseDto response = RetirementMainResponseDto.builder()
@@ -92,8 +95,9 @@ public class RetirementController {
 		ProductVo productVo = productService.getProductDetail(finPrdtCd);
 		Map<String, Object> response = new HashMap<>();
 
-		double userTendency = userService.getUser(email).getTendency();
-		double userAssetProportion = userService.getUser(email).getAssetProportion();
+		UserDto userDto = userService.getUser(email);
+		double userTendency = userDto.getTendency();
+		double userAssetProportion = userDto.getAssetProportion();
 
 		double productTendency = productVo.getTendency();
 		double productAssetProportion = productVo.getAssetProportion();
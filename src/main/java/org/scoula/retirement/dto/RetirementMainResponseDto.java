@@ -1,13 +1,13 @@
 package org.scoula.retirement.dto;
 
 import java.util.List;
-import java.util.Map;
 
 import org.scoula.news.dto.NewsDto;
-import org.scoula.product.dto.ProductDto;
 import org.scoula.recommend.dto.CustomRecommendDto;
 import org.scoula.user.dto.UserGraphDto;
 
+import com.fasterxml.jackson.databind.util.RawValue;
+
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
@@ -27,8 +27,9 @@ public class RetirementMainResponseDto {
 	@ApiModelProperty(value = "맞춤 추천 상품 목록")
 	private List<CustomRecommendDto> customRecommendPrdt;
 
-	@ApiModelProperty(value = "전체 상품 목록 (예금, 적금, 주택담보대출, 펀드, 금, 신탁)")
-	private Map<String, List<? extends ProductDto>> allProducts;
+	// 미리 직렬화된 상품 목록 JSON(ProductListResponseCache)을 그대로 끼워 넣음
+	@ApiModelProperty(value = "전체 상품 목록 (예금, 적금, 주택담보대출, 펀드, 금, 신탁)", dataType = "java.util.Map")
+	private RawValue allProducts;
 
 	@ApiModelProperty(value = "뉴스 목록")
 	private List<NewsDto> news;
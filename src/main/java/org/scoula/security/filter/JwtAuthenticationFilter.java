@@ -9,12 +9,14 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.scoula.security.util.JwtProcessor;
+import org.scoula.security.util.VerifiedTokenCache;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -36,15 +38,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	/** JWT 토큰의 유효성 검사 및 정보 추출을 담당하는 컴포넌트 */
 	private final JwtProcessor jwtProcessor;
 
+	/** 최근에 검증한 토큰의 사용자/만료 시각 캐시 (같은 토큰을 요청마다 다시 검증하지 않기 위함) */
+	private final VerifiedTokenCache verifiedTokenCache;
+
 	/**
-	 * 유효한 JWT 토큰으로부터 Authentication 객체를 생성합니다.
-	 * @param token 유효성이 검증된 JWT 문자열
-	 * @return 생성된 Authentication 객체
+	 * 토큰을 검증하고 사용자 식별자(email)를 반환합니다.
+	 * 최근에 검증한 토큰이면 캐시에서 바로 반환하고, 아니면 한 번만 해석하여 검증한 뒤 캐시에 넣습니다.
+	 * 서명 오류, 만료 등으로 해석할 수 없으면 예외가 발생합니다.
+	 * @param token JWT 문자열
+	 * @return 사용자 이메일
 	 */
-	private Authentication getAuthentication(String token) {
-		// JWT에서 사용자 식별자(email)를 추출합니다.
-		String email = jwtProcessor.getUsername(token);
+	private String resolveUsername(String token) {
+		String email = verifiedTokenCache.getSubject(token);
+		if (email != null) {
+			return email;
+		}
+		Claims claims = jwtProcessor.parseClaims(token);
+		verifiedTokenCache.put(token, claims.getSubject(), claims.getExpiration());
+		return claims.getSubject();
+	}
 
+	/**
+	 * 검증된 사용자 식별자로 Authentication 객체를 생성합니다.
+	 * @param email 검증된 토큰의 사용자 이메일
+	 * @return 생성된 Authentication 객체
+	 */
+	private Authentication getAuthentication(String email) {
 		// UsernamePasswordAuthenticationToken을 사용하여 인증 객체를 생성합니다.
 		// 여기서는 별도의 권한(Role)을 설정하지 않으므로 비어있는 리스트를 전달합니다.
 		return new UsernamePasswordAuthenticationToken(email, null, Collections.emptyList());
@@ -70,11 +89,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			// 'Bearer ' 접두사를 제거하여 순수한 토큰 문자열만 추출합니다.
 			String token = bearerToken.substring(BEARER_PREFIX.length());
 
-			// 2-1. 토큰의 유효성을 검증합니다.
-			if (jwtProcessor.validateToken(token)) {
+			// 2-1. 토큰의 유효성을 검증하고 사용자 식별자를 추출합니다. (한 번만 해석, 최근 검증한 토큰은 캐시 사용)
+			String email = resolveUsername(token);
+			if (email != null) {
 				// 2-2. 토큰이 유효하면, Authentication 객체를 생성하여 SecurityContextHolder에 저장합니다.
 				// 이로써 해당 요청은 인증된 것으로 간주됩니다.
-				Authentication authentication = getAuthentication(token);
+				Authentication authentication = getAuthentication(email);
 				SecurityContextHolder.getContext().setAuthentication(authentication);
 				log.debug("Authentication successful for user: {}", authentication.getName());
 			} else {
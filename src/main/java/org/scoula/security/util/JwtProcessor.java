@@ -9,7 +9,7 @@ import java.util.Map;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
@@ -27,6 +27,8 @@ public class JwtProcessor {
   // JWT 서명에 사용할 비밀키
   private final String secretKey = "비밀키는 충반한 길이의 문자열이어야 한다";
   private final Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+  // 서명 검증용 파서 (불변·스레드 안전하므로 한 번만 만들어 재사용)
+  private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
 
   /**
    * 액세스 토큰을 생성합니다.
@@ -58,6 +60,17 @@ public class JwtProcessor {
         .compact();
   }
 
+  /**
+   * JWT를 한 번만 해석하여 서명·유효기간을 검증하고 클레임을 반환합니다.
+   * 검증과 정보 추출을 함께 해야 할 때는 validateToken + getUsername 대신 이 메서드를 사용합니다.
+   *
+   * @param token 검증할 JWT 문자열
+   * @return 검증된 토큰의 클레임 (subject, expiration 등)
+   */
+  public Claims parseClaims(String token) {
+    return parser.parseClaimsJws(token).getBody();
+  }
+
   /**
    * JWT의 유효성을 검증합니다. (서명, 유효기간 등)
    *
@@ -65,10 +78,7 @@ public class JwtProcessor {
    * @return 유효하면 true, 아니면 예외 발생
    */
   public boolean validateToken(String token) {
-    Jws<Claims> claims = Jwts.parserBuilder()
-        .setSigningKey(key)
-        .build()
-        .parseClaimsJws(token);
+    parseClaims(token);
     return true;
   }
 
@@ -92,11 +102,6 @@ public class JwtProcessor {
    * @return 사용자 이메일
    */
   public String getUsername(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(key)
-        .build()
-        .parseClaimsJws(token)
-        .getBody()
-        .getSubject();
+    return parseClaims(token).getSubject();
   }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package org.scoula.security.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 최근에 서명 검증을 마친 액세스 토큰의 캐시
+ *
+ * - 키는 토큰 원문이 아닌 SHA-256 다이제스트이며, 값은 사용자(subject)와 만료 시각입니다.
+ * - 조회 시 만료 시각이 지났으면 버리고 없는 것으로 취급하므로, 만료된 토큰은 다시 JwtProcessor 검증을 거쳐 거부됩니다.
+ * - 최대 건수(기본 10,000)에 도달하면 만료된 항목을 먼저 정리하고(최대 1초에 한 번), 그래도 가득 차 있으면
+ *   새 토큰은 캐시하지 않습니다.
+ */
+@Log4j2
+@Component
+public class VerifiedTokenCache {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	});
+
+	/** 가득 찼을 때 만료 항목 정리를 다시 시도하기까지의 최소 간격 */
+	private static final long EVICT_INTERVAL_MS = 1_000L;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong lastEvictAt = new AtomicLong();
+	private final int maxSize;
+
+	public VerifiedTokenCache(@Value("${jwt.verified.cache.max.size:10000}") int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * 캐시된 토큰의 사용자(subject)를 반환합니다.
+	 *
+	 * @param token 액세스 토큰 문자열
+	 * @return 검증된 적 있고 아직 만료되지 않은 토큰이면 subject, 아니면 null
+	 */
+	public String getSubject(String token) {
+		String digest = digest(token);
+		Entry entry = entries.get(digest);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+			entries.remove(digest, entry);
+			return null;
+		}
+		return entry.subject;
+	}
+
+	/**
+	 * 서명 검증을 마친 토큰을 캐시에 넣습니다.
+	 *
+	 * @param token 액세스 토큰 문자열
+	 * @param subject 토큰의 사용자(subject)
+	 * @param expiration 토큰 만료 시각 (없으면 캐시하지 않음)
+	 */
+	public void put(String token, String subject, Date expiration) {
+		if (subject == null || expiration == null) {
+			return;
+		}
+		if (entries.size() >= maxSize && !evictExpired()) {
+			return;
+		}
+		entries.put(digest(token), new Entry(subject, expiration.getTime()));
+	}
+
+	/**
+	 * 만료된 항목을 정리합니다.
+	 *
+	 * @return 정리 후 새 항목을 넣을 자리가 있으면 true
+	 */
+	private boolean evictExpired() {
+		long now = System.currentTimeMillis();
+		long last = lastEvictAt.get();
+		if (now - last < EVICT_INTERVAL_MS || !lastEvictAt.compareAndSet(last, now)) {
+			return false;
+		}
+		entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+		boolean hasRoom = entries.size() < maxSize;
+		if (!hasRoom) {
+			log.debug("검증 토큰 캐시가 가득 찼습니다. (최대 {}건)", maxSize);
+		}
+		return hasRoom;
+	}
+
+	private static String digest(String token) {
+		MessageDigest md = SHA_256.get();
+		md.reset();
+		return Base64.getEncoder().withoutPadding()
+			.encodeToString(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+	}
+
+	private static final class Entry {
+		private final String subject;
+		private final long expiresAtMillis;
+
+		private Entry(String subject, long expiresAtMillis) {
+			this.subject = subject;
+			this.expiresAtMillis = expiresAtMillis;
+		}
+	}
+}
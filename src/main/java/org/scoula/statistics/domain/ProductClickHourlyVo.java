@@ -0,0 +1,31 @@
+package org.scoula.statistics.domain;
+
+import java.time.LocalDateTime;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 시간대별 상품 클릭 집계 VO(Value Object) 클래스
+ * DB의 product_click_hourly 테이블과 매핑
+ */
+@ApiModel(value = "시간대별 상품 클릭 집계 VO", description = "DB product_click_hourly 테이블과 매핑되는 VO 객체")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductClickHourlyVo {
+
+	@ApiModelProperty(value = "집계 시간대 시작 시각(정각)", example = "2025-08-20T12:00:00")
+	private LocalDateTime bucketHour;
+
+	@ApiModelProperty(value = "금융상품 코드", example = "DEP001")
+	private String finPrdtCd;
+
+	@ApiModelProperty(value = "해당 시간대 클릭 수", example = "42")
+	private long clickCount;
+}
@@ -0,0 +1,35 @@
+package org.scoula.statistics.mapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.scoula.statistics.domain.ProductClickHourlyVo;
+import org.scoula.statistics.dto.ProductClickStatsDto;
+
+/**
+ * 시간대별 상품 클릭 집계(product_click_hourly) Mapper
+ * 메모리에서 모은 클릭 수를 누적 반영하고, 기간별 통계를 집계 테이블에서 조회합니다.
+ */
+@Mapper
+public interface ProductClickHourlyMapper {
+
+	/**
+	 * 시간대별 클릭 수를 누적 반영합니다. (이미 있는 행이면 click_count에 더함)
+	 *
+	 * @param counts 시간대·상품별 증가분 리스트
+	 * @return 영향받은 행(row) 수
+	 */
+	int upsertHourlyCounts(@Param("counts") List<ProductClickHourlyVo> counts);
+
+	/**
+	 * [fromHour, toHour) 구간의 상품별 클릭 수를 집계합니다.
+	 *
+	 * @param fromHour 시작 시간대 (포함)
+	 * @param toHour 종료 시간대 (제외)
+	 * @return 상품별 클릭 수 리스트 (클릭 수 내림차순)
+	 */
+	List<ProductClickStatsDto> selectClickStatsBetween(@Param("fromHour") LocalDateTime fromHour,
+		@Param("toHour") LocalDateTime toHour);
+}
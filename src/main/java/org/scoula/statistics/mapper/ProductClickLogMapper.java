@@ -6,12 +6,11 @@ import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.scoula.statistics.domain.ProductClickLogVo;
-import org.scoula.statistics.dto.ProductClickStatsDto;
 
 /**
  * 상품 클릭 로그를 관리하는 Mapper 인터페이스
  * DB의 product_click_log 테이블과 매핑되며,
- * 클릭 로그 저장, 통계 집계, 오래된 로그 삭제 기능을 제공합니다.
+ * 클릭 로그 저장, 오래된 로그 삭제 기능을 제공합니다. (통계 집계는 ProductClickHourlyMapper)
  */
 @Mapper
 public interface ProductClickLogMapper {
@@ -24,17 +23,20 @@ public interface ProductClickLogMapper {
 	void insertClickLog(ProductClickLogVo log);
 
 	/**
-	 * 지정된 날짜 이후의 클릭 통계를 집계합니다.
+	 * 여러 클릭 로그를 다중 행 INSERT 한 번으로 저장합니다. (write-behind 버퍼 플러시용)
 	 *
-	 * @param fromDate 조회 시작일(LocalDateTime)
-	 * @return 상품별 클릭 수 리스트(ProductClickStatsDto)
+	 * @param logs 클릭 로그 리스트 (createdAt은 클릭 시각)
+	 * @return 삽입된 행(row) 수
 	 */
-	List<ProductClickStatsDto> selectClickStatsSince(@Param("fromDate") LocalDateTime fromDate);
+	int insertClickLogs(@Param("logs") List<ProductClickLogVo> logs);
 
 	/**
-	 * 지정된 날짜 이전의 클릭 로그를 삭제합니다.
+	 * 지정된 날짜 이전의 클릭 로그를 최대 limit건 삭제합니다.
+	 * 한 번에 오래 잠금을 잡지 않도록 반환값이 limit보다 작아질 때까지 나누어 호출합니다.
 	 *
 	 * @param toDate 삭제 기준 날짜(LocalDateTime)
+	 * @param limit 한 번에 삭제할 최대 건수
+	 * @return 삭제된 행(row) 수
 	 */
-	void deleteClickLogsBefore(@Param("toDate") LocalDateTime toDate);
+	int deleteClickLogsBeforeBatch(@Param("toDate") LocalDateTime toDate, @Param("limit") int limit);
 }
@@ -1,15 +1,17 @@
 package org.scoula.statistics.scheduler;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.scoula.statistics.dto.ProductClickStatsDto;
-import org.scoula.statistics.mapper.ProductClickLogMapper;
+import org.scoula.statistics.mapper.ProductClickHourlyMapper;
 import org.scoula.statistics.service.BankServerApiClient;
+import org.scoula.statistics.service.ProductClickRollup;
+import org.scoula.statistics.service.ProductClickStatsService;
 import org.scoula.statistics.service.StatsSendHistoryService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,14 +21,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ProductClickStatsScheduler {
 
-	private final ProductClickLogMapper logMapper;
+	private final ProductClickHourlyMapper hourlyMapper;
+	private final ProductClickRollup clickRollup;
+	private final ProductClickStatsService clickStatsService;
 	private final BankServerApiClient bankServerApiClient;
 	private final StatsSendHistoryService sendHistoryService;
 
 	/**
 	 * 매주 월요일 자정, 스케줄러 실행
+	 * 지난 전송 시각부터 지금(정각)까지의 시간대별 집계를 합산하여 전송합니다.
+	 * (집계 반영이 전송 실패와 함께 롤백되어 증가분을 잃지 않도록 트랜잭션으로 묶지 않음)
 	 */
-	@Transactional
 	@Scheduled(cron = "0 0 0 * * 1") // 월요일 자정
 	public void sendClickStats() {
 		LocalDateTime lastSentAt = sendHistoryService.findLastSentAt("CLICK");
@@ -34,21 +39,31 @@ public class ProductClickStatsScheduler {
 			lastSentAt = LocalDateTime.now().minusDays(1);
 		}
 
-		List<ProductClickStatsDto> stats = logMapper.selectClickStatsSince(lastSentAt);
+		// 메모리에 모인 클릭 수를 먼저 반영 (구간 끝을 정각으로 두어 다음 전송 구간과 겹치지 않음)
+		clickRollup.flush();
+		LocalDateTime toHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+		List<ProductClickStatsDto> stats = hourlyMapper.selectClickStatsBetween(
+			lastSentAt.truncatedTo(ChronoUnit.HOURS), toHour);
 
 		if (!stats.isEmpty()) {
 			bankServerApiClient.sendClickStats(stats);
-			sendHistoryService.insertSentAt("CLICK", LocalDateTime.now());
+			sendHistoryService.insertSentAt("CLICK", toHour);
 		}
 	}
 
 	/**
 	 * 매월 1일 자정, 스케줄러 실행
+	 * 한 달이 지난 원본 클릭 로그를 일정 건수씩 나누어 삭제합니다. (시간대별 집계는 유지)
 	 */
-	@Transactional
 	@Scheduled(cron = "0 0 0 1 * *") // 매월 1일 자정 실행
 	public void deleteOldLogs() {
 		LocalDateTime threshold = LocalDateTime.now().minusMonths(1);
-		logMapper.deleteClickLogsBefore(threshold);
+		long start = System.currentTimeMillis();
+		try {
+			int deleted = clickStatsService.deleteClickLogsBefore(threshold);
+			log.info("오래된 클릭 로그 정리 완료: {}건 삭제 ({}ms)", deleted, System.currentTimeMillis() - start);
+		} catch (RuntimeException e) {
+			log.error("오래된 클릭 로그 정리 중 오류가 발생했습니다. 다음 주기에 이어서 정리합니다.", e);
+		}
 	}
 }
@@ -0,0 +1,209 @@
+package org.scoula.statistics.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.scoula.statistics.domain.ProductClickLogVo;
+import org.scoula.statistics.mapper.ProductClickLogMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 클릭 로그 write-behind 버퍼
+ *
+ * - 요청 스레드는 고정 크기 링 버퍼에 이벤트를 넣기만 하고(CAS 한 번, 락 없음) 바로 반환합니다.
+ * - 전용 플러셔 스레드가 일정 주기(기본 500ms)마다, 또는 이벤트가 한 묶음(기본 200건) 쌓이면 깨어나
+ *   다중 행 INSERT 한 번으로 저장합니다.
+ * - 버퍼가 가득 차면 설정(click.log.overflow)에 따라 버리거나(DROP) 호출 스레드에서 바로 저장합니다(SYNC_INSERT).
+ * - 애플리케이션 종료 시 남은 이벤트를 모두 저장한 뒤 종료합니다.
+ * - 저장에 성공한 이벤트는 시간대별 클릭 집계(ProductClickRollup)에 반영합니다.
+ */
+@Slf4j
+@Component
+public class ClickLogWriteBuffer {
+
+	/** 버퍼가 가득 찼을 때의 동작 */
+	public enum OverflowPolicy {
+		/** 이벤트를 버리고 건수만 기록 */
+		DROP,
+		/** 호출 스레드에서 한 건을 바로 INSERT (이전 동작) */
+		SYNC_INSERT
+	}
+
+	private static final long SHUTDOWN_JOIN_MS = 5_000L;
+
+	private final ProductClickLogMapper logMapper;
+	private final ProductClickRollup clickRollup;
+	private final int capacity;
+	private final int mask;
+	private final int batchSize;
+	private final long flushIntervalNanos;
+	private final OverflowPolicy overflowPolicy;
+
+	/** 다중 생산자 / 단일 소비자 링 버퍼. 소비자가 꺼낸 칸은 null로 비움 */
+	private final AtomicReferenceArray<ProductClickLogVo> slots;
+	/** 다음에 쓸 위치 (생산자들이 CAS로 예약) */
+	private final AtomicLong tail = new AtomicLong();
+	/** 다음에 읽을 위치 (플러셔만 갱신) */
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+
+	private volatile boolean running;
+	private Thread flusher;
+
+	public ClickLogWriteBuffer(ProductClickLogMapper logMapper, ProductClickRollup clickRollup,
+		@Value("${click.log.buffer.capacity:8192}") int capacity,
+		@Value("${click.log.flush.batch.size:200}") int batchSize,
+		@Value("${click.log.flush.interval.ms:500}") long flushIntervalMs,
+		@Value("${click.log.overflow:DROP}") String overflowPolicy) {
+		this.logMapper = logMapper;
+		this.clickRollup = clickRollup;
+		// 인덱스 계산을 비트 마스크로 하기 위해 2의 거듭제곱으로 올림
+		this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		this.mask = this.capacity - 1;
+		this.batchSize = Math.max(1, Math.min(batchSize, this.capacity));
+		this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, flushIntervalMs));
+		this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase());
+		this.slots = new AtomicReferenceArray<>(this.capacity);
+	}
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		flusher = new Thread(this::runFlusher, "click-log-flusher");
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	/**
+	 * 버퍼에 남은 이벤트를 모두 저장하고 플러셔를 종료합니다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		LockSupport.unpark(flusher);
+		try {
+			flusher.join(SHUTDOWN_JOIN_MS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (flusher.isAlive()) {
+			log.warn("클릭 로그 플러셔가 {}ms 안에 종료되지 않았습니다. 남은 {}건은 저장되지 않을 수 있습니다.",
+				SHUTDOWN_JOIN_MS, size());
+		}
+	}
+
+	/**
+	 * 클릭 이벤트를 버퍼에 넣습니다. DB에 접근하지 않습니다. (버퍼가 가득 찬 SYNC_INSERT 정책 제외)
+	 *
+	 * @param clickLog 클릭 로그 (createdAt은 클릭 시각으로 채워져 있어야 함)
+	 */
+	public void offer(ProductClickLogVo clickLog) {
+		long t;
+		do {
+			t = tail.get();
+			if (t - head.get() >= capacity) {
+				onOverflow(clickLog);
+				return;
+			}
+		} while (!tail.compareAndSet(t, t + 1));
+		slots.set((int)(t & mask), clickLog);
+
+		// 한 묶음씩 찰 때마다 주기를 기다리지 않고 플러셔를 깨움
+		if ((t + 1 - head.get()) % batchSize == 0) {
+			LockSupport.unpark(flusher);
+		}
+	}
+
+	/**
+	 * 아직 저장되지 않은 이벤트 수 (근삿값)
+	 */
+	public long size() {
+		return Math.max(0L, tail.get() - head.get());
+	}
+
+	/**
+	 * 버퍼가 가득 차 버린 이벤트 누적 수
+	 */
+	public long droppedCount() {
+		return dropped.get();
+	}
+
+	private void onOverflow(ProductClickLogVo clickLog) {
+		if (overflowPolicy == OverflowPolicy.SYNC_INSERT) {
+			logMapper.insertClickLog(clickLog);
+			clickRollup.record(clickLog);
+			return;
+		}
+		long count = dropped.incrementAndGet();
+		// 로그 폭주를 막기 위해 1, 2, 4, 8...번째 유실 때만 경고
+		if (Long.bitCount(count) == 1) {
+			log.warn("클릭 로그 버퍼(용량 {})가 가득 차 이벤트를 버렸습니다. 누적 {}건", capacity, count);
+		}
+	}
+
+	private void runFlusher() {
+		List<ProductClickLogVo> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				// 한 묶음 미만이 남을 때까지 연달아 저장한 뒤 다음 주기까지 대기
+				while (drainTo(batch) == batchSize) {
+					flush(batch);
+				}
+				flush(batch);
+			} catch (RuntimeException e) {
+				log.error("클릭 로그 저장 루프에서 오류가 발생했습니다.", e);
+			}
+			LockSupport.parkNanos(this, flushIntervalNanos);
+		}
+		// 종료: 남은 이벤트를 모두 저장
+		while (drainTo(batch) > 0) {
+			flush(batch);
+		}
+	}
+
+	/**
+	 * 버퍼에서 최대 batchSize건을 꺼내 batch에 담습니다. (플러셔 스레드 전용)
+	 *
+	 * @return 꺼낸 건수
+	 */
+	private int drainTo(List<ProductClickLogVo> batch) {
+		long h = head.get();
+		while (batch.size() < batchSize) {
+			int index = (int)(h & mask);
+			ProductClickLogVo clickLog = slots.get(index);
+			if (clickLog == null) {
+				// 비었거나, 자리를 예약한 생산자가 아직 쓰는 중 → 다음 차례에 읽음
+				break;
+			}
+			slots.lazySet(index, null);
+			batch.add(clickLog);
+			h++;
+		}
+		head.lazySet(h);
+		return batch.size();
+	}
+
+	private void flush(List<ProductClickLogVo> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		try {
+			logMapper.insertClickLogs(batch);
+			clickRollup.recordAll(batch);
+		} catch (RuntimeException e) {
+			log.error("클릭 로그 {}건 저장에 실패하여 버립니다.", batch.size(), e);
+		} finally {
+			batch.clear();
+		}
+	}
+}
@@ -5,25 +5,28 @@ import java.util.List;
 
 import org.scoula.statistics.domain.ProductClickLogVo;
 import org.scoula.statistics.dto.ProductClickStatsDto;
-import org.scoula.statistics.mapper.ProductClickLogMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * 상품 클릭 로그 서비스 구현체
  *
- * - 상품 클릭 이벤트 기록
+ * - 상품 클릭 이벤트 기록 (write-behind 버퍼를 거쳐 묶음 단위로 저장)
  * - 클릭 수 집계 조회
  */
 @Service
 @RequiredArgsConstructor
 public class ProductClickLogServiceImpl implements ProductClickLogService {
 
-	private final ProductClickLogMapper logMapper;
+	private final ClickLogWriteBuffer clickLogWriteBuffer;
+	private final ProductClickStatsService clickStatsService;
 
 	/**
-	 * 상품 클릭 로그를 저장
+	 * 상품 클릭 로그를 버퍼에 넣습니다. (DB 저장은 백그라운드 플러셔가 담당)
+	 * 트랜잭션 안에서 호출되면 커밋된 뒤에 넣어, 롤백된 요청의 클릭은 기록하지 않습니다.
 	 *
 	 * @param finPrdtCd   클릭된 금융상품 코드
 	 * @param email       클릭한 사용자 이메일
@@ -31,21 +34,27 @@ public class ProductClickLogServiceImpl implements ProductClickLogService {
 	 */
 	@Override
 	public void saveClickLog(String finPrdtCd, String email, String triggeredBy) {
-		ProductClickLogVo log = new ProductClickLogVo();
-		log.setFinPrdtCd(finPrdtCd);
-		log.setEmail(email);
-		log.setTriggeredBy(triggeredBy);
-		logMapper.insertClickLog(log);
+		ProductClickLogVo log = new ProductClickLogVo(null, finPrdtCd, email, triggeredBy, LocalDateTime.now());
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			clickLogWriteBuffer.offer(log);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				clickLogWriteBuffer.offer(log);
+			}
+		});
 	}
 
 	/**
-	 * 특정 시점 이후 발생한 클릭 수 집계 조회
+	 * 특정 시점 이후 발생한 클릭 수 집계 조회 (시간대별 집계 테이블 기준)
 	 *
 	 * @param fromDate 조회 기준 날짜/시간
 	 * @return ProductClickStatsDto 리스트
 	 */
 	@Override
 	public List<ProductClickStatsDto> getClickStatsSince(LocalDateTime fromDate) {
-		return logMapper.selectClickStatsSince(fromDate);
+		return clickStatsService.getClickStatsSince(fromDate);
 	}
 }
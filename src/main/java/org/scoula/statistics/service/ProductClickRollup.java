@@ -0,0 +1,120 @@
+package org.scoula.statistics.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.scoula.statistics.domain.ProductClickHourlyVo;
+import org.scoula.statistics.domain.ProductClickLogVo;
+import org.scoula.statistics.mapper.ProductClickHourlyMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 클릭 수를 메모리에서 (시간대, 상품) 단위로 모았다가 시간대별 집계 테이블(product_click_hourly)에 누적 반영합니다.
+ *
+ * - 클릭 로그가 DB에 저장될 때(write-behind 플러시 성공 시) 카운터를 올리므로 원본 로그와 집계가 어긋나지 않습니다.
+ * - 주기적으로(기본 1분) 증가분만 upsert(click_count + n)하며, 반영에 실패한 증가분은 다음 주기에 다시 반영합니다.
+ * - 통계 조회는 집계 테이블만 읽으므로 원본 로그를 GROUP BY 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductClickRollup {
+
+	/** 이 시간(시간대 수)보다 오래된 빈 카운터는 정리 */
+	private static final long STALE_BUCKET_HOURS = 2;
+
+	private final ProductClickHourlyMapper hourlyMapper;
+	private final Map<Bucket, LongAdder> counters = new ConcurrentHashMap<>();
+
+	/**
+	 * 저장된 클릭 로그 묶음을 카운터에 반영합니다.
+	 */
+	public void recordAll(List<ProductClickLogVo> logs) {
+		for (ProductClickLogVo clickLog : logs) {
+			record(clickLog);
+		}
+	}
+
+	/**
+	 * 저장된 클릭 로그 한 건을 카운터에 반영합니다.
+	 */
+	public void record(ProductClickLogVo clickLog) {
+		LocalDateTime createdAt = clickLog.getCreatedAt() != null ? clickLog.getCreatedAt() : LocalDateTime.now();
+		counters.computeIfAbsent(new Bucket(createdAt.truncatedTo(ChronoUnit.HOURS), clickLog.getFinPrdtCd()),
+			key -> new LongAdder()).increment();
+	}
+
+	/**
+	 * 모인 증가분을 집계 테이블에 반영합니다. 통계를 조회하기 직전에도 호출하여 최신 클릭까지 포함시킵니다.
+	 */
+	@PreDestroy
+	@Scheduled(fixedDelayString = "${click.rollup.flush.ms:60000}",
+		initialDelayString = "${click.rollup.flush.ms:60000}")
+	public synchronized void flush() {
+		LocalDateTime staleBefore = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(STALE_BUCKET_HOURS);
+		List<ProductClickHourlyVo> increments = new ArrayList<>();
+		List<LongAdder> adders = new ArrayList<>();
+		for (Map.Entry<Bucket, LongAdder> entry : counters.entrySet()) {
+			Bucket bucket = entry.getKey();
+			long count = entry.getValue().sumThenReset();
+			if (count > 0) {
+				increments.add(new ProductClickHourlyVo(bucket.hour, bucket.finPrdtCd, count));
+				adders.add(entry.getValue());
+			} else if (bucket.hour.isBefore(staleBefore)) {
+				counters.remove(bucket, entry.getValue());
+			}
+		}
+		if (increments.isEmpty()) {
+			return;
+		}
+		try {
+			hourlyMapper.upsertHourlyCounts(increments);
+		} catch (RuntimeException e) {
+			// 반영하지 못한 증가분은 카운터에 되돌려 다음 주기에 다시 시도
+			for (int i = 0; i < increments.size(); i++) {
+				adders.get(i).add(increments.get(i).getClickCount());
+			}
+			log.error("시간대별 클릭 집계 {}건 반영에 실패했습니다. 다음 주기에 다시 시도합니다.", increments.size(), e);
+		}
+	}
+
+	/**
+	 * 카운터 키 (시간대 시작 시각(정각), 상품 코드)
+	 */
+	private static final class Bucket {
+		private final LocalDateTime hour;
+		private final String finPrdtCd;
+
+		private Bucket(LocalDateTime hour, String finPrdtCd) {
+			this.hour = hour;
+			this.finPrdtCd = finPrdtCd;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (!(o instanceof Bucket))
+				return false;
+			Bucket other = (Bucket)o;
+			return hour.equals(other.hour) && Objects.equals(finPrdtCd, other.finPrdtCd);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * hour.hashCode() + Objects.hashCode(finPrdtCd);
+		}
+	}
+}
@@ -22,17 +22,18 @@ public interface ProductClickStatsService {
 	void sendStatsToBank();
 
 	/**
-	 * 특정 시점 이후의 클릭 로그 통계 집계 데이터 조회
+	 * 특정 시점 이후의 클릭 로그 통계 집계 데이터 조회 (시간대별 집계 테이블 기준, 시간 단위)
 	 *
-	 * @param fromDate 조회 시작 시점 (포함)
+	 * @param fromDate 조회 시작 시점 (포함, 정각 단위로 내림)
 	 * @return ProductClickStatsDto 리스트
 	 */
 	List<ProductClickStatsDto> getClickStatsSince(LocalDateTime fromDate);
 
 	/**
-	 * 특정 시점 이전의 클릭 로그 삭제
+	 * 특정 시점 이전의 클릭 로그를 일정 건수씩 나누어 삭제
 	 *
 	 * @param toDate 삭제 기준 시점 (이전 데이터 모두 삭제)
+	 * @return 삭제된 로그 수
 	 */
-	void deleteClickLogsBefore(LocalDateTime toDate);
+	int deleteClickLogsBefore(LocalDateTime toDate);
 }
@@ -1,10 +1,13 @@
 package org.scoula.statistics.service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.scoula.statistics.dto.ProductClickStatsDto;
+import org.scoula.statistics.mapper.ProductClickHourlyMapper;
 import org.scoula.statistics.mapper.ProductClickLogMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -13,16 +16,21 @@ import lombok.RequiredArgsConstructor;
  * ProductClickStatsService 구현체
  *
  * - 클릭 로그 집계 및 은행 서버 전송
- * - 특정 시점 이후 통계 조회
- * - 이전 로그 삭제
+ * - 특정 시점 이후 통계 조회 (원본 로그 대신 시간대별 집계 테이블 사용)
+ * - 이전 로그 삭제 (LIMIT 단위로 나누어 삭제)
  */
 @Service
 @RequiredArgsConstructor
 public class ProductClickStatsServiceImpl implements ProductClickStatsService {
 
 	private final ProductClickLogMapper logMapper;
+	private final ProductClickHourlyMapper hourlyMapper;
+	private final ProductClickRollup clickRollup;
 	private final BankServerApiClient bankApiClient;
 
+	@Value("${click.log.purge.batch.size:1000}")
+	private int purgeBatchSize;
+
 	/**
 	 * 1일 전부터 현재까지 클릭 로그를 집계하여 은행 서버로 전송
 	 */
@@ -38,23 +46,34 @@ public class ProductClickStatsServiceImpl implements ProductClickStatsService {
 	}
 
 	/**
-	 * 특정 시점 이후 클릭 로그 통계 조회
+	 * 특정 시점 이후 클릭 통계 조회
+	 * 메모리에 모인 클릭 수를 먼저 반영한 뒤, 현재 시간대까지의 집계 테이블을 합산합니다.
 	 *
-	 * @param fromDate 조회 시작 시점 (포함)
+	 * @param fromDate 조회 시작 시점 (포함, 정각 단위로 내림)
 	 * @return ProductClickStatsDto 리스트
 	 */
 	@Override
 	public List<ProductClickStatsDto> getClickStatsSince(LocalDateTime fromDate) {
-		return logMapper.selectClickStatsSince(fromDate);
+		clickRollup.flush();
+		LocalDateTime toHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+		return hourlyMapper.selectClickStatsBetween(fromDate.truncatedTo(ChronoUnit.HOURS), toHour);
 	}
 
 	/**
-	 * 특정 시점 이전의 클릭 로그 삭제
+	 * 특정 시점 이전의 클릭 로그를 purgeBatchSize건씩 나누어 삭제
+	 * 각 묶음은 별도 문장(자동 커밋)으로 실행되어, 삭제 중에도 클릭 로그 INSERT가 오래 막히지 않습니다.
 	 *
 	 * @param toDate 삭제 기준 시점 (이전 데이터 모두 삭제)
+	 * @return 삭제된 로그 수
 	 */
 	@Override
-	public void deleteClickLogsBefore(LocalDateTime toDate) {
-		logMapper.deleteClickLogsBefore(toDate);
+	public int deleteClickLogsBefore(LocalDateTime toDate) {
+		int total = 0;
+		int deleted;
+		do {
+			deleted = logMapper.deleteClickLogsBeforeBatch(toDate, purgeBatchSize);
+			total += deleted;
+		} while (deleted == purgeBatchSize);
+		return total;
 	}
 }
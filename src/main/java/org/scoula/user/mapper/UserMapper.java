@@ -1,5 +1,7 @@
 package org.scoula.user.mapper;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.scoula.user.domain.UserVo;
@@ -61,17 +63,18 @@ public interface UserMapper {
 	int updateBranchId(@Param("email") String email, @Param("branchId") Integer branchId);
 
 	/**
-	 * 자산 정보가 있는 전체 사용자 수를 조회합니다.
-	 * @return 전체 사용자 수
+	 * 자산 정보가 있는 모든 사용자의 자산을 조회합니다. (자산 분포 인덱스 구성용)
+	 * @return 사용자별 자산 목록 (정렬되지 않음)
 	 */
-	long countAllUsersWithAsset();
+	List<Long> findAllAssets();
 
 	/**
-	 * 주어진 자산보다 더 많은 자산을 가진 사용자 수를 조회합니다.
-	 * @param asset 비교 기준이 되는 자산 금액
-	 * @return 기준보다 자산이 많은 사용자 수
+	 * 사용자의 현재 자산을 행 잠금(SELECT ... FOR UPDATE)과 함께 조회합니다.
+	 * 트랜잭션이 끝날 때까지 같은 사용자의 다른 변경을 막아, 변경 전 자산을 정확히 알기 위해 사용합니다.
+	 * @param email 조회할 사용자의 이메일
+	 * @return 현재 자산 (사용자가 없거나 자산 정보가 없으면 null)
 	 */
-	long countUsersWithMoreAsset(@Param("asset") Long asset);
+	Long findAssetByEmailForUpdate(@Param("email") String email);
 
 	/**
 	 * 특정 사용자의 포인트를 증가 또는 감소시킵니다.
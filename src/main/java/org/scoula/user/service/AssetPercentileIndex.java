@@ -0,0 +1,267 @@
+package org.scoula.user.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.scoula.user.mapper.UserMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 전체 사용자 자산 분포 인덱스 (마이페이지 자산 상위 백분위 계산용)
+ *
+ * - 자산이 있는 모든 사용자의 자산을 정렬된 long[] 스냅샷으로 들고 있다가, 순위는 이진 탐색으로 계산합니다.
+ *   조회 시 user 테이블 전체 COUNT를 실행하지 않습니다.
+ * - 사용자 자산이 바뀌면 커밋 후 변경분(추가/제거된 값)만 작은 정렬 배열에 반영하고, 변경분이 일정 건수(기본 1,024)를
+ *   넘으면 스냅샷에 병합합니다.
+ * - 주기적으로(기본 10분) DB에서 전체를 다시 읽어 스냅샷을 교체합니다. 다시 읽는 도중에 반영된 변경분은 기록해 두었다가
+ *   스냅샷을 교체할 때 새 스냅샷에 다시 적용합니다. 다시 읽기 직전에 커밋된 변경이 두 번 반영되는 드문 경우와
+ *   다른 서버 인스턴스에서 바뀐 자산은 다음 주기에 바로잡힙니다.
+ * - 상태는 불변 객체로 교체하므로 조회는 락 없이 이루어집니다.
+ */
+@Log4j2
+@Component
+public class AssetPercentileIndex {
+
+	private static final long[] EMPTY = new long[0];
+
+	private final UserMapper userMapper;
+	private final int mergeThreshold;
+
+	/** 전체 다시 읽기를 한 번에 하나만 실행하기 위한 락 (변경분 반영용 락인 this와 별개) */
+	private final Object refreshLock = new Object();
+
+	/** 아직 한 번도 읽지 않았으면 null */
+	private volatile State state;
+
+	/** 전체 다시 읽기 중에 반영된 변경분 (다시 읽는 중이 아니면 null, this로 보호) */
+	private List<Long[]> changesDuringRefresh;
+
+	public AssetPercentileIndex(UserMapper userMapper,
+		@Value("${asset.percentile.merge.threshold:1024}") int mergeThreshold) {
+		this.userMapper = userMapper;
+		this.mergeThreshold = mergeThreshold;
+	}
+
+	/**
+	 * 자산 정보가 있는 전체 사용자 수
+	 */
+	public long size() {
+		return current().size();
+	}
+
+	/**
+	 * 주어진 자산보다 자산이 많은 사용자 수
+	 *
+	 * @param asset 기준 자산
+	 * @return asset보다 자산이 많은 사용자 수
+	 */
+	public long countGreaterThan(long asset) {
+		return current().countGreaterThan(asset);
+	}
+
+	/**
+	 * 사용자 자산 변경을 반영합니다. 트랜잭션 안이면 커밋된 뒤에 반영합니다.
+	 *
+	 * @param previousAsset 변경 전 자산 (없었으면 null)
+	 * @param newAsset 변경 후 자산 (없어졌으면 null)
+	 */
+	public void onAssetChanged(Long previousAsset, Long newAsset) {
+		if (previousAsset == null ? newAsset == null : previousAsset.equals(newAsset)) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			apply(previousAsset, newAsset);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				apply(previousAsset, newAsset);
+			}
+		});
+	}
+
+	/**
+	 * DB에서 전체 사용자 자산을 다시 읽어 스냅샷을 교체합니다.
+	 */
+	@Scheduled(fixedDelayString = "${asset.percentile.refresh.ms:600000}",
+		initialDelayString = "${asset.percentile.refresh.ms:600000}")
+	public void refresh() {
+		synchronized (refreshLock) {
+			synchronized (this) {
+				changesDuringRefresh = new ArrayList<>();
+			}
+			long[] sorted;
+			try {
+				List<Long> assets = userMapper.findAllAssets();
+				sorted = new long[assets.size()];
+				for (int i = 0; i < sorted.length; i++) {
+					sorted[i] = assets.get(i);
+				}
+				Arrays.sort(sorted);
+			} catch (RuntimeException e) {
+				synchronized (this) {
+					changesDuringRefresh = null;
+				}
+				throw e;
+			}
+			synchronized (this) {
+				// 읽는 동안 반영된 변경분은 DB 결과에 빠졌을 수 있으므로 새 스냅샷에 다시 적용
+				State next = new State(sorted, EMPTY, EMPTY);
+				for (Long[] change : changesDuringRefresh) {
+					next = applied(next, change[0], change[1]);
+				}
+				changesDuringRefresh = null;
+				state = next;
+			}
+			log.debug("자산 분포 스냅샷을 갱신했습니다. ({}명)", sorted.length);
+		}
+	}
+
+	private State current() {
+		State current = state;
+		if (current == null) {
+			synchronized (refreshLock) {
+				if (state == null) {
+					refresh();
+				}
+				current = state;
+			}
+		}
+		return current;
+	}
+
+	private synchronized void apply(Long previousAsset, Long newAsset) {
+		if (changesDuringRefresh != null) {
+			changesDuringRefresh.add(new Long[] {previousAsset, newAsset});
+		}
+		State current = state;
+		if (current == null) {
+			// 아직 읽지 않았으면 처음 읽을 때 DB 값에 이미 반영되어 있음 (읽는 중이면 위에서 기록해 둔 값으로 반영)
+			return;
+		}
+		state = applied(current, previousAsset, newAsset);
+	}
+
+	/** current에 변경분 하나를 반영한 새 상태 (변경분이 많으면 기준 배열에 병합) */
+	private State applied(State current, Long previousAsset, Long newAsset) {
+		long[] added = current.added;
+		long[] removed = current.removed;
+		if (previousAsset != null) {
+			// 변경분에서 더해졌던 값이면 상쇄, 아니면 제거 목록에 추가
+			long[] cancelled = without(added, previousAsset);
+			if (cancelled != null) {
+				added = cancelled;
+			} else {
+				removed = with(removed, previousAsset);
+			}
+		}
+		if (newAsset != null) {
+			long[] cancelled = without(removed, newAsset);
+			if (cancelled != null) {
+				removed = cancelled;
+			} else {
+				added = with(added, newAsset);
+			}
+		}
+		State next = new State(current.base, added, removed);
+		return added.length + removed.length > mergeThreshold ? next.merged() : next;
+	}
+
+	/** 정렬을 유지하며 value를 추가한 새 배열 */
+	private static long[] with(long[] sorted, long value) {
+		int index = upperBound(sorted, value);
+		long[] result = new long[sorted.length + 1];
+		System.arraycopy(sorted, 0, result, 0, index);
+		result[index] = value;
+		System.arraycopy(sorted, index, result, index + 1, sorted.length - index);
+		return result;
+	}
+
+	/** value 하나를 뺀 새 배열, value가 없으면 null */
+	private static long[] without(long[] sorted, long value) {
+		int index = Arrays.binarySearch(sorted, value);
+		if (index < 0) {
+			return null;
+		}
+		long[] result = new long[sorted.length - 1];
+		System.arraycopy(sorted, 0, result, 0, index);
+		System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+		return result;
+	}
+
+	/** sorted에서 value보다 큰 첫 원소의 위치 */
+	private static int upperBound(long[] sorted, long value) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] <= value) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * 불변 스냅샷: 기준 배열과 그 이후 추가/제거된 값 (모두 오름차순)
+	 */
+	private static final class State {
+		private final long[] base;
+		private final long[] added;
+		private final long[] removed;
+
+		private State(long[] base, long[] added, long[] removed) {
+			this.base = base;
+			this.added = added;
+			this.removed = removed;
+		}
+
+		private long size() {
+			return (long)base.length + added.length - removed.length;
+		}
+
+		private long countGreaterThan(long value) {
+			return greater(base, value) + greater(added, value) - greater(removed, value);
+		}
+
+		private static long greater(long[] sorted, long value) {
+			return sorted.length - upperBound(sorted, value);
+		}
+
+		/** 변경분을 기준 배열에 병합한 새 상태 */
+		private State merged() {
+			long[] result = new long[base.length + added.length];
+			int b = 0;
+			int a = 0;
+			int r = 0;
+			int n = 0;
+			while (b < base.length || a < added.length) {
+				if (a < added.length && (b == base.length || added[a] < base[b])) {
+					result[n++] = added[a++];
+					continue;
+				}
+				long value = base[b++];
+				while (r < removed.length && removed[r] < value) {
+					// 기준 배열에 없는 값의 제거 (다른 경로의 변경 등) → 다음 전체 갱신에서 바로잡힘
+					r++;
+				}
+				if (r < removed.length && removed[r] == value) {
+					r++;
+					continue;
+				}
+				result[n++] = value;
+			}
+			return new State(Arrays.copyOf(result, n), EMPTY, EMPTY);
+		}
+	}
+}
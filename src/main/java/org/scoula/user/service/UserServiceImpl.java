@@ -9,10 +9,11 @@ import java.util.stream.Collectors;
 
 import org.scoula.asset.dto.AssetStatusSummaryDto;
 import org.scoula.asset.mapper.AssetStatusMapper;
-import org.scoula.auth.mapper.RefreshTokenMapper;
+import org.scoula.auth.service.RefreshTokenStore;
 import org.scoula.booking.domain.BookingVo;
 import org.scoula.booking.dto.BookingDto;
 import org.scoula.booking.mapper.BookingMapper;
+import org.scoula.booking.service.BookingSlotInventory;
 import org.scoula.branch.mapper.BranchMapper;
 import org.scoula.exception.BranchNotFoundException;
 import org.scoula.exception.UserNotFoundException;
@@ -46,6 +47,9 @@ import lombok.RequiredArgsConstructor;
  * 4. 마이페이지용 DTO 조립 (자산 현황, 예약 정보, 상위 백분위)
  * 5. 포인트 및 자산 증감 처리
  *
+ * 사용자 조회는 UserSnapshotCache를 거치므로 한 요청 안에서 같은 사용자를 DB에서 두 번 읽지 않으며,
+ * 사용자 정보를 변경하는 메서드는 모두 캐시를 무효화합니다.
+ *
  * 내부 헬퍼 메서드:
  * - calculateAssetPercentile: 특정 사용자의 자산 상위 백분위 계산
  */
@@ -54,12 +58,15 @@ import lombok.RequiredArgsConstructor;
 public class UserServiceImpl implements UserService, UserAssetUpdater {
 
 	private final UserMapper userMapper;
-	private final RefreshTokenMapper refreshTokenMapper;
+	private final UserSnapshotCache userSnapshotCache;
+	private final AssetPercentileIndex assetPercentileIndex;
+	private final RefreshTokenStore refreshTokenStore;
 	private final BookingMapper bookingMapper;
 	private final AssetStatusMapper assetStatusMapper;
 	private final CustomRecommendMapper customRecommendMapper;
 	private final RecipientMapper recipientMapper;
 	private final BranchMapper branchMapper;
+	private final BookingSlotInventory bookingSlotInventory;
 
 	/**
 	 * 이메일로 사용자를 조회합니다.
@@ -70,7 +77,7 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 	 */
 	@Override
 	public UserDto getUser(String email) {
-		UserVo userVO = Optional.ofNullable(userMapper.findByEmail(email))
+		UserVo userVO = Optional.ofNullable(userSnapshotCache.get(email))
 			.orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다: " + email));
 		return UserDto.of(userVO);
 	}
@@ -85,6 +92,7 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 	public void join(UserDto userDto) {
 		UserVo userVO = userDto.toVo();
 		userMapper.save(userVO);
+		assetPercentileIndex.onAssetChanged(null, userVO.getAsset());
 	}
 
 	/**
@@ -97,9 +105,12 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 	@Transactional
 	@Override
 	public void updateUser(String email, UserDto userDto) {
-		UserVo user = Optional.ofNullable(userMapper.findByEmail(email))
+		UserVo user = Optional.ofNullable(userSnapshotCache.get(email))
 			.orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다: " + email));
 
+		// 변경 전 자산은 캐시가 아닌 DB에서 행을 잠그고 읽음 (동시에 수정되어도 같은 값을 두 번 빼지 않도록)
+		Long previousAsset = userMapper.findAssetByEmailForUpdate(email);
+
 		// DTO의 정보로 기존 VO 객체의 상태를 업데이트
 		user.setUserName(userDto.getUserName());
 		user.setUserPhone(userDto.getUserPhone());
@@ -113,6 +124,8 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 		user.setAssetProportion(userDto.getAssetProportion());
 
 		userMapper.update(user);
+		userSnapshotCache.invalidate(email);
+		assetPercentileIndex.onAssetChanged(previousAsset, user.getAsset());
 	}
 
 	/**
@@ -125,7 +138,7 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 	@Override
 	public UserInfoResponseDto getUserInfo(String email) {
 		// 1. Mapper를 통해 DB에서 사용자 정보를 조회
-		UserVo userVo = Optional.ofNullable(userMapper.findByEmail(email))
+		UserVo userVo = Optional.ofNullable(userSnapshotCache.get(email))
 			.orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
 		// 2. 조회된 UserVo 객체를 DTO로 변환하여 반환
@@ -143,7 +156,7 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 	@Override
 	public void updateUserInfo(String email, UserInfoUpdateRequestDto requestDto) {
 		// 1. 수정 요청을 한 사용자가 DB에 존재하는지 확인
-		UserVo user = Optional.ofNullable(userMapper.findByEmail(email))
+		UserVo user = Optional.ofNullable(userSnapshotCache.get(email))
 			.orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
 		// 2. DTO의 데이터로 기존 UserVo 객체의 필드를 업데이트
@@ -153,6 +166,7 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 
 		// 3. Mapper를 호출하여 DB에 변경사항 저장
 		userMapper.updateUserInfo(user);
+		userSnapshotCache.invalidate(email);
 	}
 
 	/**
@@ -165,6 +179,7 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 	@Override
 	public void updateConnectedId(String email, String connectedId) {
 		userMapper.updateConnectedId(email, connectedId);
+		userSnapshotCache.invalidate(email);
 	}
 
 	/**
@@ -178,7 +193,7 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 	@Override
 	public UserBranchNameDto getBranchInfo(String email) {
 		// 1. UserMapper를 통해 사용자 정보를 먼저 조회합니다.
-		UserVo user = userMapper.findByEmail(email);
+		UserVo user = userSnapshotCache.get(email);
 		if (user == null) {
 			throw new UserNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email);
 		}
@@ -224,6 +239,7 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 
 		// 3. 유효성 검사를 통과하면 업데이트 수행
 		userMapper.updateBranchId(email, branchId);
+		userSnapshotCache.invalidate(email);
 	}
 
 	/**
@@ -236,17 +252,28 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 	@Transactional
 	@Override
 	public void withdrawUser(String email) {
+		// 탈퇴 전 자산은 행을 잠그고 읽음 (동시에 진행 중인 자산 변경과 겹치지 않도록)
+		Long previousAsset = userMapper.findAssetByEmailForUpdate(email);
 		// 사용자와 관련된 모든 데이터를 순서대로 삭제
-		refreshTokenMapper.deleteByEmail(email);
+		refreshTokenStore.delete(email);
+		// 삭제할 예약의 슬롯은 탈퇴가 커밋된 뒤 예약 슬롯 인벤토리에 반납
+		for (BookingVo booking : bookingMapper.findUpcomingByUserEmail(email)) {
+			if (booking.getDate() != null) {
+				bookingSlotInventory.releaseAfterCommit(booking.getBranchId(),
+					BookingSlotInventory.toLocalDate(booking.getDate()), booking.getTime());
+			}
+		}
 		bookingMapper.deleteByEmail(email);
 		assetStatusMapper.deleteByEmail(email);
 		customRecommendMapper.deleteAllProductsByEmail(email);
 		recipientMapper.deleteByEmail(email);
 
 		int affectedRows = userMapper.deleteByEmail(email);
+		userSnapshotCache.invalidate(email);
 		if (affectedRows == 0) { // 삭제된 사용자가 없으면 예외 발생
 			throw new UserNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email);
 		}
+		assetPercentileIndex.onAssetChanged(previousAsset, null);
 	}
 
 	/**
@@ -261,7 +288,7 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 	@Override
 	public MyPageResponseDto getMyPageData(String email) {
 		// 1. 사용자 정보 조회
-		UserVo userVo = Optional.ofNullable(userMapper.findByEmail(email))
+		UserVo userVo = Optional.ofNullable(userSnapshotCache.get(email))
 			.orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다: " + email));
 
 		// 2. 자산 현황 요약 목록 조회
@@ -301,6 +328,7 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 	@Override
 	public void addPoint(String email, int delta) {
 		userMapper.addPoint(email, delta);
+		userSnapshotCache.invalidate(email);
 	}
 
 	/**
@@ -315,16 +343,16 @@ public class UserServiceImpl implements UserService, UserAssetUpdater {
 			return null;
 		}
 
-		// 자산 정보가 있는 전체 사용자 수 조회
-		long totalUsers = userMapper.countAllUsersWithAsset();
+		// 자산 정보가 있는 전체 사용자 수 조회 (자산 분포 인덱스, DB 집계 없음)
+		long totalUsers = assetPercentileIndex.size();
 
 		// 비교 대상 사용자가 1명 이하면 백분위 의미 없음
 		if (totalUsers <= 1) {
 			return 100.0; // 혼자일 경우 상위 100%로 표시
 		}
 
-		// 나보다 자산이 많은 사용자 수 조회
-		long usersWithMoreAsset = userMapper.countUsersWithMoreAsset(myAsset);
+		// 나보다 자산이 많은 사용자 수 조회 (이진 탐색)
+		long usersWithMoreAsset = assetPercentileIndex.countGreaterThan(myAsset);
 
 		// 상위 백분위 계산: (나의 등수 / 전체 인원) * 100
 		double myRank = (double)(usersWithMoreAsset + 1);
@@ -0,0 +1,192 @@
+package org.scoula.user.service;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.scoula.user.domain.UserVo;
+import org.scoula.user.mapper.UserMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 사용자 행(user 테이블) 스냅샷 캐시
+ *
+ * - 요청 단위: 한 HTTP 요청 안에서 같은 사용자를 여러 번 조회해도 findByEmail은 한 번만 실행합니다.
+ * - 요청 간: 최근 조회한 사용자를 TTL(기본 30초) 동안 메모리에 두어 자주 조회되는 사용자는 DB를 거치지 않습니다.
+ *   최대 건수(기본 10,000)에 도달하면 만료된 항목을 정리하고, 그래도 가득 차 있으면 새 사용자는 캐시하지 않습니다.
+ * - 사용자 정보를 변경하는 경로는 반드시 invalidate를 호출해야 하며, 트랜잭션 안이면 트랜잭션이 끝난 뒤에 한 번 더 비웁니다.
+ * - 진행 중인 트랜잭션 안에서 읽은 값은 요청 단위 스냅샷에만 두고 요청 간 캐시에는 넣지 않습니다.
+ * - 반환값은 항상 복사본이므로 호출 측에서 수정해도 캐시에 영향이 없습니다.
+ * - 요청 간 캐시는 이 서버 인스턴스 기준입니다. 다른 인스턴스의 변경은 TTL이 지나야 반영됩니다.
+ */
+@Log4j2
+@Component
+public class UserSnapshotCache {
+
+	private static final String REQUEST_ATTRIBUTE = UserSnapshotCache.class.getName() + ".SNAPSHOTS";
+
+	private final UserMapper userMapper;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	/** 무효화가 일어날 때마다 증가. 조회 도중 무효화된 값을 캐시에 다시 넣지 않기 위해 사용 */
+	private final AtomicLong generation = new AtomicLong();
+	private final int maxSize;
+	private final long ttlMillis;
+
+	public UserSnapshotCache(UserMapper userMapper,
+		@Value("${user.cache.max.size:10000}") int maxSize,
+		@Value("${user.cache.ttl.ms:30000}") long ttlMillis) {
+		this.userMapper = userMapper;
+		this.maxSize = maxSize;
+		this.ttlMillis = ttlMillis;
+	}
+
+	/**
+	 * 사용자 스냅샷을 조회합니다. 요청 단위 스냅샷 → 요청 간 캐시 → DB 순서로 찾습니다.
+	 *
+	 * @param email 사용자 이메일
+	 * @return 사용자 정보 복사본, 없으면 null
+	 */
+	public UserVo get(String email) {
+		Map<String, UserVo> requestSnapshots = requestSnapshots();
+		if (requestSnapshots != null) {
+			UserVo snapshot = requestSnapshots.get(email);
+			if (snapshot != null) {
+				return copyOf(snapshot);
+			}
+		}
+
+		UserVo snapshot = getShared(email);
+		if (snapshot == null) {
+			snapshot = load(email);
+			if (snapshot == null) {
+				return null;
+			}
+		}
+		if (requestSnapshots != null) {
+			requestSnapshots.put(email, snapshot);
+		}
+		return copyOf(snapshot);
+	}
+
+	/**
+	 * 사용자 스냅샷을 버립니다. 사용자 정보를 변경(수정, 포인트 증감, 탈퇴 등)한 뒤 호출합니다.
+	 *
+	 * @param email 사용자 이메일
+	 */
+	public void invalidate(String email) {
+		evict(email);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			// 커밋 전에 다른 요청이 변경 전 값을 다시 읽어 넣었을 수 있으므로, 롤백이어도 요청 스냅샷은 다시 읽도록 완료 후에도 비움
+			Map<String, UserVo> requestSnapshots = requestSnapshots();
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					generation.incrementAndGet();
+					entries.remove(email);
+					if (requestSnapshots != null) {
+						requestSnapshots.remove(email);
+					}
+				}
+			});
+		}
+	}
+
+	private void evict(String email) {
+		generation.incrementAndGet();
+		entries.remove(email);
+		Map<String, UserVo> requestSnapshots = requestSnapshots();
+		if (requestSnapshots != null) {
+			requestSnapshots.remove(email);
+		}
+	}
+
+	private UserVo getShared(String email) {
+		Entry entry = entries.get(email);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+			entries.remove(email, entry);
+			return null;
+		}
+		return entry.user;
+	}
+
+	private UserVo load(String email) {
+		long loadGeneration = generation.get();
+		UserVo user = userMapper.findByEmail(email);
+		if (user == null) {
+			return null;
+		}
+		UserVo snapshot = copyOf(user);
+		if (!TransactionSynchronizationManager.isActualTransactionActive() && generation.get() == loadGeneration
+			&& hasRoomFor(email)) {
+			entries.put(email, new Entry(snapshot, System.currentTimeMillis() + ttlMillis));
+		}
+		return snapshot;
+	}
+
+	private boolean hasRoomFor(String email) {
+		if (entries.size() < maxSize || entries.containsKey(email)) {
+			return true;
+		}
+		long now = System.currentTimeMillis();
+		entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+		if (entries.size() >= maxSize) {
+			log.debug("사용자 캐시가 가득 찼습니다. (최대 {}건) {}는 캐시하지 않습니다.", maxSize, email);
+			return false;
+		}
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, UserVo> requestSnapshots() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return null;
+		}
+		Map<String, UserVo> snapshots = (Map<String, UserVo>)attributes.getAttribute(REQUEST_ATTRIBUTE,
+			RequestAttributes.SCOPE_REQUEST);
+		if (snapshots == null) {
+			snapshots = new HashMap<>();
+			attributes.setAttribute(REQUEST_ATTRIBUTE, snapshots, RequestAttributes.SCOPE_REQUEST);
+		}
+		return snapshots;
+	}
+
+	private static UserVo copyOf(UserVo user) {
+		return UserVo.builder()
+			.email(user.getEmail())
+			.userName(user.getUserName())
+			.userPhone(user.getUserPhone())
+			.birth(user.getBirth() == null ? null : new Date(user.getBirth().getTime()))
+			.connectedId(user.getConnectedId())
+			.branchId(user.getBranchId())
+			.asset(user.getAsset())
+			.filename1(user.getFilename1())
+			.filename2(user.getFilename2())
+			.tendency(user.getTendency())
+			.assetProportion(user.getAssetProportion())
+			.point(user.getPoint())
+			.build();
+	}
+
+	private static final class Entry {
+		private final UserVo user;
+		private final long expiresAtMillis;
+
+		private Entry(UserVo user, long expiresAtMillis) {
+			this.user = user;
+			this.expiresAtMillis = expiresAtMillis;
+		}
+	}
+}
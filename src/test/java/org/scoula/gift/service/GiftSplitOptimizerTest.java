@@ -0,0 +1,81 @@
+package org.scoula.gift.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GiftSplitOptimizerTest {
+
+	private final GiftSplitOptimizer optimizer = new GiftSplitOptimizer();
+
+	@AfterEach
+	void tearDown() {
+		optimizer.shutdown();
+	}
+
+	@Test
+	@DisplayName("수증자가 한 명이면 전액을 주는 분배안 하나만 반환")
+	void singleRecipient() {
+		GiftSplitOptimizer.Result result = optimizer.optimize(new long[] {0}, new long[] {50_000_000L},
+			new boolean[] {false}, 200_000_000L, 1_000_000L, 5, 500);
+
+		assertEquals(1, result.getPlans().size());
+		GiftSplitOptimizer.Plan plan = result.getPlans().get(0);
+		assertArrayEquals(new long[] {200_000_000L}, plan.getAmounts());
+		assertEquals(GiftTaxRules.taxForCurrentGift(200_000_000L, 0, 50_000_000L, false), plan.getTotalTax());
+		assertTrue(result.isCompleted());
+	}
+
+	@Test
+	@DisplayName("수증자가 한 명이면 단위로 나누어 떨어지지 않는 나머지도 그 수증자에게 감")
+	void singleRecipientWithRemainder() {
+		GiftSplitOptimizer.Result result = optimizer.optimize(new long[] {0}, new long[] {20_000_000L},
+			new boolean[] {true}, 10_500_000L, 1_000_000L, 3, 500);
+
+		assertEquals(1, result.getPlans().size());
+		assertArrayEquals(new long[] {10_500_000L}, result.getPlans().get(0).getAmounts());
+	}
+
+	@Test
+	@DisplayName("여러 수증자의 최저 세액 분배안은 전수 조사 결과와 같고 세액 오름차순으로 반환")
+	void multipleRecipientsMatchBruteForce() {
+		long[] prior = {0, 30_000_000L, 0};
+		long[] deduction = {50_000_000L, 50_000_000L, 600_000_000L};
+		boolean[] grandchild = {false, true, false};
+		long step = 10_000_000L;
+		long total = 1_200_000_000L;
+		int units = (int)(total / step);
+
+		GiftSplitOptimizer.Result result = optimizer.optimize(prior, deduction, grandchild, total, step, 5, 5_000);
+
+		long bruteForceMin = Long.MAX_VALUE;
+		for (int a = 0; a <= units; a++) {
+			for (int b = 0; a + b <= units; b++) {
+				int c = units - a - b;
+				long tax = GiftTaxRules.taxForCurrentGift(a * step, prior[0], deduction[0], grandchild[0])
+					+ GiftTaxRules.taxForCurrentGift(b * step, prior[1], deduction[1], grandchild[1])
+					+ GiftTaxRules.taxForCurrentGift(c * step, prior[2], deduction[2], grandchild[2]);
+				bruteForceMin = Math.min(bruteForceMin, tax);
+			}
+		}
+
+		List<GiftSplitOptimizer.Plan> plans = result.getPlans();
+		assertEquals(5, plans.size());
+		assertEquals(bruteForceMin, plans.get(0).getTotalTax());
+		for (int i = 0; i < plans.size(); i++) {
+			long sum = 0;
+			for (long amount : plans.get(i).getAmounts()) {
+				sum += amount;
+			}
+			assertEquals(total, sum);
+			if (i > 0) {
+				assertTrue(plans.get(i - 1).getTotalTax() <= plans.get(i).getTotalTax());
+			}
+		}
+		assertTrue(result.isCompleted());
+	}
+}